@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# Cold-start benchmark: time from launching the backend to its first successful
+# GET /public/teams, which is what a visitor waits for after Render wakes the instance.
+#
+# usage: scripts/startup-benchmark.sh <command that starts the app...>
+#   RUNS=5 PORT=8080 scripts/startup-benchmark.sh java -jar target/basketball-backend-0.0.1-SNAPSHOT.jar
+#   RUNS=5 scripts/startup-benchmark.sh docker run --rm -p 8080:8080 --env-file prod.env basketball-backend
+#
+# The app needs its usual environment (SPRING_PROFILES_ACTIVE, DB_*, APP_*, ...) and a
+# reachable database. Each run is stopped before the next one starts.
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+URL="http://localhost:${PORT}/public/teams"
+
+if [ "$#" -eq 0 ]; then
+    sed -n '2,10p' "$0"
+    exit 2
+fi
+
+if curl -s -o /dev/null "$URL"; then
+    echo "something is already listening on port ${PORT}; stop it first" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+results=()
+for run in $(seq "$RUNS"); do
+    start=$(now_ms)
+    "$@" > "/tmp/startup-benchmark-${run}.log" 2>&1 &
+    pid=$!
+
+    elapsed=""
+    while [ $(( $(now_ms) - start )) -lt $(( TIMEOUT_SECONDS * 1000 )) ]; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        if [ "$(curl -s -o /dev/null -w '%{http_code}' "$URL")" = "200" ]; then
+            elapsed=$(( $(now_ms) - start ))
+            break
+        fi
+        sleep 0.05
+    done
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    if [ -z "$elapsed" ]; then
+        echo "run ${run}: no 200 from ${URL}, see /tmp/startup-benchmark-${run}.log" >&2
+        exit 1
+    fi
+    echo "run ${run}: ${elapsed} ms"
+    results+=("$elapsed")
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+echo "time-to-first-request ${URL}: min ${sorted[0]} ms, median ${sorted[$(( RUNS / 2 ))]} ms, max ${sorted[$(( RUNS - 1 ))]} ms"
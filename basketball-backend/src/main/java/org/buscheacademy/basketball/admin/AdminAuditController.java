@@ -0,0 +1,34 @@
+package org.buscheacademy.basketball.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.audit.AuditEntityType;
+import org.buscheacademy.basketball.audit.AuditService;
+import org.buscheacademy.basketball.dto.AuditEventDto;
+import org.buscheacademy.basketball.dto.CursorPage;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/audit")
+@RequiredArgsConstructor
+public class AdminAuditController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AuditService auditService;
+
+    // Newest first; pass the previous page's nextCursor to continue
+    @GetMapping
+    public ResponseEntity<CursorPage<AuditEventDto>> listAuditEvents(
+            @RequestParam(required = false) AuditEntityType entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(auditService.getPage(entityType, entityId, actor, cursor, pageSize));
+    }
+}
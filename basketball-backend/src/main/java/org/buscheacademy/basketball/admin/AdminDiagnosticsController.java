@@ -0,0 +1,40 @@
+package org.buscheacademy.basketball.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.diagnostics.QueryDiagnosticsService;
+import org.buscheacademy.basketball.dto.QueryDiagnosticsDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/admin/diagnostics")
+@RequiredArgsConstructor
+public class AdminDiagnosticsController {
+
+    private final QueryDiagnosticsService queryDiagnostics;
+
+    @GetMapping("/queries")
+    public ResponseEntity<QueryDiagnosticsDto> getQueryStats() {
+        return ResponseEntity.ok(queryDiagnosticsService().getSnapshot());
+    }
+
+    // Starts a fresh measurement window
+    @DeleteMapping("/queries")
+    public ResponseEntity<Void> resetQueryStats() {
+        queryDiagnosticsService().reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    private QueryDiagnosticsService queryDiagnosticsService() {
+        // Off unless app.diagnostics.queries.enabled=true
+        if (!queryDiagnostics.isEnabled()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Query diagnostics are disabled");
+        }
+        return queryDiagnostics;
+    }
+}
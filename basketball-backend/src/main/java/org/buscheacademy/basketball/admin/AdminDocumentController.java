@@ -1,8 +1,12 @@
 package org.buscheacademy.basketball.admin;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.buscheacademy.basketball.document.DocumentStorageService;
 import org.buscheacademy.basketball.document.SiteDocumentService;
+import org.buscheacademy.basketball.dto.CompleteUploadRequest;
+import org.buscheacademy.basketball.dto.PresignUploadRequest;
+import org.buscheacademy.basketball.dto.PresignedUploadResponse;
 import org.buscheacademy.basketball.dto.SiteDocumentDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -43,6 +47,24 @@ public class AdminDocumentController {
         return ResponseEntity.ok(dto);
     }
 
+    @PostMapping("/{key}/upload-url")
+    public ResponseEntity<PresignedUploadResponse> createUploadUrl(
+            @PathVariable String key,
+            @RequestBody @Valid PresignUploadRequest request) {
+        validateKey(key);
+        return ResponseEntity.ok(storageService.createDocumentUploadUrl(request));
+    }
+
+    @PostMapping("/{key}/complete")
+    public ResponseEntity<SiteDocumentDto> completeUpload(
+            @PathVariable String key,
+            @RequestBody @Valid CompleteUploadRequest request) {
+        validateKey(key);
+        String url = storageService.completeDocumentUpload(request.objectKey());
+        SiteDocumentDto dto = documentService.toDto(documentService.upsert(key, url));
+        return ResponseEntity.ok(dto);
+    }
+
     @DeleteMapping("/{key}")
     public ResponseEntity<Void> delete(@PathVariable String key) {
         validateKey(key);
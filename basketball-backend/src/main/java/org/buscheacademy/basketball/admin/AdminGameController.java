@@ -2,12 +2,24 @@ package org.buscheacademy.basketball.admin;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.BoxScoreDto;
 import org.buscheacademy.basketball.dto.CreateOrUpdateGameRequest;
 import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.RecordPlaysRequest;
+import org.buscheacademy.basketball.dto.ScheduleImportResultDto;
+import org.buscheacademy.basketball.dto.UpdateGameScoreRequest;
 import org.buscheacademy.basketball.game.GameService;
+import org.buscheacademy.basketball.game.ScheduleImportService;
+import org.buscheacademy.basketball.playbyplay.BoxScoreService;
+import org.buscheacademy.basketball.playbyplay.PlayByPlayService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,6 +28,9 @@ import java.util.List;
 public class AdminGameController {
 
     private final GameService gameService;
+    private final PlayByPlayService playByPlayService;
+    private final BoxScoreService boxScoreService;
+    private final ScheduleImportService scheduleImportService;
 
     @GetMapping
     public ResponseEntity<List<GameDto>> listAllGames() {
@@ -27,12 +42,61 @@ public class AdminGameController {
         return ResponseEntity.ok(gameService.createGame(request));
     }
 
+    // Schedule from a CSV or .ics: preview first, then send the same file with the preview's planId
+    @PostMapping("/import/preview")
+    public ResponseEntity<ScheduleImportResultDto> previewImport(@RequestParam(required = false) Long teamId,
+                                                                 @RequestParam("file") MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(scheduleImportService.preview(teamId, file.getOriginalFilename(), in));
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read upload", ex);
+        }
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ScheduleImportResultDto> applyImport(@RequestParam(required = false) Long teamId,
+                                                               @RequestParam String planId,
+                                                               @RequestParam("file") MultipartFile file) {
+        ScheduleImportResultDto result;
+        try (InputStream in = file.getInputStream()) {
+            result = scheduleImportService.apply(teamId, file.getOriginalFilename(), in, planId);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read upload", ex);
+        }
+        return result.applied()
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.badRequest().body(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<GameDto> updateGame(@PathVariable Long id,
                                               @RequestBody @Valid CreateOrUpdateGameRequest request) {
         return ResponseEntity.ok(gameService.updateGame(id, request));
     }
 
+    // Scorekeeper path: only the two score columns change
+    @PatchMapping("/{id}/score")
+    public ResponseEntity<GameDto> updateScore(@PathVariable Long id,
+                                               @RequestBody @Valid UpdateGameScoreRequest request) {
+        return ResponseEntity.ok(gameService.updateScore(id, request));
+    }
+
+    // ---------- Play-by-play ----------
+
+    // Idempotent per (game, sequence): a re-sent batch only adds the plays not yet stored
+    @PostMapping("/{id}/plays")
+    public ResponseEntity<BoxScoreDto> recordPlays(@PathVariable Long id,
+                                                   @RequestBody @Valid RecordPlaysRequest request) {
+        playByPlayService.recordPlays(id, request.plays());
+        return ResponseEntity.ok(boxScoreService.getBoxScore(id));
+    }
+
+    @PostMapping("/{id}/box-score/rebuild")
+    public ResponseEntity<BoxScoreDto> rebuildBoxScore(@PathVariable Long id) {
+        playByPlayService.syncScore(id);
+        return ResponseEntity.ok(boxScoreService.rebuild(id));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteGame(@PathVariable Long id) {
         gameService.deleteGame(id);
@@ -0,0 +1,52 @@
+package org.buscheacademy.basketball.admin;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.CreateOrUpdateOpponentRequest;
+import org.buscheacademy.basketball.dto.OpponentDto;
+import org.buscheacademy.basketball.opponent.OpponentService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/opponents")
+public class AdminOpponentController {
+
+    private final OpponentService opponentService;
+
+    @GetMapping
+    public ResponseEntity<List<OpponentDto>> listOpponents() {
+        return ResponseEntity.ok(opponentService.getAll());
+    }
+
+    @PostMapping
+    public ResponseEntity<OpponentDto> createOpponent(
+            @Valid @RequestBody CreateOrUpdateOpponentRequest request
+    ) {
+        OpponentDto created = opponentService.create(request);
+        return ResponseEntity
+                .created(URI.create("/admin/opponents/" + created.id()))
+                .body(created);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<OpponentDto> updateOpponent(
+            @PathVariable Long id,
+            @Valid @RequestBody CreateOrUpdateOpponentRequest request
+    ) {
+        return ResponseEntity.ok(opponentService.update(id, request));
+    }
+
+    // Folds opponent {sourceId} into {id}; the source's names become aliases
+    @PostMapping("/{id}/merge/{sourceId}")
+    public ResponseEntity<OpponentDto> mergeOpponent(
+            @PathVariable Long id,
+            @PathVariable Long sourceId
+    ) {
+        return ResponseEntity.ok(opponentService.merge(id, sourceId));
+    }
+}
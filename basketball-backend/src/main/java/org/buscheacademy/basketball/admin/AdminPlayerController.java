@@ -2,14 +2,24 @@ package org.buscheacademy.basketball.admin;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.CompleteUploadRequest;
 import org.buscheacademy.basketball.dto.CreateOrUpdatePlayerRequest;
 import org.buscheacademy.basketball.dto.PlayerDto;
+import org.buscheacademy.basketball.dto.PresignUploadRequest;
+import org.buscheacademy.basketball.dto.PresignedUploadResponse;
+import org.buscheacademy.basketball.dto.RosterImportResultDto;
 import org.buscheacademy.basketball.player.PlayerImageStorageService;
 import org.buscheacademy.basketball.player.PlayerService;
+import org.buscheacademy.basketball.player.RosterImportService;
+import org.buscheacademy.basketball.season.Seasons;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -19,10 +29,15 @@ public class AdminPlayerController {
 
     private final PlayerService playerService;
     private final PlayerImageStorageService playerImageStorageService;
+    private final RosterImportService rosterImportService;
 
+    // The team's latest roster (see PlayerService.getRosterSeason) unless ?season= names one
     @GetMapping("/team/{teamId}")
-    public ResponseEntity<List<PlayerDto>> listPlayersByTeam(@PathVariable Long teamId) {
-        return ResponseEntity.ok(playerService.getPlayersByTeam(teamId));
+    public ResponseEntity<List<PlayerDto>> listPlayersByTeam(@PathVariable Long teamId,
+                                                             @RequestParam(required = false) String season) {
+        String resolved = season != null ? season : playerService.getRosterSeason(teamId);
+        Seasons.startYear(resolved);
+        return ResponseEntity.ok(playerService.getPlayersByTeam(teamId, resolved));
     }
 
     @PostMapping
@@ -42,6 +57,22 @@ public class AdminPlayerController {
         return ResponseEntity.noContent().build();
     }
 
+    // Whole roster from a CSV; all rows are checked first and nothing is written if any fail
+    @PostMapping("/import")
+    public ResponseEntity<RosterImportResultDto> importRoster(@RequestParam Long teamId,
+                                                              @RequestParam(required = false) String season,
+                                                              @RequestParam("file") MultipartFile file) {
+        RosterImportResultDto result;
+        try (InputStream in = file.getInputStream()) {
+            result = rosterImportService.importRoster(teamId, season, in);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read upload", ex);
+        }
+        return result.errors().isEmpty()
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.badRequest().body(result);
+    }
+
     // --- NEW: upload player photo ---
     @PostMapping("/photo")
     public ResponseEntity<PlayerPhotoUploadResponse> uploadPlayerPhoto(
@@ -51,5 +82,19 @@ public class AdminPlayerController {
         return ResponseEntity.ok(new PlayerPhotoUploadResponse(url));
     }
 
+    // --- Direct-to-S3 photo upload: presign, PUT from the browser, then complete ---
+    @PostMapping("/photo/upload-url")
+    public ResponseEntity<PresignedUploadResponse> createPlayerPhotoUploadUrl(
+            @RequestBody @Valid PresignUploadRequest request) {
+        return ResponseEntity.ok(playerImageStorageService.createPhotoUploadUrl(request));
+    }
+
+    @PostMapping("/photo/complete")
+    public ResponseEntity<PlayerPhotoUploadResponse> completePlayerPhotoUpload(
+            @RequestBody @Valid CompleteUploadRequest request) {
+        String url = playerImageStorageService.completePhotoUpload(request.objectKey());
+        return ResponseEntity.ok(new PlayerPhotoUploadResponse(url));
+    }
+
     public record PlayerPhotoUploadResponse(String url) { }
 }
@@ -0,0 +1,29 @@
+package org.buscheacademy.basketball.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.SeasonDto;
+import org.buscheacademy.basketball.dto.SeasonSnapshotDto;
+import org.buscheacademy.basketball.season.SeasonService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/seasons")
+public class AdminSeasonController {
+
+    private final SeasonService seasonService;
+
+    @GetMapping
+    public ResponseEntity<List<SeasonDto>> listSeasons() {
+        return ResponseEntity.ok(seasonService.getSeasons());
+    }
+
+    // Freezes a finished season; its games and rosters become read-only
+    @PostMapping("/{season}/close")
+    public ResponseEntity<SeasonSnapshotDto> closeSeason(@PathVariable String season) {
+        return ResponseEntity.ok(seasonService.closeSeason(season));
+    }
+}
@@ -2,8 +2,12 @@ package org.buscheacademy.basketball.admin;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.CompleteUploadRequest;
 import org.buscheacademy.basketball.dto.CreateOrUpdateStaffMemberRequest;
+import org.buscheacademy.basketball.dto.CursorPage;
 import org.buscheacademy.basketball.dto.PhotoUploadResponse;
+import org.buscheacademy.basketball.dto.PresignUploadRequest;
+import org.buscheacademy.basketball.dto.PresignedUploadResponse;
 import org.buscheacademy.basketball.dto.StaffMemberDto;
 import org.buscheacademy.basketball.staff.StaffMemberService;
 import org.buscheacademy.basketball.staff.StaffPhotoStorageService;
@@ -26,6 +30,14 @@ public class AdminStaffController {
         return ResponseEntity.ok(staffMemberService.getAllStaff());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<StaffMemberDto>> listStaffPage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(staffMemberService.getStaffPage(cursor, Math.max(1, Math.min(size, 200))));
+    }
+
     @PostMapping
     public ResponseEntity<StaffMemberDto> createStaff(
             @RequestBody @Valid CreateOrUpdateStaffMemberRequest request) {
@@ -52,4 +64,17 @@ public class AdminStaffController {
         String url = staffPhotoStorageService.saveStaffPhoto(file);
         return ResponseEntity.ok(new PhotoUploadResponse(url));
     }
+
+    @PostMapping("/photo/upload-url")
+    public ResponseEntity<PresignedUploadResponse> createPhotoUploadUrl(
+            @RequestBody @Valid PresignUploadRequest request) {
+        return ResponseEntity.ok(staffPhotoStorageService.createPhotoUploadUrl(request));
+    }
+
+    @PostMapping("/photo/complete")
+    public ResponseEntity<PhotoUploadResponse> completePhotoUpload(
+            @RequestBody @Valid CompleteUploadRequest request) {
+        String url = staffPhotoStorageService.completePhotoUpload(request.objectKey());
+        return ResponseEntity.ok(new PhotoUploadResponse(url));
+    }
 }
@@ -1,21 +1,52 @@
 package org.buscheacademy.basketball.api;
 
 import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.calendar.CalendarFeed;
+import org.buscheacademy.basketball.calendar.ScheduleFeedService;
+import org.buscheacademy.basketball.document.DocumentRegistry;
 import org.buscheacademy.basketball.document.SiteDocumentService;
+import org.buscheacademy.basketball.dto.BoxScoreDto;
+import org.buscheacademy.basketball.dto.CursorPage;
 import org.buscheacademy.basketball.dto.SiteDocumentDto;
 import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.HeadToHeadDto;
+import org.buscheacademy.basketball.dto.OpponentDto;
 import org.buscheacademy.basketball.dto.PlayerDto;
+import org.buscheacademy.basketball.dto.SearchResultDto;
+import org.buscheacademy.basketball.dto.SeasonDto;
+import org.buscheacademy.basketball.dto.SeasonSnapshotDto;
 import org.buscheacademy.basketball.dto.StaffMemberDto;
 import org.buscheacademy.basketball.dto.TeamDto;
+import org.buscheacademy.basketball.dto.TeamLeadersDto;
+import org.buscheacademy.basketball.dto.TeamSeasonStatsDto;
 import org.buscheacademy.basketball.game.GameService;
+import org.buscheacademy.basketball.home.HomeBundle;
+import org.buscheacademy.basketball.home.HomeBundleService;
+import org.buscheacademy.basketball.live.LiveScoreService;
+import org.buscheacademy.basketball.opponent.HeadToHeadIndex;
+import org.buscheacademy.basketball.playbyplay.BoxScoreService;
 import org.buscheacademy.basketball.player.PlayerService;
+import org.buscheacademy.basketball.search.SearchService;
+import org.buscheacademy.basketball.season.SeasonService;
+import org.buscheacademy.basketball.season.Seasons;
 import org.buscheacademy.basketball.staff.StaffCategory;
 import org.buscheacademy.basketball.staff.StaffMemberService;
+import org.buscheacademy.basketball.stats.PlayerSeasonStatsService;
+import org.buscheacademy.basketball.stats.TeamStatsService;
 import org.buscheacademy.basketball.team.TeamService;
 import org.buscheacademy.basketball.team.TeamLevel;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -23,11 +54,54 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PublicApiController {
 
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
     private final TeamService teamService;
     private final PlayerService playerService;
     private final GameService gameService;
     private final StaffMemberService staffMemberService;
     private final SiteDocumentService documentService;
+    private final HomeBundleService homeBundleService;
+    private final SeasonService seasonService;
+    private final TeamStatsService teamStatsService;
+    private final PlayerSeasonStatsService playerSeasonStatsService;
+    private final HeadToHeadIndex headToHeadIndex;
+    private final SearchService searchService;
+    private final ScheduleFeedService scheduleFeedService;
+    private final LiveScoreService liveScoreService;
+    private final BoxScoreService boxScoreService;
+
+    // ---------- Home ----------
+
+    @GetMapping("/home")
+    public ResponseEntity<byte[]> getHomeBundle(
+            @RequestParam(name = "upcoming", defaultValue = "3") int upcoming,
+            @RequestParam(name = "recent", defaultValue = "3") int recent
+    ) {
+        // Clamp so the cache key space stays small
+        HomeBundle bundle = homeBundleService.getHomeBundle(
+                Math.max(1, Math.min(upcoming, 10)),
+                Math.max(1, Math.min(recent, 10))
+        );
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(bundle.etag())
+                .body(bundle.json());
+    }
+
+    // ---------- Search ----------
+
+    @GetMapping("/search")
+    public ResponseEntity<List<SearchResultDto>> search(
+            @RequestParam(name = "q", defaultValue = "") String query,
+            @RequestParam(name = "limit", defaultValue = "10") int limit
+    ) {
+        if (query.length() > 100) {
+            query = query.substring(0, 100);
+        }
+        return ResponseEntity.ok(searchService.search(query, Math.max(1, Math.min(limit, 25))));
+    }
 
     // ---------- Teams & Roster ----------
 
@@ -37,17 +111,106 @@ public class PublicApiController {
     }
 
     @GetMapping("/teams/{teamId}/players")
-    public ResponseEntity<List<PlayerDto>> getPlayersByTeam(@PathVariable Long teamId) {
-        return ResponseEntity.ok(playerService.getPlayersByTeam(teamId));
+    public ResponseEntity<List<PlayerDto>> getPlayersByTeam(
+            @PathVariable Long teamId,
+            @RequestParam(name = "season", required = false) String season
+    ) {
+        return ResponseEntity.ok(playerService.getPlayersByTeam(teamId, resolveRosterSeason(teamId, season)));
+    }
+
+    @GetMapping("/teams/{teamId}/stats")
+    public ResponseEntity<TeamSeasonStatsDto> getTeamStats(
+            @PathVariable Long teamId,
+            @RequestParam(name = "season", required = false) String season
+    ) {
+        return ResponseEntity.ok(teamStatsService.getStats(teamId, resolveTeamSeason(teamId, season)));
+    }
+
+    // 404 for an unknown team or malformed season; defaults to the current season
+    private String resolveTeamSeason(Long teamId, String season) {
+        boolean knownTeam = teamService.getAllTeams().stream().anyMatch(t -> t.id().equals(teamId));
+        if (!knownTeam) {
+            throw new IllegalArgumentException("Team not found: " + teamId);
+        }
+        String resolved = season != null ? season : Seasons.current();
+        Seasons.startYear(resolved);
+        return resolved;
+    }
+
+    // Same checks, but defaults to the season the team's roster was last entered for
+    private String resolveRosterSeason(Long teamId, String season) {
+        String resolved = resolveTeamSeason(teamId, season);
+        return season != null ? resolved : playerService.getRosterSeason(teamId);
+    }
+
+    @GetMapping("/teams/{teamId}/leaders")
+    public ResponseEntity<TeamLeadersDto> getTeamLeaders(
+            @PathVariable Long teamId,
+            @RequestParam(name = "season", required = false) String season,
+            @RequestParam(name = "limit", defaultValue = "5") int limit
+    ) {
+        String resolved = resolveRosterSeason(teamId, season);
+        int clamped = Math.max(1, Math.min(limit, PlayerSeasonStatsService.MAX_LEADERS));
+        return ResponseEntity.ok(playerSeasonStatsService.getTeamLeaders(teamId, resolved, clamped));
+    }
+
+    @GetMapping("/teams/{teamId}/schedule.ics")
+    public ResponseEntity<byte[]> getTeamCalendar(@PathVariable Long teamId) {
+        return calendarResponse(scheduleFeedService.getTeamFeed(teamId));
     }
 
     // ---------- Games / Schedule ----------
 
+    @GetMapping("/schedule.ics")
+    public ResponseEntity<byte[]> getScheduleCalendar() {
+        return calendarResponse(scheduleFeedService.getAllTeamsFeed());
+    }
+
+    // Subscribed calendars poll constantly; revalidation turns most polls into a 304
+    private ResponseEntity<byte[]> calendarResponse(CalendarFeed feed) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(feed.etag())
+                .lastModified(feed.lastModified())
+                .body(feed.ics());
+    }
+
     @GetMapping("/games")
     public ResponseEntity<List<GameDto>> getFullSchedule() {
         return ResponseEntity.ok(gameService.getFullSchedule());
     }
 
+    @GetMapping("/games/export")
+    public ResponseEntity<StreamingResponseBody> exportSchedule() {
+        StreamingResponseBody body = gameService::exportFullSchedule;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"schedule.json\"")
+                .body(body);
+    }
+
+    @GetMapping("/games/page")
+    public ResponseEntity<CursorPage<GameDto>> getSchedulePage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(gameService.getSchedulePage(cursor, Math.max(1, Math.min(size, 200))));
+    }
+
+    @GetMapping("/games/{gameId}/box-score")
+    public ResponseEntity<BoxScoreDto> getBoxScore(@PathVariable Long gameId) {
+        return ResponseEntity.ok(boxScoreService.getBoxScore(gameId));
+    }
+
+    // Score pushes; EventSource sends Last-Event-ID by itself when it reconnects
+    @GetMapping(path = "/games/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter liveScores(
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return liveScoreService.subscribe(lastEventId);
+    }
+
     @GetMapping("/games/upcoming")
     public ResponseEntity<List<GameDto>> getUpcomingGames(
             @RequestParam(name = "limit", defaultValue = "3") int limit
@@ -62,6 +225,62 @@ public class PublicApiController {
         return ResponseEntity.ok(gameService.getRecentGames(limit));
     }
 
+    // ---------- Opponents ----------
+
+    @GetMapping("/opponents")
+    public ResponseEntity<List<OpponentDto>> getOpponents() {
+        return ResponseEntity.ok(headToHeadIndex.getDirectory());
+    }
+
+    @GetMapping("/opponents/{id}")
+    public ResponseEntity<HeadToHeadDto> getOpponent(@PathVariable Long id) {
+        return ResponseEntity.ok(headToHeadIndex.getHeadToHead(id));
+    }
+
+    // ---------- Seasons ----------
+
+    @GetMapping("/seasons")
+    public ResponseEntity<List<SeasonDto>> getSeasons() {
+        return ResponseEntity.ok(seasonService.getSeasons());
+    }
+
+    @GetMapping("/seasons/{season}")
+    public ResponseEntity<SeasonSnapshotDto> getSeason(@PathVariable String season) {
+        SeasonSnapshotDto snapshot = seasonService.getSeason(season);
+        return seasonResponse(snapshot).body(snapshot);
+    }
+
+    @GetMapping("/seasons/{season}/games")
+    public ResponseEntity<List<GameDto>> getSeasonGames(
+            @PathVariable String season,
+            @RequestParam(name = "teamId", required = false) Long teamId
+    ) {
+        SeasonSnapshotDto snapshot = seasonService.getSeason(season);
+        List<GameDto> games = teamId == null
+                ? snapshot.games()
+                : snapshot.games().stream().filter(g -> teamId.equals(g.teamId())).toList();
+        return seasonResponse(snapshot).body(games);
+    }
+
+    @GetMapping("/seasons/{season}/teams/{teamId}/players")
+    public ResponseEntity<List<PlayerDto>> getSeasonRoster(@PathVariable String season,
+                                                           @PathVariable Long teamId) {
+        SeasonSnapshotDto snapshot = seasonService.getSeason(season);
+        List<PlayerDto> roster = snapshot.players().stream()
+                .filter(p -> teamId.equals(p.teamId()))
+                .toList();
+        return seasonResponse(snapshot).body(roster);
+    }
+
+    // Archived seasons never change: let browsers and CDNs keep them for a year.
+    private ResponseEntity.BodyBuilder seasonResponse(SeasonSnapshotDto snapshot) {
+        if (!snapshot.closed()) {
+            return ResponseEntity.ok();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+    }
+
     // ---------- Staff ----------
 
     @GetMapping("/staff")
@@ -79,16 +298,38 @@ public class PublicApiController {
 
     // ---------- Documents ----------
 
+    // ETag-tagged so repeat visits revalidate with a 304 instead of re-downloading.
+
     @GetMapping("/documents")
-    public List<SiteDocumentDto> getAllDocuments() {
-        return documentService.getAll().stream().map(documentService::toDto).toList();
+    public ResponseEntity<List<SiteDocumentDto>> getAllDocuments() {
+        DocumentRegistry registry = documentService.getRegistry();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(registry.etag())
+                .body(registry.documents());
     }
 
     @GetMapping("/documents/{key}")
     public ResponseEntity<SiteDocumentDto> getDocument(@PathVariable String key) {
-        return documentService.getByKey(key)
-                .map(documentService::toDto)
-                .map(ResponseEntity::ok)
+        DocumentRegistry registry = documentService.getRegistry();
+        return registry.find(key)
+                .map(dto -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache().cachePublic())
+                        .eTag(registry.etagFor(key))
+                        .body(dto))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Stable link to whatever PDF is current for the key (e.g. footer links).
+    @GetMapping("/documents/{key}/file")
+    public ResponseEntity<Void> redirectToDocumentFile(@PathVariable String key) {
+        DocumentRegistry registry = documentService.getRegistry();
+        return registry.find(key)
+                .map(dto -> ResponseEntity.status(HttpStatus.FOUND)
+                        .location(URI.create(dto.fileUrl()))
+                        .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                        .eTag(registry.etagFor(key))
+                        .<Void>build())
                 .orElse(ResponseEntity.notFound().build());
     }
 }
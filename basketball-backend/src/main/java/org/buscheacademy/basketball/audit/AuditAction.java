@@ -0,0 +1,10 @@
+package org.buscheacademy.basketball.audit;
+
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    DELETE,
+    MERGE,
+    RECORD_PLAYS,
+    CLOSE
+}
@@ -0,0 +1,11 @@
+package org.buscheacademy.basketball.audit;
+
+public enum AuditEntityType {
+    TEAM,
+    PLAYER,
+    STAFF,
+    GAME,
+    OPPONENT,
+    DOCUMENT,
+    SEASON
+}
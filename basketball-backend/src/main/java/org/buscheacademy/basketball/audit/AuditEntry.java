@@ -0,0 +1,10 @@
+package org.buscheacademy.basketball.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * One queued audit row; {@code changes} is already serialized JSON.
+ */
+record AuditEntry(LocalDateTime occurredAt, String actor, AuditEntityType entityType, String entityId,
+                  AuditAction action, String changes) {
+}
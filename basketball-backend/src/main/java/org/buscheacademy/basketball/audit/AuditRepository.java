@@ -0,0 +1,69 @@
+package org.buscheacademy.basketball.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain JDBC for the audit table: the writer inserts whole batches, and the admin
+ * listing pages backwards by id.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_events (occurred_at, actor, entity_type, entity_id, action, changes)
+            VALUES (?, ?, ?, ?, ?, CAST(? AS jsonb))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    void insertAll(List<AuditEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(entry.occurredAt()));
+            ps.setString(2, entry.actor());
+            ps.setString(3, entry.entityType().name());
+            ps.setString(4, entry.entityId());
+            ps.setString(5, entry.action().name());
+            ps.setString(6, entry.changes());
+        });
+    }
+
+    /**
+     * Newest first. Every filter is optional; {@code beforeId} continues a listing.
+     */
+    <T> List<T> findPage(AuditEntityType entityType, String entityId, String actor, Long beforeId, int limit,
+                         RowMapper<T> mapper) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, occurred_at, actor, entity_type, entity_id, action, changes::text AS changes
+                FROM audit_events
+                WHERE TRUE
+                """);
+        List<Object> args = new ArrayList<>();
+        if (entityType != null) {
+            sql.append(" AND entity_type = ?");
+            args.add(entityType.name());
+        }
+        if (entityId != null) {
+            sql.append(" AND entity_id = ?");
+            args.add(entityId);
+        }
+        if (actor != null) {
+            sql.append(" AND actor = ?");
+            args.add(actor);
+        }
+        if (beforeId != null) {
+            sql.append(" AND id < ?");
+            args.add(beforeId);
+        }
+        sql.append(" ORDER BY id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), mapper, args.toArray());
+    }
+}
@@ -0,0 +1,186 @@
+package org.buscheacademy.basketball.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.common.Cursors;
+import org.buscheacademy.basketball.dto.AuditEventDto;
+import org.buscheacademy.basketball.dto.AuditFieldChangeDto;
+import org.buscheacademy.basketball.dto.CursorPage;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.buscheacademy.basketball.playbyplay.GamePlay;
+import org.buscheacademy.basketball.playbyplay.PlaysRecordedEvent;
+import org.buscheacademy.basketball.player.PlayerChangedEvent;
+import org.buscheacademy.basketball.staff.StaffChangedEvent;
+import org.buscheacademy.basketball.team.TeamChangedEvent;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Who changed what, and when. Listens to the change events the admin services already
+ * publish (plus {@link AuditedChangeEvent} from those that have none), turns each into
+ * a field-level diff and hands it to {@link AuditWriter}. Listeners run after commit,
+ * so rolled-back writes are never recorded, and they only serialize and enqueue.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditService {
+
+    private static final String SYSTEM_ACTOR = "system";
+    private static final TypeReference<List<AuditFieldChangeDto>> CHANGES = new TypeReference<>() {
+    };
+
+    private final AuditWriter writer;
+    private final AuditRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        Long id = event.after() != null ? event.after().id() : event.before().id();
+        record(AuditEntityType.TEAM, id, event.before(), event.after());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        record(AuditEntityType.PLAYER, event.playerId(), event.before(), event.after());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStaffChanged(StaffChangedEvent event) {
+        Long id = event.after() != null ? event.after().id() : event.before().id();
+        record(AuditEntityType.STAFF, id, event.before(), event.after());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        Long id = event.after() != null ? event.after().id() : event.before().id();
+        record(AuditEntityType.GAME, id, event.before(), event.after());
+    }
+
+    // A batch is summarized rather than stored play by play; the play log itself is the detail
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaysRecorded(PlaysRecordedEvent event) {
+        IntSummaryStatistics sequences = event.plays().stream().mapToInt(GamePlay::sequence).summaryStatistics();
+        Map<String, Object> batch = new LinkedHashMap<>();
+        batch.put("plays", event.plays().size());
+        batch.put("sequences", sequences.getMin() + "-" + sequences.getMax());
+        enqueue(AuditEntityType.GAME, String.valueOf(event.gameId()), AuditAction.RECORD_PLAYS, diff(null, batch));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuditedChange(AuditedChangeEvent event) {
+        enqueue(event.entityType(), event.entityId(), event.action(), diff(event.before(), event.after()));
+    }
+
+    // ---------- Admin listing ----------
+
+    public CursorPage<AuditEventDto> getPage(AuditEntityType entityType, String entityId, String actor,
+                                             String cursor, int size) {
+        Long beforeId = cursor != null ? Cursors.decode(cursor, 1, parts -> Long.parseLong(parts[0])) : null;
+        List<AuditEventDto> rows = repository.findPage(entityType, entityId, actor, beforeId, size + 1, rowMapper());
+        return Cursors.page(rows, size, row -> Cursors.encode(row.id()));
+    }
+
+    private RowMapper<AuditEventDto> rowMapper() {
+        return (rs, rowNum) -> new AuditEventDto(
+                rs.getLong("id"),
+                rs.getTimestamp("occurred_at").toLocalDateTime(),
+                rs.getString("actor"),
+                AuditEntityType.valueOf(rs.getString("entity_type")),
+                rs.getString("entity_id"),
+                AuditAction.valueOf(rs.getString("action")),
+                readChanges(rs.getString("changes")));
+    }
+
+    // ---------- helpers ----------
+
+    private void record(AuditEntityType entityType, Long id, Object before, Object after) {
+        AuditAction action = before == null ? AuditAction.CREATE
+                : after == null ? AuditAction.DELETE
+                : AuditAction.UPDATE;
+        List<AuditFieldChangeDto> changes = diff(before, after);
+        // Saves that changed nothing (e.g. an unchanged form re-submitted) aren't worth a row
+        if (action == AuditAction.UPDATE && changes.isEmpty()) {
+            return;
+        }
+        enqueue(entityType, String.valueOf(id), action, changes);
+    }
+
+    private void enqueue(AuditEntityType entityType, String entityId, AuditAction action,
+                         List<AuditFieldChangeDto> changes) {
+        try {
+            writer.enqueue(new AuditEntry(LocalDateTime.now(), currentActor(), entityType, entityId, action,
+                    objectMapper.writeValueAsString(changes)));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize audit changes for " + entityType + " " + entityId, ex);
+        }
+    }
+
+    // The request thread still holds the admin's authentication when after-commit listeners run
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getName())
+                ? authentication.getName()
+                : SYSTEM_ACTOR;
+    }
+
+    // Field-by-field comparison of two DTO records (or maps); the id is the row's entityId
+    static List<AuditFieldChangeDto> diff(Object before, Object after) {
+        Map<String, Object> from = fields(before);
+        Map<String, Object> to = fields(after);
+        Set<String> names = new LinkedHashSet<>(from.keySet());
+        names.addAll(to.keySet());
+
+        List<AuditFieldChangeDto> changes = new ArrayList<>();
+        for (String name : names) {
+            Object oldValue = from.get(name);
+            Object newValue = to.get(name);
+            if (!name.equals("id") && !Objects.equals(oldValue, newValue)) {
+                changes.add(new AuditFieldChangeDto(name, oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    private static Map<String, Object> fields(Object value) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (value instanceof Map<?, ?> map) {
+            map.forEach((key, field) -> fields.put(String.valueOf(key), field));
+        } else if (value != null && value.getClass().isRecord()) {
+            for (RecordComponent component : value.getClass().getRecordComponents()) {
+                try {
+                    fields.put(component.getName(), component.getAccessor().invoke(value));
+                } catch (ReflectiveOperationException ex) {
+                    throw new IllegalStateException("Unreadable field " + component.getName(), ex);
+                }
+            }
+        } else if (value != null) {
+            throw new IllegalArgumentException("Cannot audit " + value.getClass().getName());
+        }
+        return fields;
+    }
+
+    private List<AuditFieldChangeDto> readChanges(String json) {
+        try {
+            return objectMapper.readValue(json, CHANGES);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable audit changes", ex);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.buscheacademy.basketball.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind for audit rows. Admin requests only append to a lock-free queue; one
+ * background thread drains it into {@code audit_events} in JDBC batches, either once a
+ * batch has filled up or every flush interval.
+ * <p>
+ * The queue is bounded. When it is full the request thread writes its own entry,
+ * which slows the writers down instead of losing rows or growing the heap. That write
+ * gets its own transaction: callers are after-commit listeners, whose request transaction
+ * has already committed and would never commit a statement joined to it. Whatever
+ * is still queued at shutdown is flushed before the datasource closes.
+ */
+@Component
+@Slf4j
+class AuditWriter {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AuditRepository repository;
+    private final TransactionTemplate overflowTransaction;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final ConcurrentLinkedQueue<AuditEntry> queue = new ConcurrentLinkedQueue<>();
+    // Slots handed out, so the bound holds without locking the queue
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong overflowWrites = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    AuditWriter(AuditRepository repository,
+                PlatformTransactionManager transactionManager,
+                @Value("${app.audit.queue-capacity:10000}") int capacity,
+                @Value("${app.audit.batch-size:200}") int batchSize,
+                @Value("${app.audit.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.repository = repository;
+        this.overflowTransaction = new TransactionTemplate(transactionManager);
+        this.overflowTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.worker = new Thread(this::run, "audit-writer");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        worker.start();
+    }
+
+    void enqueue(AuditEntry entry) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            LockSupport.unpark(worker);
+            if (overflowWrites.getAndIncrement() % 1000 == 0) {
+                log.warn("Audit queue full ({} entries); writing inline", capacity);
+            }
+            overflowTransaction.executeWithoutResult(status -> repository.insertAll(List.of(entry)));
+            return;
+        }
+        queue.offer(entry);
+        if (size.get() >= batchSize) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void run() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        int attempts = 0;
+        while (running) {
+            if (batch.isEmpty()) {
+                drainTo(batch);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            try {
+                repository.insertAll(batch);
+                batch.clear();
+                attempts = 0;
+                // A full batch means more is probably waiting; otherwise wait for the next tick
+                if (size.get() < batchSize) {
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                }
+            } catch (RuntimeException ex) {
+                if (++attempts >= MAX_ATTEMPTS) {
+                    log.error("Dropping {} audit events after {} failed writes", batch.size(), attempts, ex);
+                    batch.clear();
+                    attempts = 0;
+                } else {
+                    log.warn("Audit write failed, retrying {} events", batch.size(), ex);
+                }
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        // Whatever the worker was holding goes back for the shutdown flush
+        for (AuditEntry entry : batch) {
+            size.incrementAndGet();
+            queue.offer(entry);
+        }
+    }
+
+    private void drainTo(List<AuditEntry> batch) {
+        AuditEntry entry;
+        while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(entry);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        // No timeout: the worker puts its in-flight batch back only once its write returns,
+        // and a flush that ran before that would lose it
+        worker.join();
+
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        int flushed = 0;
+        while (true) {
+            batch.clear();
+            drainTo(batch);
+            if (batch.isEmpty()) {
+                break;
+            }
+            repository.insertAll(batch);
+            flushed += batch.size();
+        }
+        if (flushed > 0) {
+            log.info("Flushed {} queued audit events on shutdown", flushed);
+        }
+    }
+}
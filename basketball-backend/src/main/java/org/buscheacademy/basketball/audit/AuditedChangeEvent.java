@@ -0,0 +1,9 @@
+package org.buscheacademy.basketball.audit;
+
+/**
+ * For admin writes that have no domain event of their own. {@code before} and
+ * {@code after} are DTO records or maps; either may be null.
+ */
+public record AuditedChangeEvent(AuditEntityType entityType, String entityId, AuditAction action,
+                                 Object before, Object after) {
+}
@@ -1,5 +1,7 @@
 package org.buscheacademy.basketball.auth;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,25 +15,30 @@ import java.util.Date;
 @Service
 public class JwtService {
 
-    private final SecretKey signingKey;
+    // HS256 needs at least a 256-bit key; checked up front so a bad secret still fails the boot
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final byte[] secret;
     private final long expirationMillis;
 
+    // JJWT (and its Jackson serializer) loads on the first admin login or token, not during
+    // startup; anonymous public requests after a cold start never touch it
+    private volatile Signing signing;
+
     public JwtService(
             @Value("${app.jwt.secret}") String secret,
             @Value("${app.jwt.expiration-millis}") long expirationMillis
     ) {
         // Important: specify charset so it's consistent
-        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
         this.expirationMillis = expirationMillis;
+        if (this.secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.jwt.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
     }
 
     public String extractUsername(String token) {
-        return Jwts.parser()                // JwtParserBuilder
-                .verifyWith(signingKey)     // SecretKey
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -42,22 +49,38 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(signingKey)
+                .signWith(signing().key())
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        Claims claims = parseClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername())
+                && claims.getExpiration().after(new Date());
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
+    private Claims parseClaims(String token) {
+        return signing().parser()
                 .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration();
-        return expiration.before(new Date());
+                .getPayload();
+    }
+
+    private Signing signing() {
+        Signing current = signing;
+        if (current == null) {
+            synchronized (this) {
+                current = signing;
+                if (current == null) {
+                    SecretKey key = Keys.hmacShaKeyFor(secret);
+                    // Immutable and thread-safe, so one parser serves every request
+                    current = new Signing(key, Jwts.parser().verifyWith(key).build());
+                    signing = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private record Signing(SecretKey key, JwtParser parser) {
     }
 }
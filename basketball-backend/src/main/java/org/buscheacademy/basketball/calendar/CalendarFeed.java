@@ -0,0 +1,9 @@
+package org.buscheacademy.basketball.calendar;
+
+import java.time.Instant;
+
+/**
+ * A rendered iCalendar feed, kept as bytes so conditional polls never re-render it.
+ */
+public record CalendarFeed(byte[] ics, String etag, Instant lastModified) {
+}
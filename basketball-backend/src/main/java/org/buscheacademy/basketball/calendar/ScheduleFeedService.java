@@ -0,0 +1,203 @@
+package org.buscheacademy.basketball.calendar;
+
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.TeamDto;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.buscheacademy.basketball.game.GameService;
+import org.buscheacademy.basketball.game.HomeAway;
+import org.buscheacademy.basketball.season.Seasons;
+import org.buscheacademy.basketball.team.TeamChangedEvent;
+import org.buscheacademy.basketball.team.TeamService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * iCalendar feeds of the schedule, one per team plus one for every team, covering the
+ * current season and everything scheduled after it.
+ * <p>
+ * A feed is rendered on its first poll and the bytes are kept until a game of that team
+ * (or the team itself) changes, or the season rolls over. Calendar apps re-poll every few
+ * minutes per subscriber, so nearly every request is answered from memory, and with the
+ * ETag / Last-Modified headers most end up as a bodiless 304.
+ * <p>
+ * Rendering happens outside the lock, so one slow feed never holds up the others. A
+ * render that raced with an invalidation is served once but not kept.
+ */
+@Service
+public class ScheduleFeedService {
+
+    private static final String PRODUCT_ID = "-//Busche Academy//Basketball Schedule//EN";
+    private static final Duration GAME_LENGTH = Duration.ofHours(2);
+    // Hint for clients that honour it; most still use their own polling interval
+    private static final String REFRESH_INTERVAL = "PT1H";
+
+    private final GameService gameService;
+    private final TeamService teamService;
+    private final ZoneId timeZone;
+
+    // All guarded by "this"
+    private final Map<Long, CalendarFeed> teamFeeds = new HashMap<>();
+    private CalendarFeed allTeamsFeed;
+    private String season = Seasons.current();
+    // Bumped by every invalidation; a render only gets cached if nothing changed meanwhile
+    private long generation;
+
+    public ScheduleFeedService(GameService gameService,
+                               TeamService teamService,
+                               @Value("${app.calendar.time-zone:America/New_York}") String timeZone) {
+        this.gameService = gameService;
+        this.teamService = teamService;
+        this.timeZone = ZoneId.of(timeZone);
+    }
+
+    public CalendarFeed getTeamFeed(Long teamId) {
+        long seen;
+        String feedSeason;
+        synchronized (this) {
+            rollOverSeason();
+            CalendarFeed cached = teamFeeds.get(teamId);
+            if (cached != null) {
+                return cached;
+            }
+            seen = generation;
+            feedSeason = season;
+        }
+        TeamDto team = teamService.getTeamDto(teamId);
+        CalendarFeed feed = render(team.name() + " Basketball",
+                gameService.getTeamScheduleFrom(teamId, Seasons.start(feedSeason)));
+        synchronized (this) {
+            if (generation == seen) {
+                teamFeeds.put(teamId, feed);
+            }
+        }
+        return feed;
+    }
+
+    public CalendarFeed getAllTeamsFeed() {
+        long seen;
+        String feedSeason;
+        synchronized (this) {
+            rollOverSeason();
+            if (allTeamsFeed != null) {
+                return allTeamsFeed;
+            }
+            seen = generation;
+            feedSeason = season;
+        }
+        CalendarFeed feed = render("Busche Academy Basketball",
+                gameService.getScheduleFrom(Seasons.start(feedSeason)));
+        synchronized (this) {
+            if (generation == seen) {
+                allTeamsFeed = feed;
+            }
+        }
+        return feed;
+    }
+
+    // ---------- Invalidation ----------
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGameChanged(GameChangedEvent event) {
+        generation++;
+        // A game moved between teams changes both feeds
+        if (event.before() != null) {
+            teamFeeds.remove(event.before().teamId());
+        }
+        if (event.after() != null) {
+            teamFeeds.remove(event.after().teamId());
+        }
+        allTeamsFeed = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTeamChanged(TeamChangedEvent event) {
+        generation++;
+        // Team names appear in the calendar title and every event summary
+        teamFeeds.remove(event.teamId());
+        allTeamsFeed = null;
+    }
+
+    // Guarded by "this". Last season's games drop out of every feed on the first poll after the rollover.
+    private void rollOverSeason() {
+        String current = Seasons.current();
+        if (!current.equals(season)) {
+            season = current;
+            generation++;
+            teamFeeds.clear();
+            allTeamsFeed = null;
+        }
+    }
+
+    // ---------- Rendering ----------
+
+    private CalendarFeed render(String calendarName, List<GameDto> games) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        IcsWriter ics = new IcsWriter()
+                .line("BEGIN", "VCALENDAR")
+                .line("VERSION", "2.0")
+                .line("PRODID", PRODUCT_ID)
+                .line("CALSCALE", "GREGORIAN")
+                .line("METHOD", "PUBLISH")
+                .text("X-WR-CALNAME", calendarName)
+                .line("REFRESH-INTERVAL;VALUE=DURATION", REFRESH_INTERVAL)
+                .line("X-PUBLISHED-TTL", REFRESH_INTERVAL);
+
+        for (GameDto game : games) {
+            Instant start = game.gameDateTime().atZone(timeZone).toInstant();
+            ics.line("BEGIN", "VEVENT")
+                    .line("UID", "game-" + game.id() + "@buscheacademy.org")
+                    .time("DTSTAMP", now)
+                    .time("DTSTART", start)
+                    .time("DTEND", start.plus(GAME_LENGTH))
+                    .text("SUMMARY", summary(game))
+                    .text("LOCATION", game.location())
+                    .text("DESCRIPTION", description(game))
+                    .line("END", "VEVENT");
+        }
+
+        byte[] bytes = ics.line("END", "VCALENDAR").toBytes();
+        return new CalendarFeed(bytes, "\"ics-" + digest(bytes) + "\"", now);
+    }
+
+    private static String summary(GameDto game) {
+        String matchup = game.teamName()
+                + (game.homeAway() == HomeAway.AWAY ? " @ " : " vs ")
+                + game.opponent();
+        if (game.scoreUs() == null || game.scoreThem() == null) {
+            return matchup;
+        }
+        String result = game.scoreUs() > game.scoreThem() ? "W" : "L";
+        return matchup + " (" + result + " " + game.scoreUs() + "-" + game.scoreThem() + ")";
+    }
+
+    private static String description(GameDto game) {
+        if (!game.conferenceGame()) {
+            return game.notes();
+        }
+        return game.notes() == null || game.notes().isBlank()
+                ? "Conference game"
+                : "Conference game\n" + game.notes();
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(hash, 0, 12);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.buscheacademy.basketball.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: comma separated, double-quoted fields may hold commas,
+ * line breaks and doubled quotes. Reads one record at a time, so an upload is never
+ * held in memory as a whole. Blank lines are skipped and a leading BOM is ignored.
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private int peeked = -2;
+    private int line = 1;
+    private int recordLine;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * The next record's fields, or null at end of input.
+     */
+    public List<String> next() throws IOException {
+        if (peek() == 0xFEFF && line == 1) {
+            read();
+        }
+        while (peek() == '\r' || peek() == '\n') {
+            consumeLineBreak();
+        }
+        if (peek() == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = peek();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                read();
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                read();
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                read();
+                quoted = true;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c != -1) {
+                    consumeLineBreak();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                read();
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Line on which the record last returned by {@link #next()} started (1-based).
+     */
+    public int recordLine() {
+        return recordLine;
+    }
+
+    private void consumeLineBreak() throws IOException {
+        if (read() == '\r' && peek() == '\n') {
+            read();
+        }
+        line++;
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        peeked = -2;
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,64 @@
+package org.buscheacademy.basketball.common;
+
+import org.buscheacademy.basketball.dto.CursorPage;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursors: the sort key of the last row on a page, base64url-encoded.
+ * Clients just echo {@code nextCursor} back; the format can change without breaking them.
+ */
+public final class Cursors {
+
+    // ASCII unit separator: can't be typed into any of the fields we page on
+    private static final String SEPARATOR = "\u001F";
+
+    private Cursors() {
+    }
+
+    public static String encode(Object... keyParts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keyParts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keyParts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode} and hands its parts to {@code parser}.
+     * Anything malformed is rejected with 400 rather than silently restarting the listing.
+     */
+    public static <K> K decode(String cursor, int expectedParts, Function<String[], K> parser) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("Unexpected cursor shape");
+            }
+            return parser.apply(parts);
+        } catch (RuntimeException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}: the extra row only
+     * tells us whether there is a next page and is not returned.
+     */
+    public static <T> CursorPage<T> page(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+}
@@ -1,18 +1,21 @@
 package org.buscheacademy.basketball.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 import java.time.Duration;
 import java.util.List;
 
 @Configuration
-@EnableCaching
+// Cache advice wraps transaction advice: a cache hit never opens a transaction.
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 public class CacheConfig {
 
     @Bean
@@ -21,11 +24,20 @@ public class CacheConfig {
         manager.setCaches(List.of(
                 buildCache("teams", Duration.ofHours(24), 200),
                 buildCache("playersByTeam", Duration.ofHours(12), 500),
+                buildCache("rosterSeasons", Duration.ofHours(12), 200),
                 buildCache("scheduleFull", Duration.ofMinutes(10), 10),
                 buildCache("scheduleUpcoming", Duration.ofMinutes(5), 20),
                 buildCache("scheduleRecent", Duration.ofMinutes(5), 20),
+                buildCache("schedulePage", Duration.ofMinutes(10), 20),
                 buildCache("publicStaff", Duration.ofHours(12), 50),
-                buildCache("publicStaffMember", Duration.ofHours(12), 200)
+                buildCache("publicStaffMember", Duration.ofHours(12), 200),
+                buildCache("staffPage", Duration.ofHours(12), 20),
+                buildCache("documents", Duration.ofHours(12), 1),
+                // Bounded by the upcoming/recent games, which move with the clock
+                buildCache("homeBundle", Duration.ofMinutes(5), 20),
+                // Season list and the open season only; archived seasons live in SeasonService
+                buildCache("seasons", Duration.ofHours(1), 1),
+                buildCache("seasonLive", Duration.ofMinutes(10), 5)
         ));
         return manager;
     }
@@ -33,7 +45,9 @@ public class CacheConfig {
     private CaffeineCache buildCache(String name, Duration ttl, long maxSize) {
         return new CaffeineCache(name,
                 Caffeine.newBuilder()
-                        .expireAfterWrite(ttl)
+                        // Fixed from creation: entries patched in place (ScheduleCachePatcher)
+                        // must not outlive their TTL, e.g. an "upcoming" list whose game started
+                        .expireAfter(Expiry.creating((key, value) -> ttl))
                         .maximumSize(maxSize)
                         .build());
     }
@@ -0,0 +1,28 @@
+package org.buscheacademy.basketball.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Migrations run on startup unless {@code app.flyway.migrate-on-startup=false}.
+ * <p>
+ * Only the AppCDS training run in the Dockerfile turns this off: it starts the context
+ * without a database. {@code spring.flyway.enabled=false} would do the same on a regular
+ * jar, but an AOT-built jar evaluated that condition at build time, so the switch has to
+ * be read at runtime.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.flyway.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            }
+        };
+    }
+}
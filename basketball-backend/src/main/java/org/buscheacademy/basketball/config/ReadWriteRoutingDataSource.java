@@ -0,0 +1,39 @@
+package org.buscheacademy.basketball.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the read pool and everything
+ * else to the primary. Reads fall back to the primary whenever the replica is
+ * unavailable or lagging.
+ * <p>
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager grabs a connection before the read-only flag is bound, so the
+ * routing decision has to wait until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, READ }
+
+    private final BooleanSupplier readAvailable;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource read, BooleanSupplier readAvailable) {
+        this.readAvailable = readAvailable;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.READ, read));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && readAvailable.getAsBoolean()) {
+            return Route.READ;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,59 @@
+package org.buscheacademy.basketball.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Periodically checks how far the read database is behind the primary.
+ * While the check fails or lag exceeds the limit, reads are routed to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // 0 when this isn't a standby or it has replayed everything it received
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final JdbcTemplate readJdbcTemplate;
+    private final double maxLagSeconds;
+
+    private volatile boolean readAvailable = true;
+
+    public ReplicaLagMonitor(DataSource readDataSource, double maxLagSeconds) {
+        this.readJdbcTemplate = new JdbcTemplate(readDataSource);
+        this.readJdbcTemplate.setQueryTimeout(5);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReadAvailable() {
+        return readAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read.lag-check-interval-ms:15000}")
+    public void check() {
+        boolean available;
+        try {
+            Double lag = readJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            available = lag != null && lag <= maxLagSeconds;
+            if (!available) {
+                log.warn("Read database is {}s behind (limit {}s); routing reads to primary", lag, maxLagSeconds);
+            }
+        } catch (RuntimeException ex) {
+            available = false;
+            log.warn("Read database lag check failed; routing reads to primary: {}", ex.getMessage());
+        }
+
+        if (available && !readAvailable) {
+            log.info("Read database caught up; routing reads back to it");
+        }
+        readAvailable = available;
+    }
+}
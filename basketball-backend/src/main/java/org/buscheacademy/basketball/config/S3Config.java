@@ -3,11 +3,19 @@ package org.buscheacademy.basketball.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+/**
+ * The AWS SDK is slow to load and only admin uploads and document downloads use it, so both
+ * clients are lazy and injected as {@code ObjectProvider}s: they're built on the first S3
+ * call, not during startup. (A {@code @Lazy} proxy would still load every type in the
+ * client interfaces' signatures at startup.)
+ */
 @Configuration
 public class S3Config {
 
@@ -21,6 +29,7 @@ public class S3Config {
     private String secretAccessKey;
 
     @Bean
+    @Lazy
     public S3Client s3Client() {
         AwsBasicCredentials creds = AwsBasicCredentials.create(
                 accessKeyId,
@@ -32,4 +41,21 @@ public class S3Config {
                 .credentialsProvider(StaticCredentialsProvider.create(creds))
                 .build();
     }
+
+    /**
+     * Signs short-lived PUT URLs so the admin UI can upload straight to the bucket.
+     */
+    @Bean
+    @Lazy
+    public S3Presigner s3Presigner() {
+        AwsBasicCredentials creds = AwsBasicCredentials.create(
+                accessKeyId,
+                secretAccessKey
+        );
+
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(creds))
+                .build();
+    }
 }
@@ -0,0 +1,62 @@
+package org.buscheacademy.basketball.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Repository and SQL statistics behind {@code /admin/diagnostics/queries}.
+ * <p>
+ * Enabled with {@code app.diagnostics.queries.enabled=true}. When off, repositories aren't
+ * wrapped and Hibernate doesn't collect statistics, so the only cost left is the endpoint
+ * answering 404. The beans always exist and read the switch when they are created rather
+ * than through a condition: an AOT-built jar fixes conditions at build time, and this one
+ * has to stay switchable through the environment.
+ */
+@Configuration
+public class QueryDiagnosticsConfig {
+
+    // Static: a post-processor has to exist before the repositories it wraps
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static RepositoryCallStats repositoryCallStats(
+            @Value("${app.diagnostics.queries.slow-threshold-ms:200}") long slowThresholdMs) {
+        return new RepositoryCallStats(slowThresholdMs);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static RepositoryTimingPostProcessor repositoryTimingPostProcessor(
+            RepositoryCallStats repositoryCallStats,
+            @Value("${app.diagnostics.queries.enabled:false}") boolean enabled) {
+        return new RepositoryTimingPostProcessor(repositoryCallStats, enabled);
+    }
+
+    // Per-query counts and timings, plus Hibernate's own slow-SQL log (org.hibernate.SQL_SLOW)
+    @Bean
+    public HibernatePropertiesCustomizer queryStatisticsCustomizer(
+            @Value("${app.diagnostics.queries.enabled:false}") boolean enabled,
+            @Value("${app.diagnostics.queries.slow-threshold-ms:200}") long slowThresholdMs) {
+        return properties -> {
+            if (enabled) {
+                properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+                properties.put(AvailableSettings.LOG_SLOW_QUERY, slowThresholdMs);
+            }
+        };
+    }
+
+    @Bean
+    public QueryDiagnosticsService queryDiagnosticsService(
+            RepositoryCallStats repositoryCallStats,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${app.diagnostics.queries.enabled:false}") boolean enabled) {
+        return new QueryDiagnosticsService(repositoryCallStats,
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics(), enabled);
+    }
+}
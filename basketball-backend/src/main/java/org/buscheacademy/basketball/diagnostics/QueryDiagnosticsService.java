@@ -0,0 +1,58 @@
+package org.buscheacademy.basketball.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.QueryDiagnosticsDto;
+import org.buscheacademy.basketball.dto.SqlQueryStatsDto;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Snapshot and reset of the repository counters and Hibernate's query statistics.
+ * Both are cumulative since startup or the last reset, and stay empty while
+ * {@code app.diagnostics.queries.enabled} is off.
+ */
+@RequiredArgsConstructor
+public class QueryDiagnosticsService {
+
+    private final RepositoryCallStats repositoryCallStats;
+    private final Statistics statistics;
+    private final boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public QueryDiagnosticsDto getSnapshot() {
+        List<SqlQueryStatsDto> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> toDto(query, statistics.getQueryStatistics(query)))
+                .filter(query -> query.executions() > 0)
+                .sorted(Comparator.comparingLong(SqlQueryStatsDto::totalMs).reversed())
+                .toList();
+        return new QueryDiagnosticsDto(
+                repositoryCallStats.getSince(),
+                repositoryCallStats.getSlowThresholdMs(),
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getCollectionFetchCount(),
+                repositoryCallStats.snapshot(),
+                queries);
+    }
+
+    public void reset() {
+        statistics.clear();
+        repositoryCallStats.reset();
+    }
+
+    private static SqlQueryStatsDto toDto(String query, QueryStatistics stats) {
+        return new SqlQueryStatsDto(
+                query,
+                stats.getExecutionCount(),
+                stats.getExecutionTotalTime(),
+                stats.getExecutionMaxTime(),
+                stats.getExecutionRowCount());
+    }
+}
@@ -0,0 +1,147 @@
+package org.buscheacademy.basketball.diagnostics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.dto.RepositoryMethodStatsDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Array;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-method counters for repository calls, fed by {@link RepositoryTimingPostProcessor}.
+ * Recording is a map lookup plus a few striped adders, so it is cheap on hot read paths.
+ * Calls slower than the threshold are logged with the shape of their arguments
+ * (types and collection sizes), never the values.
+ */
+@Slf4j
+public class RepositoryCallStats {
+
+    private final long slowThresholdNanos;
+    private final Map<String, MethodStats> methods = new ConcurrentHashMap<>();
+    private volatile LocalDateTime since = LocalDateTime.now();
+
+    public RepositoryCallStats(long slowThresholdMs) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    public long getSlowThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    public LocalDateTime getSince() {
+        return since;
+    }
+
+    void record(String method, Object[] arguments, long elapsedNanos, Object result, boolean failed) {
+        long rows = failed ? 0 : rows(result);
+        methods.computeIfAbsent(method, key -> new MethodStats()).add(elapsedNanos, rows, failed);
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("Slow repository call {}({}) took {} ms, rows={}",
+                    method, shape(arguments), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    failed ? "failed" : rows);
+        }
+    }
+
+    /** Slowest first by total time. */
+    public List<RepositoryMethodStatsDto> snapshot() {
+        return methods.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingDouble(RepositoryMethodStatsDto::totalMs).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        methods.clear();
+        since = LocalDateTime.now();
+    }
+
+    // Rows handed back to the caller; streams are consumed later and aren't counted
+    private static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result.getClass().isArray()) {
+            return Array.getLength(result);
+        }
+        if (result instanceof Iterable<?> || result instanceof java.util.stream.BaseStream<?, ?>) {
+            return 0;
+        }
+        return 1;
+    }
+
+    static String shape(Object[] arguments) {
+        StringJoiner shape = new StringJoiner(", ");
+        for (Object argument : arguments) {
+            shape.add(shapeOf(argument));
+        }
+        return shape.toString();
+    }
+
+    private static String shapeOf(Object argument) {
+        if (argument == null) {
+            return "null";
+        }
+        if (argument instanceof Collection<?> collection) {
+            return argument.getClass().getSimpleName() + "[" + collection.size() + "]";
+        }
+        if (argument instanceof Pageable pageable) {
+            return pageable.isPaged() ? "Pageable[size=" + pageable.getPageSize() + "]" : "Pageable[unpaged]";
+        }
+        if (argument.getClass().isArray()) {
+            return argument.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(argument) + "]";
+        }
+        return argument.getClass().getSimpleName();
+    }
+
+    private static final class MethodStats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+
+        void add(long elapsedNanos, long rowCount, boolean failed) {
+            calls.increment();
+            if (failed) {
+                errors.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            rows.add(rowCount);
+        }
+
+        RepositoryMethodStatsDto toDto(String method) {
+            long callCount = calls.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new RepositoryMethodStatsDto(
+                    method,
+                    callCount,
+                    errors.sum(),
+                    totalMs,
+                    callCount == 0 ? 0 : totalMs / callCount,
+                    maxNanos.get() / 1_000_000.0,
+                    rows.sum());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.buscheacademy.basketball.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Times every call into a repository: the Spring Data interfaces and the
+ * {@code @Repository} JdbcTemplate classes alike. The timing advice goes outermost, so
+ * a call is measured as the service sees it, including the repository's own transaction.
+ * <p>
+ * Spring Data's {@code RepositoryMethodInvocationListener} would cover only the former
+ * and doesn't see return values, so rows couldn't be counted; one interceptor does both.
+ * When diagnostics are off every bean passes through untouched.
+ */
+@RequiredArgsConstructor
+class RepositoryTimingPostProcessor implements BeanPostProcessor {
+
+    private final RepositoryCallStats stats;
+    private final boolean enabled;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled) {
+            return bean;
+        }
+        String repositoryName = repositoryName(bean);
+        if (repositoryName == null) {
+            return bean;
+        }
+        MethodInterceptor timing = new TimingInterceptor(repositoryName, stats);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, timing);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(timing);
+        return proxyFactory.getProxy(ClassUtils.getDefaultClassLoader());
+    }
+
+    private static String repositoryName(Object bean) {
+        if (bean instanceof Repository<?, ?>) {
+            // A Spring Data proxy: its first repository interface is the one we declared
+            for (Class<?> type : ClassUtils.getAllInterfaces(bean)) {
+                if (Repository.class.isAssignableFrom(type) && type != Repository.class) {
+                    return type.getSimpleName();
+                }
+            }
+            return null;
+        }
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        return AnnotatedElementUtils.hasAnnotation(targetClass, org.springframework.stereotype.Repository.class)
+                ? ClassUtils.getUserClass(targetClass).getSimpleName()
+                : null;
+    }
+
+    private record TimingInterceptor(String repositoryName, RepositoryCallStats stats) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (AopUtils.isToStringMethod(invocation.getMethod())
+                    || AopUtils.isEqualsMethod(invocation.getMethod())
+                    || AopUtils.isHashCodeMethod(invocation.getMethod())) {
+                return invocation.proceed();
+            }
+            String method = repositoryName + "." + invocation.getMethod().getName();
+            long start = System.nanoTime();
+            Object result = null;
+            boolean failed = true;
+            try {
+                result = invocation.proceed();
+                failed = false;
+                return result;
+            } finally {
+                stats.record(method, invocation.getArguments(), System.nanoTime() - start, result, failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.buscheacademy.basketball.document;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracts page count / size / title and renders a first-page preview for uploaded PDFs.
+ * <p>
+ * Runs on a single background worker with a small bounded queue so uploads return
+ * immediately. PDFBox is given a capped main-memory budget (the rest spills to a temp
+ * file) and only page one is ever rendered, so a 200-page catalog costs the same heap
+ * as a one-page calendar.
+ */
+@Service
+@Slf4j
+public class DocumentPreviewService {
+
+    private final SiteDocumentRepository repository;
+    private final DocumentStorageService storageService;
+    private final CacheManager cacheManager;
+
+    private final ThreadPoolExecutor worker;
+
+    @Value("${app.documents.preview-width:480}")
+    private int previewWidth;
+
+    @Value("${app.documents.preview-max-memory-bytes:33554432}")
+    private long maxMainMemoryBytes;
+
+    public DocumentPreviewService(SiteDocumentRepository repository,
+                                  DocumentStorageService storageService,
+                                  CacheManager cacheManager,
+                                  @Value("${app.documents.preview-queue-capacity:8}") int queueCapacity) {
+        this.repository = repository;
+        this.storageService = storageService;
+        this.cacheManager = cacheManager;
+        this.worker = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "document-preview");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Queues metadata extraction for the document currently stored under {@code documentKey}.
+     */
+    public void schedule(String documentKey, String fileUrl) {
+        try {
+            worker.execute(() -> process(documentKey, fileUrl));
+        } catch (RejectedExecutionException ex) {
+            // Queue is full: the document is still usable, it just won't have a preview.
+            log.warn("Preview queue full, skipping metadata for document {}", documentKey);
+        }
+    }
+
+    private void process(String documentKey, String fileUrl) {
+        Path pdfFile = null;
+        try {
+            pdfFile = storageService.downloadToTempFile(fileUrl);
+            long byteSize = Files.size(pdfFile);
+
+            Integer pageCount;
+            String title;
+            byte[] previewJpeg;
+            try (PDDocument pdf = Loader.loadPDF(pdfFile.toFile(),
+                    MemoryUsageSetting.setupMixed(maxMainMemoryBytes).streamCache)) {
+                pageCount = pdf.getNumberOfPages();
+                title = trimTitle(pdf.getDocumentInformation().getTitle());
+                previewJpeg = pageCount > 0 ? renderFirstPage(pdf) : null;
+            }
+
+            String previewUrl = previewJpeg != null ? storageService.storePreviewImage(previewJpeg) : null;
+            apply(documentKey, fileUrl, pageCount, byteSize, title, previewUrl);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to extract metadata for document {}", documentKey, ex);
+        } finally {
+            if (pdfFile != null) {
+                try {
+                    Files.deleteIfExists(pdfFile);
+                } catch (IOException ignored) {
+                    // temp dir is cleaned on restart anyway
+                }
+            }
+        }
+    }
+
+    private byte[] renderFirstPage(PDDocument pdf) throws IOException {
+        PDPage page = pdf.getPage(0);
+        float pageWidth = page.getCropBox().getWidth();
+        float scale = pageWidth > 0 ? previewWidth / pageWidth : 1f;
+
+        PDFRenderer renderer = new PDFRenderer(pdf);
+        renderer.setSubsamplingAllowed(true); // don't decode embedded images at full resolution
+        BufferedImage image = renderer.renderImage(0, scale, ImageType.RGB);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        image.flush();
+        return out.toByteArray();
+    }
+
+    private void apply(String documentKey, String fileUrl, Integer pageCount, Long byteSize,
+                       String title, String previewUrl) {
+        repository.findByDocumentKey(documentKey)
+                // A newer upload may have replaced the file while we were rendering.
+                .filter(doc -> fileUrl.equals(doc.getFileUrl()))
+                .ifPresentOrElse(doc -> {
+                    doc.setPageCount(pageCount);
+                    doc.setByteSize(byteSize);
+                    doc.setTitle(title);
+                    doc.setPreviewUrl(previewUrl);
+                    repository.save(doc);
+
+                    Cache documents = cacheManager.getCache("documents");
+                    if (documents != null) {
+                        documents.clear();
+                    }
+                }, () -> {
+                    if (previewUrl != null) {
+                        storageService.deleteDocument(previewUrl);
+                    }
+                });
+    }
+
+    private String trimTitle(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        String trimmed = title.trim();
+        return trimmed.length() > 500 ? trimmed.substring(0, 500) : trimmed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,58 @@
+package org.buscheacademy.basketball.document;
+
+import org.buscheacademy.basketball.dto.SiteDocumentDto;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable snapshot of every site document, cached as a single entry.
+ * <p>
+ * ETags are derived from {@code uploadedAt}: a document's tag changes whenever it is
+ * re-uploaded (or its extracted metadata arrives), and the listing tag changes whenever
+ * any document is added, replaced or removed.
+ */
+public record DocumentRegistry(
+        List<SiteDocumentDto> documents,
+        Map<String, SiteDocumentDto> byKey,
+        Map<String, String> etagsByKey,
+        String etag
+) {
+
+    static DocumentRegistry of(List<SiteDocument> docs, Function<SiteDocument, SiteDocumentDto> mapper) {
+        List<SiteDocument> sorted = docs.stream()
+                .sorted(Comparator.comparing(SiteDocument::getDocumentKey))
+                .toList();
+
+        Map<String, SiteDocumentDto> byKey = new LinkedHashMap<>();
+        Map<String, String> etags = new LinkedHashMap<>();
+        StringBuilder version = new StringBuilder();
+        for (SiteDocument doc : sorted) {
+            // "-m" once the preview worker has filled in metadata for this upload
+            String stamp = doc.getDocumentKey() + "-" + uploadedMillis(doc)
+                    + (doc.getPageCount() != null ? "-m" : "");
+            byKey.put(doc.getDocumentKey(), mapper.apply(doc));
+            etags.put(doc.getDocumentKey(), "\"" + stamp + "\"");
+            version.append(stamp).append(';');
+        }
+
+        String etag = "\"docs-" + Integer.toHexString(version.toString().hashCode()) + "-" + sorted.size() + "\"";
+        return new DocumentRegistry(List.copyOf(byKey.values()), Map.copyOf(byKey), Map.copyOf(etags), etag);
+    }
+
+    public Optional<SiteDocumentDto> find(String key) {
+        return Optional.ofNullable(byKey.get(key));
+    }
+
+    public String etagFor(String key) {
+        return etagsByKey.get(key);
+    }
+
+    private static long uploadedMillis(SiteDocument doc) {
+        return doc.getUploadedAt() != null ? doc.getUploadedAt().toEpochMilli() : 0L;
+    }
+}
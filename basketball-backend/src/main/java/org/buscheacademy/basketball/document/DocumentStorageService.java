@@ -1,24 +1,37 @@
 package org.buscheacademy.basketball.document;
 
 import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.PresignUploadRequest;
+import org.buscheacademy.basketball.dto.PresignedUploadResponse;
+import org.buscheacademy.basketball.storage.PresignedUploadService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class DocumentStorageService {
 
-    private final S3Client s3Client;
+    private static final Set<String> DOCUMENT_CONTENT_TYPES = Set.of("application/pdf");
+
+    // Built on first use (see S3Config)
+    private final ObjectProvider<S3Client> s3Client;
+    private final PresignedUploadService presignedUploadService;
 
     @Value("${app.s3.bucket-name}")
     private String bucketName;
@@ -32,6 +45,9 @@ public class DocumentStorageService {
     @Value("${app.s3.document-prefix:documents/}")
     private String documentPrefix;
 
+    @Value("${app.upload.max-document-bytes:26214400}")
+    private long maxDocumentBytes;
+
     public String storeDocument(MultipartFile file) {
         if (!"application/pdf".equals(file.getContentType())) {
             throw new IllegalArgumentException("Only PDF files are accepted");
@@ -51,7 +67,7 @@ public class DocumentStorageService {
                     .acl(ObjectCannedACL.PUBLIC_READ)
                     .build();
 
-            s3Client.putObject(
+            s3Client.getObject().putObject(
                     putRequest,
                     RequestBody.fromInputStream(file.getInputStream(), file.getSize())
             );
@@ -63,13 +79,54 @@ public class DocumentStorageService {
     }
 
     public void deleteDocument(String fileUrl) {
-        String s3Key = URI.create(fileUrl).getPath().replaceFirst("^/", "");
-        s3Client.deleteObject(DeleteObjectRequest.builder()
+        s3Client.getObject().deleteObject(DeleteObjectRequest.builder()
                 .bucket(bucketName)
-                .key(s3Key)
+                .key(s3KeyOf(fileUrl))
                 .build());
     }
 
+    /**
+     * Streams a stored document to a temp file (caller deletes it), so large PDFs
+     * are never held in memory.
+     */
+    public Path downloadToTempFile(String fileUrl) throws IOException {
+        Path target = Files.createTempFile("site-document-", ".pdf");
+        Files.delete(target); // the SDK refuses to overwrite an existing file
+        s3Client.getObject().getObject(
+                GetObjectRequest.builder().bucket(bucketName).key(s3KeyOf(fileUrl)).build(),
+                ResponseTransformer.toFile(target)
+        );
+        return target;
+    }
+
+    public String storePreviewImage(byte[] jpegBytes) {
+        String key = documentPrefix + "previews/" + UUID.randomUUID() + ".jpg";
+
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType("image/jpeg")
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+
+        s3Client.getObject().putObject(putRequest, RequestBody.fromBytes(jpegBytes));
+        return buildPublicUrl(key);
+    }
+
+    // --- Direct browser uploads (presigned PUT) ---
+
+    public PresignedUploadResponse createDocumentUploadUrl(PresignUploadRequest request) {
+        return presignedUploadService.presignPut(documentPrefix, request, DOCUMENT_CONTENT_TYPES, maxDocumentBytes);
+    }
+
+    public String completeDocumentUpload(String objectKey) {
+        return presignedUploadService.completeUpload(documentPrefix, objectKey, DOCUMENT_CONTENT_TYPES, maxDocumentBytes);
+    }
+
+    private String s3KeyOf(String fileUrl) {
+        return URI.create(fileUrl).getPath().replaceFirst("^/", "");
+    }
+
     private String buildPublicUrl(String key) {
         if (publicBaseUrl != null && !publicBaseUrl.isBlank()) {
             if (publicBaseUrl.endsWith("/")) {
@@ -13,7 +13,8 @@ import java.time.Instant;
 public class SiteDocument {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "site_documents_seq")
+    @SequenceGenerator(name = "site_documents_seq", sequenceName = "site_documents_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 64)
@@ -24,4 +25,17 @@ public class SiteDocument {
 
     @Column(nullable = false)
     private Instant uploadedAt;
+
+    // ---- Filled in asynchronously by DocumentPreviewService after upload ----
+
+    private Integer pageCount;
+
+    private Long byteSize;
+
+    @Column(length = 500)
+    private String title;
+
+    // First-page JPEG preview
+    @Column(length = 1000)
+    private String previewUrl;
 }
@@ -1,50 +1,115 @@
 package org.buscheacademy.basketball.document;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.audit.AuditAction;
+import org.buscheacademy.basketball.audit.AuditEntityType;
+import org.buscheacademy.basketball.audit.AuditedChangeEvent;
 import org.buscheacademy.basketball.dto.SiteDocumentDto;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class SiteDocumentService {
 
     private final SiteDocumentRepository repository;
     private final DocumentStorageService storageService;
+    private final DocumentPreviewService previewService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public List<SiteDocument> getAll() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Optional<SiteDocument> getByKey(String key) {
         return repository.findByDocumentKey(key);
     }
 
+    // ---------- Public (cached) ----------
+
+    @Cacheable(cacheNames = "documents", key = "'registry'")
+    @Transactional(readOnly = true)
+    public DocumentRegistry getRegistry() {
+        return DocumentRegistry.of(repository.findAll(), this::toDto);
+    }
+
+    // ---------- Admin ----------
+
+    @CacheEvict(cacheNames = "documents", allEntries = true)
     public SiteDocument upsert(String key, String fileUrl) {
         SiteDocument doc = repository.findByDocumentKey(key)
                 .orElseGet(() -> SiteDocument.builder().documentKey(key).build());
+        SiteDocumentDto before = doc.getId() != null ? toDto(doc) : null;
+        String oldFileUrl = doc.getFileUrl();
+        String oldPreviewUrl = doc.getPreviewUrl();
         doc.setFileUrl(fileUrl);
         doc.setUploadedAt(Instant.now());
-        return repository.save(doc);
+        // Metadata belongs to the previous file; the preview worker fills it in again.
+        doc.setPageCount(null);
+        doc.setByteSize(null);
+        doc.setTitle(null);
+        doc.setPreviewUrl(null);
+        SiteDocument saved = repository.save(doc);
+        // No surrounding transaction: the row is committed by now, so nothing points at
+        // the replaced objects any more. A preview still being rendered for the old file
+        // is discarded by the preview worker itself.
+        if (oldFileUrl != null && !oldFileUrl.equals(fileUrl)) {
+            deleteQuietly(oldFileUrl);
+        }
+        deleteQuietly(oldPreviewUrl);
+        previewService.schedule(key, fileUrl);
+        eventPublisher.publishEvent(new AuditedChangeEvent(AuditEntityType.DOCUMENT, key,
+                before == null ? AuditAction.CREATE : AuditAction.UPDATE, before, toDto(saved)));
+        return saved;
     }
 
+    @CacheEvict(cacheNames = "documents", allEntries = true)
     public void deleteByKey(String key) {
         repository.findByDocumentKey(key).ifPresent(doc -> {
             if (doc.getFileUrl() != null && !doc.getFileUrl().isBlank()) {
                 storageService.deleteDocument(doc.getFileUrl());
             }
+            if (doc.getPreviewUrl() != null && !doc.getPreviewUrl().isBlank()) {
+                storageService.deleteDocument(doc.getPreviewUrl());
+            }
             repository.delete(doc);
+            eventPublisher.publishEvent(
+                    new AuditedChangeEvent(AuditEntityType.DOCUMENT, key, AuditAction.DELETE, toDto(doc), null));
         });
     }
 
+    // The new file is already live; a failed clean-up only leaves an orphan behind
+    private void deleteQuietly(String url) {
+        if (url == null || url.isBlank()) {
+            return;
+        }
+        try {
+            storageService.deleteDocument(url);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to delete replaced document object {}", url, ex);
+        }
+    }
+
     public SiteDocumentDto toDto(SiteDocument doc) {
         return new SiteDocumentDto(
                 doc.getId(),
                 doc.getDocumentKey(),
                 doc.getFileUrl(),
-                doc.getUploadedAt() != null ? doc.getUploadedAt().toString() : null
+                doc.getUploadedAt() != null ? doc.getUploadedAt().toString() : null,
+                doc.getPageCount(),
+                doc.getByteSize(),
+                doc.getTitle(),
+                doc.getPreviewUrl()
         );
     }
 }
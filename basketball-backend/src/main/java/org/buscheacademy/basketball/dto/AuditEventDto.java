@@ -0,0 +1,18 @@
+package org.buscheacademy.basketball.dto;
+
+import org.buscheacademy.basketball.audit.AuditAction;
+import org.buscheacademy.basketball.audit.AuditEntityType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AuditEventDto(
+        Long id,
+        LocalDateTime occurredAt,
+        String actor,             // admin email, or "system"
+        AuditEntityType entityType,
+        String entityId,
+        AuditAction action,
+        List<AuditFieldChangeDto> changes
+) {
+}
@@ -0,0 +1,8 @@
+package org.buscheacademy.basketball.dto;
+
+public record AuditFieldChangeDto(
+        String field,
+        Object from,    // null on create
+        Object to       // null on delete
+) {
+}
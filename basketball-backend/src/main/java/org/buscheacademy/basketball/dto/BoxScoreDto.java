@@ -0,0 +1,12 @@
+package org.buscheacademy.basketball.dto;
+
+import java.util.List;
+
+public record BoxScoreDto(
+        Long gameId,
+        int lastSequence,     // highest play sequence applied; a scorer resumes after it
+        StatLineDto us,
+        StatLineDto them,
+        List<PlayerBoxLineDto> players
+) {
+}
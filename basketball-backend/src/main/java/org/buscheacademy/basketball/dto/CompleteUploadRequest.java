@@ -0,0 +1,9 @@
+package org.buscheacademy.basketball.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record CompleteUploadRequest(
+        @NotBlank
+        String objectKey
+) {
+}
@@ -0,0 +1,12 @@
+package org.buscheacademy.basketball.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.List;
+
+public record CreateOrUpdateOpponentRequest(
+        @NotBlank String name,
+        String logoUrl,
+        List<String> aliases
+) {
+}
@@ -12,6 +12,7 @@ public record CreateOrUpdatePlayerRequest(
         String height,
         Integer gradYear,
         String country,
-        String photoUrl
+        String photoUrl,
+        String season             // optional; defaults to the current season
 ) {
 }
@@ -9,7 +9,9 @@ public record GameDto(
         Long teamId,
         String teamName,
         String opponent,
+        Long opponentId,
         LocalDateTime gameDateTime,
+        String season,
         HomeAway homeAway,
         String location,
         Integer scoreUs,
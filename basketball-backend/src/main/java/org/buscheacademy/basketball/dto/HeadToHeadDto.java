@@ -0,0 +1,14 @@
+package org.buscheacademy.basketball.dto;
+
+import java.util.List;
+
+public record HeadToHeadDto(
+        OpponentDto opponent,
+        int gamesPlayed,       // games with a final score
+        int wins,
+        int losses,
+        int pointsFor,
+        int pointsAgainst,
+        List<GameDto> games    // every meeting, oldest first
+) {
+}
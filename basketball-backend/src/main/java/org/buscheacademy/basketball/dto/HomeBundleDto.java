@@ -0,0 +1,9 @@
+package org.buscheacademy.basketball.dto;
+
+import java.util.List;
+
+public record HomeBundleDto(
+        List<GameDto> upcomingGames,
+        List<GameDto> recentGames
+) {
+}
@@ -0,0 +1,7 @@
+package org.buscheacademy.basketball.dto;
+
+public record ImportRowErrorDto(
+        int line,             // line in the uploaded file, header is line 1
+        String message
+) {
+}
@@ -0,0 +1,10 @@
+package org.buscheacademy.basketball.dto;
+
+public record LeaderDto(
+        Long playerId,
+        String name,          // null if the player is no longer on the roster
+        Integer jerseyNumber,
+        double value,         // total, or per-game average to one decimal
+        int gamesPlayed
+) {
+}
@@ -0,0 +1,11 @@
+package org.buscheacademy.basketball.dto;
+
+import org.buscheacademy.basketball.stats.Leaderboard;
+
+import java.util.List;
+
+public record LeaderboardDto(
+        Leaderboard category,
+        List<LeaderDto> leaders
+) {
+}
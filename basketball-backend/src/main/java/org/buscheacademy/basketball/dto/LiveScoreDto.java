@@ -0,0 +1,11 @@
+package org.buscheacademy.basketball.dto;
+
+public record LiveScoreDto(
+        Long gameId,
+        Long teamId,
+        String opponent,
+        Integer scoreUs,
+        Integer scoreThem,
+        Boolean win           // null if no score yet
+) {
+}
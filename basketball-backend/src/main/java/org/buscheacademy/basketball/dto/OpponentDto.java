@@ -0,0 +1,11 @@
+package org.buscheacademy.basketball.dto;
+
+import java.util.List;
+
+public record OpponentDto(
+        Long id,
+        String name,
+        String logoUrl,
+        List<String> aliases
+) {
+}
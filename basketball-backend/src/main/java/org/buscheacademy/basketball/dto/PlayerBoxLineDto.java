@@ -0,0 +1,9 @@
+package org.buscheacademy.basketball.dto;
+
+public record PlayerBoxLineDto(
+        Long playerId,
+        String name,          // null if the player is no longer on the roster
+        Integer jerseyNumber,
+        StatLineDto stats
+) {
+}
@@ -11,6 +11,7 @@ public record PlayerDto(
         String country,
         String photoUrl,
         Long teamId,
-        String teamName
+        String teamName,
+        String season
 ) {
 }
@@ -0,0 +1,10 @@
+package org.buscheacademy.basketball.dto;
+
+public record PlayerSeasonLineDto(
+        Long playerId,
+        String name,
+        Integer jerseyNumber,
+        int gamesPlayed,
+        StatLineDto totals
+) {
+}
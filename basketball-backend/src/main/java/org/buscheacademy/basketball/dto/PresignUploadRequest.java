@@ -0,0 +1,16 @@
+package org.buscheacademy.basketball.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+public record PresignUploadRequest(
+        // Used only to pick the object extension, e.g. "headshot.jpg"
+        String fileName,
+
+        @NotBlank
+        String contentType,
+
+        @Positive
+        long contentLength
+) {
+}
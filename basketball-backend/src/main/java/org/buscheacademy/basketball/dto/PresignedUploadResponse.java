@@ -0,0 +1,14 @@
+package org.buscheacademy.basketball.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record PresignedUploadResponse(
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,   // must be sent as-is with the PUT
+        String objectKey,
+        String publicUrl,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,19 @@
+package org.buscheacademy.basketball.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository and query statistics since {@code since} (startup or the last reset),
+ * each list ordered by total time, slowest first.
+ */
+public record QueryDiagnosticsDto(
+        LocalDateTime since,
+        long slowThresholdMs,
+        long statementsPrepared,
+        long entitiesLoaded,
+        long collectionsFetched,
+        List<RepositoryMethodStatsDto> repositoryMethods,
+        List<SqlQueryStatsDto> queries
+) {
+}
@@ -0,0 +1,33 @@
+package org.buscheacademy.basketball.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.buscheacademy.basketball.playbyplay.PlaySide;
+import org.buscheacademy.basketball.playbyplay.PlayType;
+
+public record RecordPlayRequest(
+        // Per game, assigned by the scorer's client; bounded because the box score keeps a bitmap
+        @NotNull
+        @Positive
+        @Max(100_000)
+        Integer sequence,
+
+        @NotNull
+        @Positive
+        @Max(10)
+        Integer period,
+
+        @PositiveOrZero
+        Integer clockSeconds,
+
+        @NotNull
+        PlaySide side,
+
+        @NotNull
+        PlayType type,
+
+        Long playerId
+) {
+}
@@ -0,0 +1,17 @@
+package org.buscheacademy.basketball.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * A batch of plays buffered by the scorer's client.
+ */
+public record RecordPlaysRequest(
+        @NotEmpty
+        @Size(max = 500)
+        List<@Valid RecordPlayRequest> plays
+) {
+}
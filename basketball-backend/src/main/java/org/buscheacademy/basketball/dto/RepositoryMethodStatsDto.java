@@ -0,0 +1,16 @@
+package org.buscheacademy.basketball.dto;
+
+/**
+ * Cumulative timings for one repository method, e.g. {@code GameRepository.findForImport}.
+ * Rows are what the method returned (list size, page content, 0/1 for Optional).
+ */
+public record RepositoryMethodStatsDto(
+        String method,
+        long calls,
+        long errors,
+        double totalMs,
+        double avgMs,
+        double maxMs,
+        long rows
+) {
+}
@@ -0,0 +1,17 @@
+package org.buscheacademy.basketball.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a roster CSV import. With any errors nothing is written and the
+ * counts are 0.
+ */
+public record RosterImportResultDto(
+        Long teamId,
+        String season,
+        int created,
+        int updated,
+        int unchanged,
+        List<ImportRowErrorDto> errors
+) {
+}
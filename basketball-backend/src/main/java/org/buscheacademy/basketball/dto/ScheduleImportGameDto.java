@@ -0,0 +1,25 @@
+package org.buscheacademy.basketball.dto;
+
+import org.buscheacademy.basketball.game.HomeAway;
+
+import java.time.LocalDateTime;
+
+/**
+ * One game of an import preview. {@code opponentId} is null when the opponent is new to
+ * the directory; {@code existingGameId} is set when the game is already on the schedule.
+ */
+public record ScheduleImportGameDto(
+        int line,
+        Long teamId,
+        String teamName,
+        String opponent,
+        Long opponentId,
+        LocalDateTime gameDateTime,
+        String season,
+        HomeAway homeAway,
+        String location,
+        boolean conferenceGame,
+        String notes,
+        Long existingGameId
+) {
+}
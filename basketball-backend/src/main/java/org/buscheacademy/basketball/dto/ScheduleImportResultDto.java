@@ -0,0 +1,17 @@
+package org.buscheacademy.basketball.dto;
+
+import java.util.List;
+
+/**
+ * Diff between an uploaded schedule and the games already booked. The preview is
+ * applied by sending the same file back with its {@code planId}; {@code applied} says
+ * whether this response did that.
+ */
+public record ScheduleImportResultDto(
+        String planId,
+        boolean applied,
+        List<ScheduleImportGameDto> create,
+        List<ScheduleImportGameDto> existing,
+        List<ImportRowErrorDto> errors
+) {
+}
@@ -0,0 +1,12 @@
+package org.buscheacademy.basketball.dto;
+
+import org.buscheacademy.basketball.search.SearchResultType;
+
+public record SearchResultDto(
+        SearchResultType type,
+        Long id,
+        String title,
+        String subtitle,   // e.g. "#23 · G · Canada" for a player; may be null
+        Long teamId        // players only, for linking to the roster
+) {
+}
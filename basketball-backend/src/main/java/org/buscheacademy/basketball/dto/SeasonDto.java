@@ -0,0 +1,8 @@
+package org.buscheacademy.basketball.dto;
+
+public record SeasonDto(
+        String season,
+        boolean current,
+        boolean closed
+) {
+}
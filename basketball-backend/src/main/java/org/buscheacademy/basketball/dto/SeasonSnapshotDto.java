@@ -0,0 +1,14 @@
+package org.buscheacademy.basketball.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SeasonSnapshotDto(
+        String season,
+        boolean closed,
+        LocalDateTime closedAt,   // null while the season is open
+        List<TeamDto> teams,
+        List<GameDto> games,
+        List<PlayerDto> players
+) {
+}
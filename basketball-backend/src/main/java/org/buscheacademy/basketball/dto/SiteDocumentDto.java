@@ -4,6 +4,10 @@ public record SiteDocumentDto(
         Long id,
         String documentKey,
         String fileUrl,
-        String uploadedAt
+        String uploadedAt,
+        Integer pageCount,    // null until the preview worker has processed the file
+        Long byteSize,
+        String title,
+        String previewUrl
 ) {
 }
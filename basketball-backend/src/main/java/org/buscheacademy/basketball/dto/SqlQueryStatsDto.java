@@ -0,0 +1,13 @@
+package org.buscheacademy.basketball.dto;
+
+/**
+ * Hibernate's statistics for one JPQL/native query string (Hibernate times in whole ms).
+ */
+public record SqlQueryStatsDto(
+        String query,
+        long executions,
+        long totalMs,
+        long maxMs,
+        long rows
+) {
+}
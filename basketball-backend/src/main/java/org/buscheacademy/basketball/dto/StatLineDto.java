@@ -0,0 +1,20 @@
+package org.buscheacademy.basketball.dto;
+
+public record StatLineDto(
+        int points,
+        int fieldGoalsMade,
+        int fieldGoalsAttempted,
+        int threesMade,
+        int threesAttempted,
+        int freeThrowsMade,
+        int freeThrowsAttempted,
+        int offensiveRebounds,
+        int defensiveRebounds,
+        int rebounds,
+        int assists,
+        int steals,
+        int blocks,
+        int turnovers,
+        int fouls
+) {
+}
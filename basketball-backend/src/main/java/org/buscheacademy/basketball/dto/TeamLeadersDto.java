@@ -0,0 +1,11 @@
+package org.buscheacademy.basketball.dto;
+
+import java.util.List;
+
+public record TeamLeadersDto(
+        Long teamId,
+        String season,
+        List<LeaderboardDto> leaderboards,
+        List<PlayerSeasonLineDto> players   // every player with plays this season, by points
+) {
+}
@@ -0,0 +1,20 @@
+package org.buscheacademy.basketball.dto;
+
+public record TeamSeasonStatsDto(
+        Long teamId,
+        String season,
+        int gamesPlayed,
+        int wins,
+        int losses,
+        int homeWins,
+        int homeLosses,
+        int awayWins,
+        int awayLosses,
+        int conferenceWins,
+        int conferenceLosses,
+        int pointsFor,
+        int pointsAgainst,
+        int pointDifferential,
+        String streak            // "W3", "L1", or null before the first result
+) {
+}
@@ -0,0 +1,15 @@
+package org.buscheacademy.basketball.dto;
+
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Both scores, or both null to clear the result.
+ */
+public record UpdateGameScoreRequest(
+        @PositiveOrZero
+        Integer scoreUs,
+
+        @PositiveOrZero
+        Integer scoreThem
+) {
+}
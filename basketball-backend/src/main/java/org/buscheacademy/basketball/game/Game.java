@@ -3,6 +3,7 @@ package org.buscheacademy.basketball.game;
 import jakarta.persistence.*;
 import lombok.*;
 import org.buscheacademy.basketball.common.BaseEntity;
+import org.buscheacademy.basketball.season.Seasons;
 import org.buscheacademy.basketball.team.Team;
 
 import java.time.LocalDateTime;
@@ -17,7 +18,8 @@ import java.time.LocalDateTime;
 public class Game extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -29,12 +31,27 @@ public class Game extends BaseEntity {
             foreignKey = @ForeignKey(name = "fk_games_team"))
     private Team team;
 
+    /**
+     * Opponent name as shown on this game.
+     */
     @Column(nullable = false, length = 150)
     private String opponent;
 
+    /**
+     * The opponent directory entry {@link #opponent} resolved to (see OpponentService).
+     */
+    @Column(name = "opponent_id", nullable = false)
+    private Long opponentId;
+
     @Column(nullable = false)
     private LocalDateTime gameDateTime;
 
+    /**
+     * Season label ("2025-2026"), always derived from {@link #gameDateTime}.
+     */
+    @Column(nullable = false, length = 9)
+    private String season;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 10)
     private HomeAway homeAway;
@@ -61,4 +78,10 @@ public class Game extends BaseEntity {
      */
     @Column(length = 1000)
     private String notes;
+
+    @PrePersist
+    @PreUpdate
+    protected void assignSeason() {
+        this.season = Seasons.of(gameDateTime);
+    }
 }
@@ -0,0 +1,21 @@
+package org.buscheacademy.basketball.game;
+
+import org.buscheacademy.basketball.dto.GameDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@link GameService} after every game write.
+ * {@code before} is null for a create, {@code after} is null for a delete.
+ * <p>
+ * Listeners run after commit on the writing request's thread, so two writes to one game
+ * can arrive in either order. {@code changedAt} is taken while the write holds the game's
+ * row lock, which makes it increase in commit order for that game; listeners that keep
+ * state compare it to drop the older of two events.
+ */
+public record GameChangedEvent(GameDto before, GameDto after, LocalDateTime changedAt) {
+
+    public Long gameId() {
+        return after != null ? after.id() : before.id();
+    }
+}
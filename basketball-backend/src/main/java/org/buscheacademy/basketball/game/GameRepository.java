@@ -1,23 +1,132 @@
 package org.buscheacademy.basketball.game;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.buscheacademy.basketball.common.ReadOnlyQuery;
+import org.buscheacademy.basketball.stats.GameResult;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface GameRepository extends JpaRepository<Game, Long> {
 
+    // Public read finders: entities loaded read-only (no dirty-checking snapshots) and
+    // never flushed. Game.team stays lazy; services resolve it inside their read-only tx.
+
     // Full schedule ordered by date/time
+    @ReadOnlyQuery
     List<Game> findAllByOrderByGameDateTimeAsc();
 
     // Upcoming games (all teams)
-    List<Game> findByGameDateTimeAfterOrderByGameDateTimeAsc(LocalDateTime now);
+    @ReadOnlyQuery
+    List<Game> findByGameDateTimeAfterOrderByGameDateTimeAsc(LocalDateTime now, Limit limit);
+
+    // Recent games (all teams)
+    @ReadOnlyQuery
+    List<Game> findByGameDateTimeBeforeOrderByGameDateTimeDesc(LocalDateTime now, Limit limit);
+
+    // Keyset-paginated schedule on (gameDateTime, id): first page, then everything after a cursor
+    @ReadOnlyQuery
+    List<Game> findAllByOrderByGameDateTimeAscIdAsc(Limit limit);
+
+    @ReadOnlyQuery
+    @Query("""
+            select g from Game g
+            where (g.gameDateTime, g.id) > (:afterDateTime, :afterId)
+            order by g.gameDateTime asc, g.id asc
+            """)
+    List<Game> findSchedulePageAfter(@Param("afterDateTime") LocalDateTime afterDateTime,
+                                     @Param("afterId") Long afterId,
+                                     Limit limit);
+
+    // Full history export: read through a JDBC cursor in batches instead of one big list.
+    // Team is fetched in the same row so the export never goes back for it. Spells out the
+    // read-only hints itself: a method-level @QueryHints replaces @ReadOnlyQuery's.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500")
+    })
+    @Query("select g from Game g join fetch g.team order by g.gameDateTime asc, g.id asc")
+    Stream<Game> streamAllForExport();
+
+    // One season's schedule (served by idx_games_season_date_time)
+    @ReadOnlyQuery
+    List<Game> findBySeasonOrderByGameDateTimeAsc(String season);
+
+    @Query("select distinct g.season from Game g")
+    List<String> findDistinctSeasons();
+
+    // Every final score, for rebuilding the in-memory season stats
+    @Query("""
+            select new org.buscheacademy.basketball.stats.GameResult(
+                g.id, g.team.id, g.season, g.gameDateTime, g.homeAway, g.conferenceGame,
+                g.scoreUs, g.scoreThem)
+            from Game g
+            where g.scoreUs is not null and g.scoreThem is not null
+            """)
+    List<GameResult> findAllResults();
+
+    // Single-game page: the row with its team in one query
+    @ReadOnlyQuery
+    @Query("select g from Game g join fetch g.team where g.id = :id")
+    Optional<Game> findWithTeamById(@Param("id") Long id);
+
+    // Every game write: the row stays locked until commit, so concurrent writes to one game
+    // (play-by-play batches, score PATCHes, edits) run one after the other and stamp their
+    // GameChangedEvent in commit order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Game g join fetch g.team where g.id = :id")
+    Optional<Game> findWithTeamByIdForUpdate(@Param("id") Long id);
+
+    // Once a game has a play log, its score is derived from it
+    @Query(value = "select exists (select 1 from game_plays where game_id = :id)", nativeQuery = true)
+    boolean hasPlays(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+            update Game g
+            set g.scoreUs = :scoreUs, g.scoreThem = :scoreThem, g.updatedAt = :updatedAt
+            where g.id = :id
+            """)
+    int updateScore(@Param("id") Long id,
+                    @Param("scoreUs") Integer scoreUs,
+                    @Param("scoreThem") Integer scoreThem,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Opponent merge: move every game of one opponent to another
+    @Modifying
+    @Query("update Game g set g.opponentId = :targetId where g.opponentId = :sourceId")
+    int reassignOpponent(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId);
+
+    // Calendar feeds: the current season onwards
+    @ReadOnlyQuery
+    List<Game> findByTeamIdAndGameDateTimeGreaterThanEqualOrderByGameDateTimeAsc(Long teamId, LocalDateTime from);
 
-    // Recent games (all teams), limited by service layer
-    List<Game> findByGameDateTimeBeforeOrderByGameDateTimeDesc(LocalDateTime now);
+    @ReadOnlyQuery
+    @Query("select g from Game g join fetch g.team where g.gameDateTime >= :from order by g.gameDateTime asc, g.id asc")
+    List<Game> findAllFrom(@Param("from") LocalDateTime from);
 
-    // If you want per-team versions:
-    List<Game> findByTeamIdOrderByGameDateTimeAsc(Long teamId);
+    // Schedule import: everything already booked for these teams in the file's date range
+    @ReadOnlyQuery
+    @Query("""
+            select g from Game g join fetch g.team
+            where g.team.id in :teamIds and g.gameDateTime between :from and :to
+            """)
+    List<Game> findForImport(@Param("teamIds") Collection<Long> teamIds,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
 
     List<Game> findByTeamIdAndGameDateTimeAfterOrderByGameDateTimeAsc(Long teamId, LocalDateTime now);
 
@@ -1,17 +1,38 @@
 package org.buscheacademy.basketball.game;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.common.Cursors;
 import org.buscheacademy.basketball.dto.CreateOrUpdateGameRequest;
+import org.buscheacademy.basketball.dto.CursorPage;
 import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.UpdateGameScoreRequest;
+import org.buscheacademy.basketball.opponent.OpponentService;
+import org.buscheacademy.basketball.season.SeasonGuard;
+import org.buscheacademy.basketball.season.Seasons;
 import org.buscheacademy.basketball.team.Team;
 import org.buscheacademy.basketball.team.TeamService;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -19,10 +40,16 @@ public class GameService {
 
     private final GameRepository gameRepository;
     private final TeamService teamService;
+    private final SeasonGuard seasonGuard;
+    private final OpponentService opponentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     // ---------- Public read methods ----------
 
     @Cacheable("scheduleFull")
+    @Transactional(readOnly = true)
     public List<GameDto> getFullSchedule() {
         return gameRepository.findAllByOrderByGameDateTimeAsc()
                 .stream()
@@ -31,38 +58,142 @@ public class GameService {
     }
 
     @Cacheable(cacheNames = "scheduleUpcoming", key = "#limit")
+    @Transactional(readOnly = true)
     public List<GameDto> getUpcomingGames(int limit) {
         LocalDateTime now = LocalDateTime.now();
-        return gameRepository.findByGameDateTimeAfterOrderByGameDateTimeAsc(now)
+        return gameRepository.findByGameDateTimeAfterOrderByGameDateTimeAsc(now, Limit.of(limit))
                 .stream()
-                .limit(limit)
                 .map(this::toDto)
                 .toList();
     }
 
     @Cacheable(cacheNames = "scheduleRecent", key = "#limit")
+    @Transactional(readOnly = true)
     public List<GameDto> getRecentGames(int limit) {
         LocalDateTime now = LocalDateTime.now();
-        return gameRepository.findByGameDateTimeBeforeOrderByGameDateTimeDesc(now)
+        return gameRepository.findByGameDateTimeBeforeOrderByGameDateTimeDesc(now, Limit.of(limit))
                 .stream()
-                .limit(limit)
                 .map(this::toDto)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public GameDto getGame(Long id) {
+        return gameRepository.findWithTeamById(id)
+                .map(this::toDto)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found: " + id));
+    }
+
+    /**
+     * Same as {@link #getFullSchedule()} but always read from the database, for in-memory
+     * indexes that must not start from a cached copy that is about to be evicted.
+     */
+    @Transactional(readOnly = true)
+    public List<GameDto> loadAllGames() {
+        return gameRepository.findAllByOrderByGameDateTimeAsc()
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    // Uncached: the calendar feeds keep their own rendered copy per team
+    @Transactional(readOnly = true)
+    public List<GameDto> getTeamScheduleFrom(Long teamId, LocalDateTime from) {
+        return gameRepository.findByTeamIdAndGameDateTimeGreaterThanEqualOrderByGameDateTimeAsc(teamId, from)
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<GameDto> getScheduleFrom(LocalDateTime from) {
+        return gameRepository.findAllFrom(from)
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<GameDto> getSeasonGames(String season) {
+        return gameRepository.findBySeasonOrderByGameDateTimeAsc(season)
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> getSeasonNames() {
+        return gameRepository.findDistinctSeasons();
+    }
+
+    /**
+     * Keyset-paginated schedule, oldest first. Only the first page (no cursor) is cached;
+     * later pages are cheap index range scans.
+     */
+    @Cacheable(cacheNames = "schedulePage", key = "#size", condition = "#cursor == null")
+    @Transactional(readOnly = true)
+    public CursorPage<GameDto> getSchedulePage(String cursor, int size) {
+        List<Game> rows;
+        if (cursor == null) {
+            rows = gameRepository.findAllByOrderByGameDateTimeAscIdAsc(Limit.of(size + 1));
+        } else {
+            ScheduleKey after = Cursors.decode(cursor, 2,
+                    parts -> new ScheduleKey(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1])));
+            rows = gameRepository.findSchedulePageAfter(after.gameDateTime(), after.id(), Limit.of(size + 1));
+        }
+        List<GameDto> games = rows.stream().map(this::toDto).toList();
+        return Cursors.page(games, size, game -> Cursors.encode(game.gameDateTime(), game.id()));
+    }
+
+    private record ScheduleKey(LocalDateTime gameDateTime, Long id) {
+    }
+
+    /**
+     * Writes every game ever stored as a JSON array, one element at a time.
+     * <p>
+     * Rows come off a JDBC cursor ({@link GameRepository#streamAllForExport}) and each
+     * entity is detached once written, so heap use doesn't grow with the number of
+     * seasons. Must run inside this read-only transaction for the cursor to stay open.
+     */
+    @Transactional(readOnly = true)
+    public void exportFullSchedule(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(GameDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<Game> games = gameRepository.streamAllForExport()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<Game> it = games.iterator();
+            while (it.hasNext()) {
+                Game game = it.next();
+                writer.writeValue(generator, toDto(game));
+                entityManager.detach(game);
+            }
+            generator.writeEndArray();
+        }
+    }
+
     // ---------- Admin CRUD methods ----------
 
     @Caching(evict = {
             @CacheEvict(cacheNames = "scheduleFull", allEntries = true),
             @CacheEvict(cacheNames = "scheduleUpcoming", allEntries = true),
-            @CacheEvict(cacheNames = "scheduleRecent", allEntries = true)
+            @CacheEvict(cacheNames = "scheduleRecent", allEntries = true),
+            @CacheEvict(cacheNames = "schedulePage", allEntries = true),
+            @CacheEvict(cacheNames = "homeBundle", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true),
+            @CacheEvict(cacheNames = "seasons", allEntries = true)
     })
+    @Transactional
     public GameDto createGame(CreateOrUpdateGameRequest request) {
+        seasonGuard.requireOpen(Seasons.of(request.gameDateTime()));
         Team team = teamService.getByIdOrThrow(request.teamId());
 
         Game game = Game.builder()
                 .team(team)
                 .opponent(request.opponent())
+                .opponentId(opponentService.resolveId(request.opponent()))
                 .gameDateTime(request.gameDateTime())
                 .homeAway(request.homeAway())
                 .location(request.location())
@@ -72,22 +203,35 @@ public class GameService {
                 .notes(request.notes())
                 .build();
 
-        return toDto(gameRepository.save(game));
+        Game saved = gameRepository.save(game);
+        GameDto created = toDto(saved);
+        eventPublisher.publishEvent(new GameChangedEvent(null, created, saved.getUpdatedAt()));
+        return created;
     }
 
     @Caching(evict = {
             @CacheEvict(cacheNames = "scheduleFull", allEntries = true),
             @CacheEvict(cacheNames = "scheduleUpcoming", allEntries = true),
-            @CacheEvict(cacheNames = "scheduleRecent", allEntries = true)
+            @CacheEvict(cacheNames = "scheduleRecent", allEntries = true),
+            @CacheEvict(cacheNames = "schedulePage", allEntries = true),
+            @CacheEvict(cacheNames = "homeBundle", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true),
+            @CacheEvict(cacheNames = "seasons", allEntries = true)
     })
+    @Transactional
     public GameDto updateGame(Long id, CreateOrUpdateGameRequest request) {
-        Game game = gameRepository.findById(id)
+        Game game = gameRepository.findWithTeamByIdForUpdate(id)
                 .orElseThrow(() -> new IllegalArgumentException("Game not found: " + id));
+        seasonGuard.requireOpen(game.getSeason());
+        GameDto before = toDto(game);
+        seasonGuard.requireOpen(Seasons.of(request.gameDateTime()));
+        requireNoPlayLog(before, request.scoreUs(), request.scoreThem());
 
         Team team = teamService.getByIdOrThrow(request.teamId());
 
         game.setTeam(team);
         game.setOpponent(request.opponent());
+        game.setOpponentId(opponentService.resolveId(request.opponent()));
         game.setGameDateTime(request.gameDateTime());
         game.setHomeAway(request.homeAway());
         game.setLocation(request.location());
@@ -96,44 +240,134 @@ public class GameService {
         game.setConferenceGame(request.conferenceGame());
         game.setNotes(request.notes());
 
-        return toDto(gameRepository.save(game));
+        // Flush so the @PreUpdate season and timestamp are in the returned DTO and the event
+        Game saved = gameRepository.saveAndFlush(game);
+        GameDto after = toDto(saved);
+        eventPublisher.publishEvent(new GameChangedEvent(before, after, saved.getUpdatedAt()));
+        return after;
     }
 
     @Caching(evict = {
             @CacheEvict(cacheNames = "scheduleFull", allEntries = true),
             @CacheEvict(cacheNames = "scheduleUpcoming", allEntries = true),
-            @CacheEvict(cacheNames = "scheduleRecent", allEntries = true)
+            @CacheEvict(cacheNames = "scheduleRecent", allEntries = true),
+            @CacheEvict(cacheNames = "schedulePage", allEntries = true),
+            @CacheEvict(cacheNames = "homeBundle", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true),
+            @CacheEvict(cacheNames = "seasons", allEntries = true)
     })
+    @Transactional
     public void deleteGame(Long id) {
-        if (!gameRepository.existsById(id)) {
-            throw new IllegalArgumentException("Game not found: " + id);
+        Game game = gameRepository.findWithTeamByIdForUpdate(id)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found: " + id));
+        seasonGuard.requireOpen(game.getSeason());
+        GameDto before = toDto(game);
+        gameRepository.delete(game);
+        eventPublisher.publishEvent(new GameChangedEvent(before, null, LocalDateTime.now()));
+    }
+
+    /**
+     * Score-only update for in-game scoring: one locking primary-key read and one targeted
+     * UPDATE. Cached schedule lists are patched in place by {@link ScheduleCachePatcher} rather
+     * than evicted; only the serialized home bundle is dropped.
+     */
+    @CacheEvict(cacheNames = "homeBundle", allEntries = true)
+    @Transactional
+    public GameDto updateScore(Long id, UpdateGameScoreRequest request) {
+        if ((request.scoreUs() == null) != (request.scoreThem() == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Set both scores or neither");
+        }
+        GameDto before = lockForScoring(id);
+        seasonGuard.requireOpen(before.season());
+        requireNoPlayLog(before, request.scoreUs(), request.scoreThem());
+        return writeScore(before, request.scoreUs(), request.scoreThem());
+    }
+
+    /**
+     * Locks the game row for the rest of the caller's transaction and reads it fresh.
+     * Play-by-play batches for one game take turns, so each one sums a log that already
+     * includes the previous batch.
+     */
+    @Transactional
+    public GameDto lockForScoring(Long id) {
+        return gameRepository.findWithTeamByIdForUpdate(id)
+                .map(this::toDto)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found: " + id));
+    }
+
+    /**
+     * Stores the score derived from the play log; {@code game} is the row read by
+     * {@link #lockForScoring(Long)}.
+     */
+    @CacheEvict(cacheNames = "homeBundle", allEntries = true)
+    @Transactional
+    public GameDto applyPlayScore(GameDto game, int scoreUs, int scoreThem) {
+        return writeScore(game, scoreUs, scoreThem);
+    }
+
+    // The caller holds the row lock, so "now" orders this write after the previous one
+    private GameDto writeScore(GameDto before, Integer scoreUs, Integer scoreThem) {
+        LocalDateTime now = LocalDateTime.now();
+        gameRepository.updateScore(before.id(), scoreUs, scoreThem, now);
+
+        GameDto after = withScore(before, scoreUs, scoreThem);
+        eventPublisher.publishEvent(new GameChangedEvent(before, after, now));
+        return after;
+    }
+
+    // Manual scores would drift from the log until the next replay
+    private void requireNoPlayLog(GameDto game, Integer scoreUs, Integer scoreThem) {
+        boolean changed = !Objects.equals(game.scoreUs(), scoreUs) || !Objects.equals(game.scoreThem(), scoreThem);
+        if (changed && gameRepository.hasPlays(game.id())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Game " + game.id() + " has play-by-play; its score comes from the play log");
         }
-        gameRepository.deleteById(id);
     }
 
     // ---------- Mapper ----------
 
-    private GameDto toDto(Game game) {
+    GameDto toDto(Game game) {
         Integer us = game.getScoreUs();
         Integer them = game.getScoreThem();
-        Boolean win = null;
-        if (us != null && them != null) {
-            win = us > them;
-        }
 
         return new GameDto(
                 game.getId(),
                 game.getTeam().getId(),
                 game.getTeam().getName(),
                 game.getOpponent(),
+                game.getOpponentId(),
                 game.getGameDateTime(),
+                game.getSeason(),
                 game.getHomeAway(),
                 game.getLocation(),
                 us,
                 them,
-                win,
+                win(us, them),
                 game.isConferenceGame(),
                 game.getNotes()
         );
     }
+
+    private static GameDto withScore(GameDto game, Integer us, Integer them) {
+        return new GameDto(
+                game.id(),
+                game.teamId(),
+                game.teamName(),
+                game.opponent(),
+                game.opponentId(),
+                game.gameDateTime(),
+                game.season(),
+                game.homeAway(),
+                game.location(),
+                us,
+                them,
+                win(us, them),
+                game.conferenceGame(),
+                game.notes()
+        );
+    }
+
+    private static Boolean win(Integer us, Integer them) {
+        return us != null && them != null ? us > them : null;
+    }
 }
@@ -0,0 +1,115 @@
+package org.buscheacademy.basketball.game;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.CursorPage;
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.SeasonSnapshotDto;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Applies score-only game changes to the cached schedule lists in place.
+ * <p>
+ * A new score doesn't change which games a list holds or their order, so the cached
+ * entry can be rewritten with the one game swapped instead of being evicted and
+ * reloaded. Any other kind of change is left to the write method's evictions.
+ * <p>
+ * Events are applied one at a time, and one that is older than the last change seen for
+ * its game is dropped; otherwise two close score writes landing in reverse order would
+ * leave the older score cached until the entries expire.
+ */
+@Component
+@RequiredArgsConstructor
+class ScheduleCachePatcher {
+
+    private static final List<String> GAME_LIST_CACHES = List.of(
+            "scheduleFull", "scheduleUpcoming", "scheduleRecent", "schedulePage", "seasonLive");
+
+    private final CacheManager cacheManager;
+
+    // Guarded by "this"; one timestamp per game written since startup
+    private final Map<Long, LocalDateTime> lastChanged = new HashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGameChanged(GameChangedEvent event) {
+        // Every kind of write counts, so a late score can't undo a newer edit either
+        LocalDateTime seen = lastChanged.get(event.gameId());
+        if (seen != null && !event.changedAt().isAfter(seen)) {
+            return;
+        }
+        lastChanged.put(event.gameId(), event.changedAt());
+
+        GameDto before = event.before();
+        GameDto after = event.after();
+        if (before == null || after == null || !sameFixture(before, after)) {
+            return;
+        }
+        for (String cacheName : GAME_LIST_CACHES) {
+            if (cacheManager.getCache(cacheName) instanceof CaffeineCache cache) {
+                Cache<Object, Object> entries = cache.getNativeCache();
+                entries.asMap().replaceAll((key, value) -> patch(value, after));
+            }
+        }
+    }
+
+    private static Object patch(Object value, GameDto game) {
+        if (value instanceof List<?> games) {
+            return replace(games, game);
+        }
+        if (value instanceof CursorPage<?> page) {
+            List<?> items = replace(page.items(), game);
+            return items == page.items() ? page : new CursorPage<>(items, page.nextCursor());
+        }
+        if (value instanceof SeasonSnapshotDto snapshot) {
+            List<?> games = replace(snapshot.games(), game);
+            if (games == snapshot.games()) {
+                return snapshot;
+            }
+            return new SeasonSnapshotDto(snapshot.season(), snapshot.closed(), snapshot.closedAt(),
+                    snapshot.teams(), castGames(games), snapshot.players());
+        }
+        return value;
+    }
+
+    // Returns the same list when the game isn't in it, so untouched entries stay as they are
+    private static List<?> replace(List<?> games, GameDto game) {
+        for (int i = 0; i < games.size(); i++) {
+            if (games.get(i) instanceof GameDto cached && cached.id().equals(game.id())) {
+                List<Object> patched = new ArrayList<>(games);
+                patched.set(i, game);
+                return List.copyOf(patched);
+            }
+        }
+        return games;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<GameDto> castGames(List<?> games) {
+        return (List<GameDto>) games;
+    }
+
+    // Everything but the score fields unchanged
+    private static boolean sameFixture(GameDto before, GameDto after) {
+        return before.id().equals(after.id())
+                && Objects.equals(before.teamId(), after.teamId())
+                && Objects.equals(before.teamName(), after.teamName())
+                && Objects.equals(before.opponent(), after.opponent())
+                && Objects.equals(before.opponentId(), after.opponentId())
+                && Objects.equals(before.gameDateTime(), after.gameDateTime())
+                && Objects.equals(before.season(), after.season())
+                && before.homeAway() == after.homeAway()
+                && Objects.equals(before.location(), after.location())
+                && before.conferenceGame() == after.conferenceGame()
+                && Objects.equals(before.notes(), after.notes());
+    }
+}
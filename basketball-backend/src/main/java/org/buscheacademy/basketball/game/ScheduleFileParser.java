@@ -0,0 +1,438 @@
+package org.buscheacademy.basketball.game;
+
+import org.buscheacademy.basketball.common.CsvReader;
+import org.buscheacademy.basketball.dto.ImportRowErrorDto;
+import org.buscheacademy.basketball.dto.TeamDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalQuery;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns an uploaded schedule (CSV or iCalendar) into game entries, one record or VEVENT
+ * at a time. Problems are reported per line and the offending entry is dropped; nothing
+ * here touches the database.
+ */
+class ScheduleFileParser {
+
+    /**
+     * One game as read from the file. {@code teamId} is null when the file doesn't say
+     * which of our teams is playing.
+     */
+    record Entry(int line, Long teamId, LocalDateTime gameDateTime, String opponent, HomeAway homeAway,
+                 String location, boolean conferenceGame, String notes) {
+    }
+
+    private static final List<DateTimeFormatter> DATES = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("M/d/uuuu"),
+            DateTimeFormatter.ofPattern("M/d/uu"));
+
+    private static final List<DateTimeFormatter> TIMES = List.of(
+            DateTimeFormatter.ofPattern("H:mm"),
+            caseInsensitive("h:mm a"),
+            caseInsensitive("h:mma"),
+            caseInsensitive("h a"),
+            caseInsensitive("ha"));
+
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    // "Regional vs Central", "Regional @ Central", "Central at Regional (W 60-52)"
+    private static final Pattern MATCHUP =
+            Pattern.compile("^(.+?)\\s+(vs\\.?|v\\.?|@|at)\\s+(.+?)(\\s+\\([^)]*\\))?$", Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, TeamDto> teamsByKey;
+    private final ZoneId timeZone;
+    private final int maxEntries;
+    private final List<ImportRowErrorDto> errors;
+
+    ScheduleFileParser(Map<String, TeamDto> teamsByKey, ZoneId timeZone, int maxEntries,
+                       List<ImportRowErrorDto> errors) {
+        this.teamsByKey = teamsByKey;
+        this.timeZone = timeZone;
+        this.maxEntries = maxEntries;
+        this.errors = errors;
+    }
+
+    static boolean looksLikeIcs(String filename, String firstLine) {
+        return (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".ics"))
+                || (firstLine != null && firstLine.strip().replace("\uFEFF", "").equalsIgnoreCase("BEGIN:VCALENDAR"));
+    }
+
+    static String teamKey(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // ---------- CSV ----------
+
+    private enum Column {
+        TEAM("team"),
+        DATE("date"),
+        TIME("time", "tipoff", "start"),
+        DATE_TIME("dateTime", "gameDateTime"),
+        OPPONENT("opponent", "vs", "against"),
+        HOME_AWAY("homeAway", "site", "ha"),
+        LOCATION("location", "venue", "gym"),
+        CONFERENCE("conference", "conferenceGame", "league"),
+        NOTES("notes", "note", "comments");
+
+        private final String[] headers;
+
+        Column(String... headers) {
+            this.headers = headers;
+        }
+
+        static Column forHeader(String header) {
+            String key = header.replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT);
+            for (Column column : values()) {
+                for (String candidate : column.headers) {
+                    if (candidate.toLowerCase(Locale.ROOT).equals(key)) {
+                        return column;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    boolean parseCsv(Reader input, Consumer<Entry> sink) throws IOException {
+        try (CsvReader reader = new CsvReader(input)) {
+            List<String> header = reader.next();
+            if (header == null) {
+                errors.add(new ImportRowErrorDto(1, "File is empty"));
+                return false;
+            }
+            Map<Column, Integer> positions = new EnumMap<>(Column.class);
+            for (int i = 0; i < header.size(); i++) {
+                Column column = Column.forHeader(header.get(i));
+                if (column != null) {
+                    positions.putIfAbsent(column, i);
+                }
+            }
+            if (!positions.containsKey(Column.OPPONENT)) {
+                errors.add(new ImportRowErrorDto(1, "Missing column: opponent"));
+            }
+            if (!positions.containsKey(Column.DATE_TIME) && !positions.containsKey(Column.DATE)) {
+                errors.add(new ImportRowErrorDto(1, "Missing column: date (or dateTime)"));
+            }
+            if (!errors.isEmpty()) {
+                return false;
+            }
+
+            int count = 0;
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (++count > maxEntries) {
+                    errors.add(new ImportRowErrorDto(reader.recordLine(), "More than " + maxEntries + " games"));
+                    return false;
+                }
+                Entry entry = csvEntry(reader.recordLine(), fields, positions);
+                if (entry != null) {
+                    sink.accept(entry);
+                }
+            }
+            return true;
+        }
+    }
+
+    private Entry csvEntry(int line, List<String> fields, Map<Column, Integer> positions) {
+        Map<Column, String> values = new EnumMap<>(Column.class);
+        positions.forEach((column, index) -> {
+            String value = index < fields.size() ? fields.get(index).trim() : "";
+            if (!value.isEmpty()) {
+                values.put(column, value);
+            }
+        });
+        int errorCount = errors.size();
+
+        Long teamId = null;
+        String team = values.get(Column.TEAM);
+        if (team != null) {
+            TeamDto match = teamsByKey.get(teamKey(team));
+            if (match == null) {
+                errors.add(new ImportRowErrorDto(line, "Unknown team: " + team));
+            } else {
+                teamId = match.id();
+            }
+        }
+
+        LocalDateTime gameDateTime = values.containsKey(Column.DATE_TIME)
+                ? parseDateTime(line, values.get(Column.DATE_TIME))
+                : parseDateAndTime(line, values.get(Column.DATE), values.get(Column.TIME));
+
+        HomeAway homeAway = HomeAway.HOME;
+        String site = values.get(Column.HOME_AWAY);
+        if (site != null) {
+            homeAway = switch (site.toLowerCase(Locale.ROOT)) {
+                case "home", "h", "vs", "vs." -> HomeAway.HOME;
+                case "away", "a", "@", "at" -> HomeAway.AWAY;
+                default -> {
+                    errors.add(new ImportRowErrorDto(line, "homeAway must be home or away"));
+                    yield null;
+                }
+            };
+        }
+
+        boolean conference = false;
+        String flag = values.get(Column.CONFERENCE);
+        if (flag != null) {
+            switch (flag.toLowerCase(Locale.ROOT)) {
+                case "yes", "y", "true", "1", "x" -> conference = true;
+                case "no", "n", "false", "0" -> conference = false;
+                default -> errors.add(new ImportRowErrorDto(line, "conference must be yes or no"));
+            }
+        }
+
+        String opponent = values.get(Column.OPPONENT);
+        if (opponent == null) {
+            errors.add(new ImportRowErrorDto(line, "opponent is required"));
+        }
+        if (errors.size() > errorCount) {
+            return null;
+        }
+        return new Entry(line, teamId, gameDateTime, opponent, homeAway, values.get(Column.LOCATION),
+                conference, values.get(Column.NOTES));
+    }
+
+    private LocalDateTime parseDateTime(int line, String value) {
+        try {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeException ex) {
+            errors.add(new ImportRowErrorDto(line, "dateTime must look like 2026-11-07T19:00"));
+            return null;
+        }
+    }
+
+    private LocalDateTime parseDateAndTime(int line, String date, String time) {
+        LocalDate day = date != null ? parseFirst(date, DATES, LocalDate::from) : null;
+        if (day == null) {
+            errors.add(new ImportRowErrorDto(line, "date must look like 2026-11-07 or 11/7/2026"));
+        }
+        LocalTime tipoff = time != null ? parseFirst(time, TIMES, LocalTime::from) : null;
+        if (tipoff == null) {
+            errors.add(new ImportRowErrorDto(line,
+                    time == null ? "time is required" : "time must look like 19:00 or 7:00 PM"));
+        }
+        return day != null && tipoff != null ? day.atTime(tipoff) : null;
+    }
+
+    private static <T> T parseFirst(String value, List<DateTimeFormatter> formats,
+                                    TemporalQuery<T> query) {
+        for (DateTimeFormatter format : formats) {
+            try {
+                return format.parse(value, query);
+            } catch (DateTimeException ignored) {
+                // try the next format
+            }
+        }
+        return null;
+    }
+
+    private static DateTimeFormatter caseInsensitive(String pattern) {
+        return new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern(pattern).toFormatter(Locale.US);
+    }
+
+    // ---------- iCalendar ----------
+
+    boolean parseIcs(BufferedReader reader, Consumer<Entry> sink) throws IOException {
+        int count = 0;
+        int physicalLine = 0;
+        int eventLine = 0;
+        Map<String, Property> event = null;
+
+        String pending = null;
+        int pendingLine = 0;
+        String raw;
+        while (true) {
+            raw = reader.readLine();
+            physicalLine++;
+            // RFC 5545 folding: a line starting with a space or tab continues the previous one
+            if (raw != null && pending != null && !raw.isEmpty() && (raw.charAt(0) == ' ' || raw.charAt(0) == '\t')) {
+                pending += raw.substring(1);
+                continue;
+            }
+            if (pending != null) {
+                Property property = Property.parse(pending.replace("\uFEFF", ""));
+                if (property != null) {
+                    if (property.is("BEGIN", "VEVENT")) {
+                        event = new HashMap<>();
+                        eventLine = pendingLine;
+                    } else if (property.is("END", "VEVENT") && event != null) {
+                        if (++count > maxEntries) {
+                            errors.add(new ImportRowErrorDto(eventLine, "More than " + maxEntries + " games"));
+                            return false;
+                        }
+                        Entry entry = icsEntry(eventLine, event);
+                        if (entry != null) {
+                            sink.accept(entry);
+                        }
+                        event = null;
+                    } else if (event != null) {
+                        event.putIfAbsent(property.name(), property);
+                    }
+                }
+            }
+            if (raw == null) {
+                break;
+            }
+            pending = raw;
+            pendingLine = physicalLine;
+        }
+        if (count == 0) {
+            errors.add(new ImportRowErrorDto(1, "No events found"));
+            return false;
+        }
+        return true;
+    }
+
+    private Entry icsEntry(int line, Map<String, Property> event) {
+        int errorCount = errors.size();
+
+        LocalDateTime gameDateTime = null;
+        Property start = event.get("DTSTART");
+        if (start == null) {
+            errors.add(new ImportRowErrorDto(line, "Event has no DTSTART"));
+        } else {
+            gameDateTime = icsStart(line, start);
+        }
+
+        Long teamId = null;
+        String opponent = null;
+        HomeAway homeAway = HomeAway.HOME;
+        Property summary = event.get("SUMMARY");
+        String title = summary != null ? unescape(summary.value()).trim() : "";
+        Matcher matchup = MATCHUP.matcher(title);
+        if (matchup.matches()) {
+            boolean away = matchup.group(2).equals("@") || matchup.group(2).equalsIgnoreCase("at");
+            TeamDto left = teamsByKey.get(teamKey(matchup.group(1)));
+            TeamDto right = teamsByKey.get(teamKey(matchup.group(3)));
+            if (left != null) {
+                teamId = left.id();
+                opponent = matchup.group(3);
+                homeAway = away ? HomeAway.AWAY : HomeAway.HOME;
+            } else if (right != null) {
+                // "Central @ Regional": we're the second name, so the sides flip
+                teamId = right.id();
+                opponent = matchup.group(1);
+                homeAway = away ? HomeAway.HOME : HomeAway.AWAY;
+            } else {
+                opponent = matchup.group(3);
+                homeAway = away ? HomeAway.AWAY : HomeAway.HOME;
+            }
+        } else if (!title.isEmpty()) {
+            opponent = title;
+        }
+        if (opponent == null) {
+            errors.add(new ImportRowErrorDto(line, "Event has no SUMMARY to take the opponent from"));
+        }
+
+        Property location = event.get("LOCATION");
+        Property description = event.get("DESCRIPTION");
+        String notes = description != null ? unescape(description.value()).trim() : null;
+        boolean conference = false;
+        if (notes != null && notes.regionMatches(true, 0, "Conference game", 0, 15)) {
+            conference = true;
+            notes = notes.substring(15).trim();
+        }
+
+        if (errors.size() > errorCount) {
+            return null;
+        }
+        return new Entry(line, teamId, gameDateTime, opponent.trim(), homeAway,
+                location != null ? unescape(location.value()).trim() : null,
+                conference, notes == null || notes.isEmpty() ? null : notes);
+    }
+
+    // UTC and TZID times become wall-clock time in the site's zone; floating times are taken as-is
+    private LocalDateTime icsStart(int line, Property start) {
+        String value = start.value().trim();
+        if (value.length() == 8 || "DATE".equalsIgnoreCase(start.param("VALUE"))) {
+            errors.add(new ImportRowErrorDto(line, "Event is all-day; a tip-off time is required"));
+            return null;
+        }
+        try {
+            if (value.endsWith("Z")) {
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), ICS_DATE_TIME)
+                        .atOffset(ZoneOffset.UTC).atZoneSameInstant(timeZone).toLocalDateTime();
+            }
+            LocalDateTime local = LocalDateTime.parse(value, ICS_DATE_TIME);
+            String tzid = start.param("TZID");
+            return tzid == null ? local : local.atZone(ZoneId.of(tzid)).withZoneSameInstant(timeZone).toLocalDateTime();
+        } catch (DateTimeException ex) {
+            errors.add(new ImportRowErrorDto(line, "Unreadable DTSTART: " + value));
+            return null;
+        }
+    }
+
+    private static String unescape(String value) {
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                out.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * One unfolded content line: {@code NAME;PARAM=x;PARAM=y:value}.
+     */
+    private record Property(String name, Map<String, String> params, String value) {
+
+        static Property parse(String line) {
+            int colon = -1;
+            boolean quoted = false;
+            for (int i = 0; i < line.length() && colon < 0; i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ':' && !quoted) {
+                    colon = i;
+                }
+            }
+            if (colon <= 0) {
+                return null;
+            }
+            String[] head = line.substring(0, colon).split(";");
+            Map<String, String> params = new HashMap<>();
+            for (int i = 1; i < head.length; i++) {
+                int eq = head[i].indexOf('=');
+                if (eq > 0) {
+                    params.put(head[i].substring(0, eq).toUpperCase(Locale.ROOT),
+                            head[i].substring(eq + 1).replace("\"", ""));
+                }
+            }
+            return new Property(head[0].trim().toUpperCase(Locale.ROOT), params, line.substring(colon + 1));
+        }
+
+        boolean is(String name, String value) {
+            return this.name.equals(name) && this.value.trim().equalsIgnoreCase(value);
+        }
+
+        String param(String key) {
+            return params.get(key);
+        }
+    }
+
+}
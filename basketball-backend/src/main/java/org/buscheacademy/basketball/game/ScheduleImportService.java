@@ -0,0 +1,359 @@
+package org.buscheacademy.basketball.game;
+
+import org.buscheacademy.basketball.dto.ImportRowErrorDto;
+import org.buscheacademy.basketball.dto.ScheduleImportGameDto;
+import org.buscheacademy.basketball.dto.ScheduleImportResultDto;
+import org.buscheacademy.basketball.dto.TeamDto;
+import org.buscheacademy.basketball.opponent.OpponentService;
+import org.buscheacademy.basketball.season.SeasonGuard;
+import org.buscheacademy.basketball.season.Seasons;
+import org.buscheacademy.basketball.team.TeamRepository;
+import org.buscheacademy.basketball.team.TeamService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk schedule upload from a CSV or an .ics export.
+ * <p>
+ * Works in two steps. A preview parses the file, resolves teams and opponents once,
+ * and diffs it against games already booked for the same team, date/time and opponent;
+ * nothing is written. The coach then sends the same file back with the preview's plan
+ * id, and the new games go in as one JDBC batch followed by one eviction of the schedule
+ * caches. If the file or the schedule changed in between, the plan id no longer matches
+ * and the apply is refused. An apply locks the file's teams before it plans, so a second
+ * apply of the same plan (a double click, a retry) waits for the first, then finds its
+ * games booked and is refused too.
+ */
+@Service
+public class ScheduleImportService {
+
+    public static final int MAX_GAMES = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO games (created_at, updated_at, team_id, opponent, opponent_id, game_date_time, season,
+                               home_away, location, conference_game, notes)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final GameRepository gameRepository;
+    private final GameService gameService;
+    private final TeamService teamService;
+    private final TeamRepository teamRepository;
+    private final OpponentService opponentService;
+    private final SeasonGuard seasonGuard;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZoneId timeZone;
+
+    public ScheduleImportService(GameRepository gameRepository,
+                                 GameService gameService,
+                                 TeamService teamService,
+                                 TeamRepository teamRepository,
+                                 OpponentService opponentService,
+                                 SeasonGuard seasonGuard,
+                                 JdbcTemplate jdbcTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.calendar.time-zone:America/New_York}") String timeZone) {
+        this.gameRepository = gameRepository;
+        this.gameService = gameService;
+        this.teamService = teamService;
+        this.teamRepository = teamRepository;
+        this.opponentService = opponentService;
+        this.seasonGuard = seasonGuard;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.timeZone = ZoneId.of(timeZone);
+    }
+
+    /**
+     * Dry run: what importing the file would create, what is already scheduled, and
+     * every problem by line.
+     */
+    @Transactional(readOnly = true)
+    public ScheduleImportResultDto preview(Long defaultTeamId, String filename, InputStream file) {
+        return plan(read(defaultTeamId, filename, file)).toResult(false);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "scheduleFull", allEntries = true),
+            @CacheEvict(cacheNames = "scheduleUpcoming", allEntries = true),
+            @CacheEvict(cacheNames = "scheduleRecent", allEntries = true),
+            @CacheEvict(cacheNames = "schedulePage", allEntries = true),
+            @CacheEvict(cacheNames = "homeBundle", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true),
+            @CacheEvict(cacheNames = "seasons", allEntries = true)
+    })
+    @Transactional
+    public ScheduleImportResultDto apply(Long defaultTeamId, String filename, InputStream file, String planId) {
+        Upload upload = read(defaultTeamId, filename, file);
+        // Held until commit; the plan below then sees any games a concurrent apply inserted
+        if (!upload.teamIds().isEmpty()) {
+            teamRepository.lockAllById(upload.teamIds());
+        }
+        Plan plan = plan(upload);
+        if (!plan.errors().isEmpty()) {
+            return plan.toResult(false);
+        }
+        if (!plan.id().equals(planId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "The schedule or the file changed since the preview; preview it again");
+        }
+        if (plan.create().isEmpty()) {
+            return plan.toResult(true);
+        }
+
+        // New opponents are only created now, once per distinct name
+        Map<String, Long> newOpponents = new HashMap<>();
+        List<ScheduleImportGameDto> rows = plan.create().stream()
+                .map(row -> row.opponentId() != null ? row : withOpponentId(row, newOpponents.computeIfAbsent(
+                        opponentKey(row.opponent()), key -> opponentService.resolveId(row.opponent()))))
+                .toList();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setLong(3, row.teamId());
+            ps.setString(4, row.opponent());
+            ps.setLong(5, row.opponentId());
+            ps.setTimestamp(6, Timestamp.valueOf(row.gameDateTime()));
+            ps.setString(7, row.season());
+            ps.setString(8, row.homeAway().name());
+            ps.setString(9, row.location());
+            ps.setBoolean(10, row.conferenceGame());
+            ps.setObject(11, row.notes(), Types.VARCHAR);
+        });
+
+        publishCreated(rows);
+        return plan.toResult(true);
+    }
+
+    // ---------- Planning ----------
+
+    private Upload read(Long defaultTeamId, String filename, InputStream file) {
+        Map<String, TeamDto> teamsByKey = new HashMap<>();
+        Map<Long, TeamDto> teamsById = new HashMap<>();
+        for (TeamDto team : teamService.getAllTeams()) {
+            teamsByKey.putIfAbsent(ScheduleFileParser.teamKey(team.name()), team);
+            teamsById.put(team.id(), team);
+        }
+        if (defaultTeamId != null && !teamsById.containsKey(defaultTeamId)) {
+            throw new IllegalArgumentException("Team not found: " + defaultTeamId);
+        }
+
+        List<ImportRowErrorDto> errors = new ArrayList<>();
+        List<ScheduleFileParser.Entry> entries = new ArrayList<>();
+        ScheduleFileParser parser = new ScheduleFileParser(teamsByKey, timeZone, MAX_GAMES, errors);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file, StandardCharsets.UTF_8))) {
+            reader.mark(8192);
+            String firstLine = reader.readLine();
+            reader.reset();
+            boolean complete = ScheduleFileParser.looksLikeIcs(filename, firstLine)
+                    ? parser.parseIcs(reader, entries::add)
+                    : parser.parseCsv(reader, entries::add);
+            if (!complete) {
+                return new Upload(List.of(), errors, false);
+            }
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unreadable schedule: " + ex.getMessage());
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (ScheduleFileParser.Entry entry : entries) {
+            Long teamId = entry.teamId() != null ? entry.teamId() : defaultTeamId;
+            if (teamId == null) {
+                errors.add(new ImportRowErrorDto(entry.line(), "No team given; add a team column or pass teamId"));
+                continue;
+            }
+            if (entry.location() == null) {
+                errors.add(new ImportRowErrorDto(entry.line(), "location is required"));
+                continue;
+            }
+            if (tooLong(entry, errors)) {
+                continue;
+            }
+            candidates.add(new Candidate(entry, teamsById.get(teamId), Seasons.of(entry.gameDateTime())));
+        }
+        return new Upload(candidates, errors, true);
+    }
+
+    private Plan plan(Upload upload) {
+        List<Candidate> candidates = upload.candidates();
+        List<ImportRowErrorDto> errors = upload.errors();
+        if (!upload.complete()) {
+            return Plan.rejected(errors);
+        }
+        if (candidates.isEmpty()) {
+            return new Plan(errors.isEmpty() ? digest(List.of()) : null, List.of(), List.of(), errors);
+        }
+
+        // Each season, team and opponent name is looked up once for the whole file
+        Map<String, Boolean> openSeasons = candidates.stream()
+                .map(Candidate::season)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), seasonGuard::isOpen));
+        Map<String, Optional<Long>> opponentIds = new HashMap<>();
+        candidates.forEach(c -> opponentIds.computeIfAbsent(opponentKey(c.entry().opponent()),
+                key -> opponentService.findId(c.entry().opponent())));
+
+        Set<Long> teamIds = upload.teamIds();
+        LocalDateTime from = candidates.stream().map(c -> c.entry().gameDateTime()).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = candidates.stream().map(c -> c.entry().gameDateTime()).max(Comparator.naturalOrder()).orElseThrow();
+        Map<String, Game> booked = new HashMap<>();
+        for (Game game : gameRepository.findForImport(teamIds, from, to)) {
+            booked.putIfAbsent(slot(game.getTeam().getId(), game.getGameDateTime(), "#" + game.getOpponentId()), game);
+            booked.putIfAbsent(slot(game.getTeam().getId(), game.getGameDateTime(), opponentKey(game.getOpponent())), game);
+        }
+
+        Map<String, Integer> seenInFile = new HashMap<>();
+        List<ScheduleImportGameDto> create = new ArrayList<>();
+        List<ScheduleImportGameDto> existing = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            ScheduleFileParser.Entry entry = candidate.entry();
+            String nameKey = opponentKey(entry.opponent());
+            Long opponentId = opponentIds.get(nameKey).orElse(null);
+            Long teamId = candidate.team().id();
+
+            Integer firstLine = seenInFile.putIfAbsent(slot(teamId, entry.gameDateTime(), nameKey), entry.line());
+            if (firstLine != null) {
+                errors.add(new ImportRowErrorDto(entry.line(), "Same game as line " + firstLine));
+                continue;
+            }
+            Game match = opponentId != null ? booked.get(slot(teamId, entry.gameDateTime(), "#" + opponentId)) : null;
+            if (match == null) {
+                match = booked.get(slot(teamId, entry.gameDateTime(), nameKey));
+            }
+            // Games already booked are left alone, so only new ones need an open season
+            if (match == null && !openSeasons.get(candidate.season())) {
+                errors.add(new ImportRowErrorDto(entry.line(), "Season " + candidate.season() + " is closed"));
+                continue;
+            }
+
+            ScheduleImportGameDto row = new ScheduleImportGameDto(entry.line(), teamId, candidate.team().name(),
+                    entry.opponent(), opponentId, entry.gameDateTime(), candidate.season(), entry.homeAway(),
+                    entry.location(), entry.conferenceGame(), entry.notes(), match != null ? match.getId() : null);
+            (match != null ? existing : create).add(row);
+        }
+
+        errors.sort(Comparator.comparingInt(ImportRowErrorDto::line));
+        return new Plan(errors.isEmpty() ? digest(create) : null, create, existing, errors);
+    }
+
+    private static boolean tooLong(ScheduleFileParser.Entry entry, List<ImportRowErrorDto> errors) {
+        int before = errors.size();
+        if (entry.opponent().length() > 150) {
+            errors.add(new ImportRowErrorDto(entry.line(), "opponent is longer than 150 characters"));
+        }
+        if (entry.location().length() > 200) {
+            errors.add(new ImportRowErrorDto(entry.line(), "location is longer than 200 characters"));
+        }
+        if (entry.notes() != null && entry.notes().length() > 1000) {
+            errors.add(new ImportRowErrorDto(entry.line(), "notes is longer than 1000 characters"));
+        }
+        return errors.size() > before;
+    }
+
+    private static String slot(Long teamId, LocalDateTime gameDateTime, String opponent) {
+        return teamId + "|" + gameDateTime + "|" + opponent;
+    }
+
+    // Fingerprint of exactly what would be inserted; an apply must present the same one
+    private static String digest(List<ScheduleImportGameDto> create) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            for (ScheduleImportGameDto row : create) {
+                String line = String.join("\u001f", String.valueOf(row.teamId()), row.opponent(),
+                        String.valueOf(row.gameDateTime()), row.homeAway().name(), row.location(),
+                        String.valueOf(row.conferenceGame()), String.valueOf(row.notes())) + "\n";
+                sha.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(sha.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // ---------- Writing ----------
+
+    // Same per-game events as createGame, so feeds, search and stats pick the games up
+    private void publishCreated(List<ScheduleImportGameDto> rows) {
+        Set<String> inserted = rows.stream()
+                .map(row -> slot(row.teamId(), row.gameDateTime(), "#" + row.opponentId()))
+                .collect(Collectors.toSet());
+        Set<Long> teamIds = rows.stream().map(ScheduleImportGameDto::teamId).collect(Collectors.toSet());
+        TreeSet<LocalDateTime> times = rows.stream()
+                .map(ScheduleImportGameDto::gameDateTime)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        for (Game game : gameRepository.findForImport(teamIds, times.first(), times.last())) {
+            if (inserted.remove(slot(game.getTeam().getId(), game.getGameDateTime(), "#" + game.getOpponentId()))) {
+                eventPublisher.publishEvent(new GameChangedEvent(null, gameService.toDto(game), game.getUpdatedAt()));
+            }
+        }
+    }
+
+    private static ScheduleImportGameDto withOpponentId(ScheduleImportGameDto row, Long opponentId) {
+        return new ScheduleImportGameDto(row.line(), row.teamId(), row.teamName(), row.opponent(), opponentId,
+                row.gameDateTime(), row.season(), row.homeAway(), row.location(), row.conferenceGame(),
+                row.notes(), row.existingGameId());
+    }
+
+    // Mirrors OpponentService's matching, case and spacing ignored; "=" keeps it apart from "#id"
+    private static String opponentKey(String name) {
+        return "=" + name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Candidate(ScheduleFileParser.Entry entry, TeamDto team, String season) {
+    }
+
+    // The file as read, before anything in the database is looked at
+    private record Upload(List<Candidate> candidates, List<ImportRowErrorDto> errors, boolean complete) {
+
+        Set<Long> teamIds() {
+            return candidates.stream().map(c -> c.team().id()).collect(Collectors.toSet());
+        }
+    }
+
+    private record Plan(String id, List<ScheduleImportGameDto> create, List<ScheduleImportGameDto> existing,
+                        List<ImportRowErrorDto> errors) {
+
+        static Plan rejected(List<ImportRowErrorDto> errors) {
+            return new Plan(null, List.of(), List.of(), errors);
+        }
+
+        ScheduleImportResultDto toResult(boolean applied) {
+            return new ScheduleImportResultDto(id, applied, create, existing, errors);
+        }
+    }
+}
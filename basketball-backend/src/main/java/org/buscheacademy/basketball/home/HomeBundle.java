@@ -0,0 +1,7 @@
+package org.buscheacademy.basketball.home;
+
+/**
+ * The landing-page payload, already serialized, plus an ETag over those exact bytes.
+ */
+public record HomeBundle(byte[] json, String etag) {
+}
@@ -0,0 +1,84 @@
+package org.buscheacademy.basketball.home;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.HomeBundleDto;
+import org.buscheacademy.basketball.game.GameService;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Builds the single {@code /public/home} response: the upcoming and recent games the
+ * landing page shows, and nothing it doesn't.
+ * <p>
+ * Both sections load in parallel (on a cold start each may be a DB round trip); the
+ * result is cached as serialized bytes so a hit is a straight byte copy. Game writes,
+ * and team renames (games carry the team name), evict {@code homeBundle}.
+ */
+@Service
+public class HomeBundleService {
+
+    private final GameService gameService;
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService sectionLoader = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "home-bundle");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HomeBundleService(GameService gameService, ObjectMapper objectMapper) {
+        this.gameService = gameService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Cacheable(cacheNames = "homeBundle", key = "#upcomingLimit + '_' + #recentLimit")
+    public HomeBundle getHomeBundle(int upcomingLimit, int recentLimit) {
+        CompletableFuture<List<GameDto>> upcoming =
+                CompletableFuture.supplyAsync(() -> gameService.getUpcomingGames(upcomingLimit), sectionLoader);
+        CompletableFuture<List<GameDto>> recent =
+                CompletableFuture.supplyAsync(() -> gameService.getRecentGames(recentLimit), sectionLoader);
+
+        HomeBundleDto dto;
+        try {
+            dto = new HomeBundleDto(upcoming.join(), recent.join());
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(dto);
+            return new HomeBundle(json, "\"home-" + digest(json) + "\"");
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize home bundle", ex);
+        }
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return HexFormat.of().formatHex(hash, 0, 12);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sectionLoader.shutdownNow();
+    }
+}
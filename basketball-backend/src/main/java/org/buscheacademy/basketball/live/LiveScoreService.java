@@ -0,0 +1,261 @@
+package org.buscheacademy.basketball.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.LiveScoreDto;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pushes score changes to {@code /public/games/live} subscribers as Server-Sent Events.
+ * <p>
+ * Connections are servlet async requests, so an idle subscriber holds a socket and a
+ * small buffer but no thread. Each score change is serialized once and offered to every
+ * subscriber's bounded buffer; a client whose buffer is full is disconnected (its
+ * EventSource reconnects and catches up through {@code Last-Event-ID}). A client that
+ * missed more than the replay buffer (or its own buffer) holds gets a {@code resync}
+ * event instead and refetches. A heartbeat comment keeps proxies from closing quiet
+ * connections and flushes out dead ones.
+ * <p>
+ * Writes block until the socket takes the bytes, so a write stuck for longer than the
+ * send timeout drops its subscriber and the sender pool gets a stand-in thread until
+ * the container gives up on that socket; stalled clients never starve the rest.
+ */
+@Service
+@Slf4j
+public class LiveScoreService {
+
+    private static final String SCORE_EVENT = "score";
+    private static final String RESYNC_EVENT = "resync";
+    // Deltas kept for clients reconnecting with Last-Event-ID
+    private static final int REPLAY_SIZE = 64;
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long connectionTimeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int senderThreads;
+    private final int maxSenderThreads;
+
+    private final Set<LiveSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by "this"
+    private final Deque<ScoreDelta> recent = new ArrayDeque<>(REPLAY_SIZE);
+    private long lastEventId;
+
+    // Dropped subscribers whose write is still blocked; only touched on the heartbeat thread
+    private final Set<LiveSubscriber> stalled = new HashSet<>();
+
+    public LiveScoreService(ObjectMapper objectMapper,
+                            @Value("${app.live.buffer-size:16}") int bufferSize,
+                            @Value("${app.live.max-subscribers:5000}") int maxSubscribers,
+                            @Value("${app.live.sender-threads:4}") int senderThreads,
+                            @Value("${app.live.max-sender-threads:32}") int maxSenderThreads,
+                            @Value("${app.live.send-timeout-seconds:10}") long sendTimeoutSeconds,
+                            @Value("${app.live.heartbeat-seconds:20}") long heartbeatSeconds,
+                            @Value("${app.live.connection-timeout-minutes:30}") long connectionTimeoutMinutes) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.connectionTimeoutMillis = TimeUnit.MINUTES.toMillis(connectionTimeoutMinutes);
+        this.sendTimeoutNanos = TimeUnit.SECONDS.toNanos(sendTimeoutSeconds);
+        this.senderThreads = senderThreads;
+        this.maxSenderThreads = Math.max(senderThreads, maxSenderThreads);
+        this.sender = new ThreadPoolExecutor(
+                senderThreads, senderThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "live-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        heartbeat.scheduleWithFixedDelay(this::checkStalledSends, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribe(Long lastSeenEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(connectionTimeoutMillis);
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            // Registering and replaying under the same lock as publish: nothing is missed or doubled
+            subscribers.add(subscriber);
+            if (lastSeenEventId != null && hasGapAfter(lastSeenEventId)) {
+                long resyncId = lastEventId;
+                subscriber.offer(() -> SseEmitter.event()
+                        .id(Long.toString(resyncId))
+                        .name(RESYNC_EVENT)
+                        .data("{}", MediaType.APPLICATION_JSON), sender);
+            } else if (lastSeenEventId != null) {
+                // hasGapAfter made sure the missed deltas fit into the fresh buffer
+                for (ScoreDelta delta : recent) {
+                    if (delta.id() > lastSeenEventId) {
+                        subscriber.offer(delta::toEvent, sender);
+                    }
+                }
+            }
+        }
+        return emitter;
+    }
+
+    // Guarded by "this". True if deltas after lastSeenEventId have already left the replay
+    // buffer or are more than a subscriber buffer holds, or if the id predates a restart
+    // (ids start over at 1).
+    private boolean hasGapAfter(long lastSeenEventId) {
+        if (lastSeenEventId > lastEventId || lastEventId - lastSeenEventId > bufferSize) {
+            return true;
+        }
+        ScoreDelta oldest = recent.peekFirst();
+        return oldest != null && oldest.id() > lastSeenEventId + 1;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameChanged(GameChangedEvent event) {
+        GameDto after = event.after();
+        if (after == null) {
+            return;
+        }
+        GameDto before = event.before();
+        Integer beforeUs = before != null ? before.scoreUs() : null;
+        Integer beforeThem = before != null ? before.scoreThem() : null;
+        if (Objects.equals(beforeUs, after.scoreUs()) && Objects.equals(beforeThem, after.scoreThem())) {
+            return; // not a score change; clearing a score back to null is one
+        }
+        publish(new LiveScoreDto(after.id(), after.teamId(), after.opponent(),
+                after.scoreUs(), after.scoreThem(), after.win()));
+    }
+
+    private void publish(LiveScoreDto score) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(score);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize live score", ex);
+        }
+
+        synchronized (this) {
+            ScoreDelta delta = new ScoreDelta(++lastEventId, json);
+            if (recent.size() == REPLAY_SIZE) {
+                recent.removeFirst();
+            }
+            recent.addLast(delta);
+            fanOut(delta::toEvent);
+        }
+    }
+
+    private void sendHeartbeat() {
+        try {
+            fanOut(() -> SseEmitter.event().comment("heartbeat"));
+        } catch (RuntimeException ex) {
+            // Never let an exception cancel the schedule
+            log.warn("Live score heartbeat failed", ex);
+        }
+    }
+
+    // Runs on the heartbeat thread only
+    private void checkStalledSends() {
+        try {
+            long now = System.nanoTime();
+            int dropped = 0;
+            for (LiveSubscriber subscriber : subscribers) {
+                if (subscriber.isStalled(now, sendTimeoutNanos)) {
+                    subscribers.remove(subscriber);
+                    subscriber.close();
+                    stalled.add(subscriber);
+                    dropped++;
+                }
+            }
+            stalled.removeIf(subscriber -> !subscriber.isSending());
+            resizeSender(Math.min(senderThreads + stalled.size(), maxSenderThreads));
+            if (dropped > 0) {
+                log.debug("Dropped {} live score subscriber(s) stuck on a write, {} write(s) still blocked",
+                        dropped, stalled.size());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Live score stalled-send check failed", ex);
+        }
+    }
+
+    private void resizeSender(int size) {
+        // Grow the maximum first and shrink it last: core may never exceed it
+        if (size > sender.getCorePoolSize()) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else if (size < sender.getCorePoolSize()) {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    private void fanOut(Supplier<SseEventBuilder> event) {
+        List<LiveSubscriber> dropped = subscribers.stream()
+                .filter(subscriber -> !subscriber.offer(event, sender))
+                .toList();
+        for (LiveSubscriber subscriber : dropped) {
+            subscribers.remove(subscriber);
+            subscriber.close();
+        }
+        if (!dropped.isEmpty()) {
+            log.debug("Dropped {} slow or closed live score subscriber(s)", dropped.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(LiveSubscriber::close);
+        sender.shutdownNow();
+    }
+
+    private record ScoreDelta(long id, String json) {
+
+        SseEventBuilder toEvent() {
+            return SseEmitter.event()
+                    .id(Long.toString(id))
+                    .name(SCORE_EVENT)
+                    .data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+}
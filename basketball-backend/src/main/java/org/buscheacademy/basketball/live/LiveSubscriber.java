@@ -0,0 +1,114 @@
+package org.buscheacademy.basketball.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * One open SSE connection and the events still waiting to be written to it.
+ * <p>
+ * Publishers only {@link #offer} into the bounded buffer; at most one drain per
+ * subscriber is in flight on the shared sender pool, so a stalled socket ties up one
+ * sender thread at worst and never the publisher. Whoever holds the {@code draining}
+ * flag owns the emitter: {@link #close} completes it right away when no drain is
+ * running and otherwise leaves that to the drain, so closing never waits on a blocked
+ * write either.
+ */
+class LiveSubscriber {
+
+    private final SseEmitter emitter;
+    // Builders are single-use, so events are queued as factories
+    private final BlockingQueue<Supplier<SseEventBuilder>> pending;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    // System.nanoTime() when the write in progress started, 0 between writes
+    private volatile long sendStartedAt;
+
+    LiveSubscriber(SseEmitter emitter, int bufferSize) {
+        this.emitter = emitter;
+        this.pending = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    boolean isSending() {
+        return sendStartedAt != 0;
+    }
+
+    /**
+     * @return true if the write in progress has been blocked for longer than {@code timeoutNanos}
+     */
+    boolean isStalled(long now, long timeoutNanos) {
+        long started = sendStartedAt;
+        return started != 0 && now - started > timeoutNanos;
+    }
+
+    /**
+     * Queues an event and makes sure a drain is scheduled.
+     *
+     * @return false if the buffer is full, i.e. the client isn't keeping up
+     */
+    boolean offer(Supplier<SseEventBuilder> event, Executor sender) {
+        if (closed || !pending.offer(event)) {
+            return false;
+        }
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(sender));
+        }
+        return true;
+    }
+
+    void close() {
+        if (!closed) {
+            closed = true;
+            pending.clear();
+            if (draining.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private void drain(Executor sender) {
+        try {
+            Supplier<SseEventBuilder> event;
+            while (!closed && (event = pending.poll()) != null) {
+                sendStartedAt = System.nanoTime();
+                emitter.send(event.get());
+                sendStartedAt = 0;
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away: the container completes the emitter, and the next offer
+            // (or the emitter callbacks) drops this subscriber
+            closed = true;
+            pending.clear();
+        } finally {
+            sendStartedAt = 0;
+        }
+        if (closed) {
+            // Closed while we were writing; the flag stays set, nobody uses the emitter again
+            emitter.complete();
+            return;
+        }
+        draining.set(false);
+        // A close or an offer may have landed between the last poll and the reset above
+        if ((closed || !pending.isEmpty()) && draining.compareAndSet(false, true)) {
+            if (closed) {
+                emitter.complete();
+            } else {
+                sender.execute(() -> drain(sender));
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.buscheacademy.basketball.opponent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.HeadToHeadDto;
+import org.buscheacademy.basketball.dto.OpponentDto;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.buscheacademy.basketball.game.GameService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory opponent → games index with running head-to-head records.
+ * <p>
+ * Built from the database on first use, then kept current from game and opponent
+ * events. An opponent page is a map lookup; its DTO is assembled once and reused until
+ * one of that opponent's games changes. A game event older than the last one seen for
+ * that game arrived out of order and is dropped, so a late update can't bring back an
+ * older score or a deleted game.
+ * <p>
+ * The database load runs outside the lock, so events and readers of an index that is
+ * already built never wait for it; after a merge the previous index keeps serving until
+ * the new one is published. Only if events arrived while it loaded is the load redone
+ * under the lock, since the first one may have missed them.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HeadToHeadIndex {
+
+    private static final Comparator<GameDto> CHRONOLOGICAL =
+            Comparator.comparing(GameDto::gameDateTime).thenComparing(GameDto::id);
+
+    private final OpponentRepository opponentRepository;
+    private final GameService gameService;
+
+    // All guarded by "this"
+    private Map<Long, Entry> entries = new HashMap<>();
+    private Map<Long, Long> opponentIdByGameId = new HashMap<>();
+    private List<OpponentDto> directory;
+    private boolean loaded;
+    private boolean built;      // an index has been published, if perhaps a stale one
+    private boolean rebuilding; // a reader is loading a new one
+    private long generation;
+    // Kept across rebuilds: a rebuild reads rows at least this new
+    private final Map<Long, LocalDateTime> lastChanged = new HashMap<>();
+
+    public List<OpponentDto> getDirectory() {
+        ensureLoaded();
+        synchronized (this) {
+            if (directory == null) {
+                directory = entries.values().stream()
+                        .map(entry -> entry.opponent)
+                        .sorted(Comparator.comparing(OpponentDto::name, String.CASE_INSENSITIVE_ORDER))
+                        .toList();
+            }
+            return directory;
+        }
+    }
+
+    public HeadToHeadDto getHeadToHead(Long opponentId) {
+        ensureLoaded();
+        synchronized (this) {
+            Entry entry = entries.get(opponentId);
+            if (entry == null) {
+                throw new IllegalArgumentException("Opponent not found: " + opponentId);
+            }
+            return entry.page();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGameChanged(GameChangedEvent event) {
+        LocalDateTime seen = lastChanged.get(event.gameId());
+        if (seen != null && !event.changedAt().isAfter(seen)) {
+            return;
+        }
+        lastChanged.put(event.gameId(), event.changedAt());
+        generation++;
+        removeGame(event.gameId());
+        if (event.after() != null) {
+            addGame(entries, opponentIdByGameId, event.after());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onOpponentChanged(OpponentChangedEvent event) {
+        generation++;
+        OpponentDto opponent = event.opponent();
+        Entry entry = entries.get(opponent.id());
+        if (entry == null) {
+            entries.put(opponent.id(), new Entry(opponent));
+        } else {
+            entry.opponent = opponent;
+            entry.page = null;
+        }
+        directory = null;
+    }
+
+    // Merges are rare admin clean-ups; rebuilding is simpler than moving games across entries
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onOpponentsMerged(OpponentsMergedEvent event) {
+        generation++;
+        loaded = false;
+    }
+
+    private void ensureLoaded() {
+        long seen;
+        synchronized (this) {
+            if (loaded || (built && rebuilding)) {
+                return;
+            }
+            rebuilding = true;
+            seen = generation;
+        }
+        try {
+            Snapshot snapshot = load();
+            synchronized (this) {
+                if (!loaded) {
+                    install(generation == seen ? snapshot : load());
+                }
+            }
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+            }
+        }
+    }
+
+    private Snapshot load() {
+        Map<Long, Entry> loadedEntries = new HashMap<>();
+        opponentRepository.findAllWithAliases()
+                .forEach(opponent -> loadedEntries.put(opponent.getId(), new Entry(OpponentService.toDto(opponent))));
+        Map<Long, Long> loadedOpponentIds = new HashMap<>();
+        List<GameDto> games = gameService.loadAllGames();
+        games.forEach(game -> addGame(loadedEntries, loadedOpponentIds, game));
+        return new Snapshot(loadedEntries, loadedOpponentIds, games.size());
+    }
+
+    private void install(Snapshot snapshot) {
+        entries = snapshot.entries();
+        opponentIdByGameId = snapshot.opponentIdByGameId();
+        directory = null;
+        loaded = true;
+        built = true;
+        log.info("Indexed {} games across {} opponents", snapshot.games(), entries.size());
+    }
+
+    private static void addGame(Map<Long, Entry> entries, Map<Long, Long> opponentIdByGameId, GameDto game) {
+        Entry entry = entries.get(game.opponentId());
+        if (entry == null) {
+            return; // opponent event not seen yet; the next rebuild picks it up
+        }
+        opponentIdByGameId.put(game.id(), game.opponentId());
+        entry.add(game);
+    }
+
+    private void removeGame(Long gameId) {
+        Long opponentId = opponentIdByGameId.remove(gameId);
+        if (opponentId == null) {
+            return;
+        }
+        Entry entry = entries.get(opponentId);
+        if (entry != null) {
+            entry.remove(gameId);
+        }
+    }
+
+    private record Snapshot(Map<Long, Entry> entries, Map<Long, Long> opponentIdByGameId, int games) {
+    }
+
+    private static final class Entry {
+
+        private OpponentDto opponent;
+        private final Map<Long, GameDto> byId = new HashMap<>();
+        private final TreeMap<GameDto, Boolean> games = new TreeMap<>(CHRONOLOGICAL);
+        private int gamesPlayed;
+        private int wins;
+        private int pointsFor;
+        private int pointsAgainst;
+        private HeadToHeadDto page;
+
+        private Entry(OpponentDto opponent) {
+            this.opponent = opponent;
+        }
+
+        private void add(GameDto game) {
+            byId.put(game.id(), game);
+            games.put(game, Boolean.TRUE);
+            count(game, 1);
+        }
+
+        private void remove(Long gameId) {
+            GameDto game = byId.remove(gameId);
+            if (game != null) {
+                games.remove(game);
+                count(game, -1);
+            }
+        }
+
+        private void count(GameDto game, int sign) {
+            page = null;
+            if (game.win() == null) {
+                return;
+            }
+            gamesPlayed += sign;
+            wins += game.win() ? sign : 0;
+            pointsFor += sign * game.scoreUs();
+            pointsAgainst += sign * game.scoreThem();
+        }
+
+        private HeadToHeadDto page() {
+            if (page == null) {
+                page = new HeadToHeadDto(opponent, gamesPlayed, wins, gamesPlayed - wins,
+                        pointsFor, pointsAgainst, List.copyOf(games.keySet()));
+            }
+            return page;
+        }
+    }
+}
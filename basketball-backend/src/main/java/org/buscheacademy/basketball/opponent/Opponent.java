@@ -0,0 +1,43 @@
+package org.buscheacademy.basketball.opponent;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.buscheacademy.basketball.common.BaseEntity;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "opponents")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Opponent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "opponents_seq")
+    @SequenceGenerator(name = "opponents_seq", sequenceName = "opponents_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Canonical display name, e.g. "Montverde Academy".
+     */
+    @Column(nullable = false, length = 150)
+    private String name;
+
+    @Column(length = 500)
+    private String logoUrl;
+
+    /**
+     * Other spellings that should resolve to this opponent ("Montverde", "MVA").
+     */
+    @ElementCollection
+    @CollectionTable(name = "opponent_aliases",
+            joinColumns = @JoinColumn(name = "opponent_id",
+                    foreignKey = @ForeignKey(name = "fk_opponent_aliases_opponent")))
+    @Column(name = "alias", nullable = false, length = 150)
+    @Builder.Default
+    private Set<String> aliases = new LinkedHashSet<>();
+}
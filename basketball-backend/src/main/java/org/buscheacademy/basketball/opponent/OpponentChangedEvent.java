@@ -0,0 +1,9 @@
+package org.buscheacademy.basketball.opponent;
+
+import org.buscheacademy.basketball.dto.OpponentDto;
+
+/**
+ * Published after an opponent is created or edited.
+ */
+public record OpponentChangedEvent(OpponentDto opponent) {
+}
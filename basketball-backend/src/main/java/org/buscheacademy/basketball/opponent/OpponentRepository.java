@@ -0,0 +1,31 @@
+package org.buscheacademy.basketball.opponent;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OpponentRepository extends JpaRepository<Opponent, Long> {
+
+    // Keys are produced by OpponentService.key(): trimmed, single-spaced, lower case
+    @Query("select o.id from Opponent o where lower(o.name) = :key")
+    Optional<Long> findIdByNameKey(@Param("key") String key);
+
+    @Query("select o.id from Opponent o join o.aliases a where lower(a) = :key")
+    List<Long> findIdsByAliasKey(@Param("key") String key);
+
+    // New name from a game or an import. Of two requests inserting the same name at once,
+    // the second waits for the first to commit and gets no row back instead of a
+    // unique violation, which would abort its whole transaction on Postgres
+    @Query(value = """
+            INSERT INTO opponents (created_at, updated_at, name) VALUES (now(), now(), :name)
+            ON CONFLICT ((lower(name))) DO NOTHING
+            RETURNING id
+            """, nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("name") String name);
+
+    @Query("select distinct o from Opponent o left join fetch o.aliases order by o.name")
+    List<Opponent> findAllWithAliases();
+}
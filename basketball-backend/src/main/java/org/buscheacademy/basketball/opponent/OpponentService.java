@@ -0,0 +1,203 @@
+package org.buscheacademy.basketball.opponent;
+
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.audit.AuditAction;
+import org.buscheacademy.basketball.audit.AuditEntityType;
+import org.buscheacademy.basketball.audit.AuditedChangeEvent;
+import org.buscheacademy.basketball.dto.CreateOrUpdateOpponentRequest;
+import org.buscheacademy.basketball.dto.OpponentDto;
+import org.buscheacademy.basketball.game.GameRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class OpponentService {
+
+    private final OpponentRepository opponentRepository;
+    private final GameRepository gameRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Maps the opponent text typed on a game to an opponent, by canonical name or alias
+     * (case and spacing ignored). Unknown names become a new opponent.
+     */
+    @Transactional
+    public Long resolveId(String opponentName) {
+        String name = clean(opponentName);
+        return findIdByKey(key(name))
+                // Inserted right away: games point at it by a plain id column, not an
+                // association Hibernate could order inserts by, and bulk imports insert
+                // games via JDBC
+                .or(() -> opponentRepository.insertIfAbsent(name).map(id -> {
+                    OpponentDto dto = toDto(getByIdOrThrow(id));
+                    eventPublisher.publishEvent(new OpponentChangedEvent(dto));
+                    publishAudit(AuditAction.CREATE, null, dto);
+                    return id;
+                }))
+                // A concurrent request inserted it first
+                .or(() -> findIdByKey(key(name)))
+                .orElseThrow(() -> new IllegalStateException("Opponent not found after insert: " + name));
+    }
+
+    /**
+     * Same lookup as {@link #resolveId} without creating anything; empty for a new name.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findId(String opponentName) {
+        return findIdByKey(key(opponentName));
+    }
+
+    // ---------- Admin ----------
+
+    @Transactional(readOnly = true)
+    public List<OpponentDto> getAll() {
+        return opponentRepository.findAllWithAliases()
+                .stream()
+                .map(OpponentService::toDto)
+                .toList();
+    }
+
+    @Transactional
+    public OpponentDto create(CreateOrUpdateOpponentRequest request) {
+        Opponent opponent = new Opponent();
+        apply(request, opponent);
+        OpponentDto created = toDto(opponentRepository.save(opponent));
+        eventPublisher.publishEvent(new OpponentChangedEvent(created));
+        publishAudit(AuditAction.CREATE, null, created);
+        return created;
+    }
+
+    @Transactional
+    public OpponentDto update(Long id, CreateOrUpdateOpponentRequest request) {
+        Opponent opponent = getByIdOrThrow(id);
+        OpponentDto before = toDto(opponent);
+        apply(request, opponent);
+        OpponentDto updated = toDto(opponentRepository.save(opponent));
+        eventPublisher.publishEvent(new OpponentChangedEvent(updated));
+        publishAudit(AuditAction.UPDATE, before, updated);
+        return updated;
+    }
+
+    /**
+     * Folds a duplicate into {@code targetId}: its games move over, its name and aliases
+     * become aliases of the target, and the duplicate is deleted.
+     */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "scheduleFull", allEntries = true),
+            @CacheEvict(cacheNames = "scheduleUpcoming", allEntries = true),
+            @CacheEvict(cacheNames = "scheduleRecent", allEntries = true),
+            @CacheEvict(cacheNames = "schedulePage", allEntries = true),
+            @CacheEvict(cacheNames = "homeBundle", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true)
+    })
+    @Transactional
+    public OpponentDto merge(Long targetId, Long sourceId) {
+        if (Objects.equals(targetId, sourceId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cannot merge an opponent into itself");
+        }
+        Opponent target = getByIdOrThrow(targetId);
+        Opponent source = getByIdOrThrow(sourceId);
+        OpponentDto targetBefore = toDto(target);
+        OpponentDto sourceBefore = toDto(source);
+
+        // Aliases are unique ignoring case, and one matching the target's name is redundant
+        Set<String> known = new HashSet<>();
+        known.add(key(target.getName()));
+        target.getAliases().forEach(alias -> known.add(key(alias)));
+        concat(source.getName(), source.getAliases()).stream()
+                .filter(alias -> known.add(key(alias)))
+                .forEach(target.getAliases()::add);
+        gameRepository.reassignOpponent(sourceId, targetId);
+        opponentRepository.delete(source);
+
+        OpponentDto merged = toDto(opponentRepository.save(target));
+        eventPublisher.publishEvent(new OpponentsMergedEvent(sourceId, targetId));
+        eventPublisher.publishEvent(new OpponentChangedEvent(merged));
+        publishAudit(AuditAction.MERGE, targetBefore, merged);
+        publishAudit(AuditAction.DELETE, sourceBefore, null);
+        return merged;
+    }
+
+    // ---------- helpers ----------
+
+    private void publishAudit(AuditAction action, OpponentDto before, OpponentDto after) {
+        Long id = after != null ? after.id() : before.id();
+        eventPublisher.publishEvent(
+                new AuditedChangeEvent(AuditEntityType.OPPONENT, String.valueOf(id), action, before, after));
+    }
+
+    private Opponent getByIdOrThrow(Long id) {
+        return opponentRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Opponent not found: " + id));
+    }
+
+    private Optional<Long> findIdByKey(String key) {
+        return opponentRepository.findIdByNameKey(key)
+                .or(() -> opponentRepository.findIdsByAliasKey(key).stream().findFirst());
+    }
+
+    private void apply(CreateOrUpdateOpponentRequest request, Opponent opponent) {
+        String name = clean(request.name());
+        Set<String> aliases = new LinkedHashSet<>();
+        if (request.aliases() != null) {
+            request.aliases().stream()
+                    .filter(alias -> alias != null && !alias.isBlank())
+                    .map(OpponentService::clean)
+                    .filter(alias -> !key(alias).equals(key(name)))
+                    .forEach(aliases::add);
+        }
+
+        // A name or alias may only ever point at one opponent
+        for (String candidate : concat(name, aliases)) {
+            findIdByKey(key(candidate))
+                    .filter(existing -> !existing.equals(opponent.getId()))
+                    .ifPresent(existing -> {
+                        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                                "\"" + candidate + "\" already belongs to opponent " + existing);
+                    });
+        }
+
+        opponent.setName(name);
+        opponent.setLogoUrl(request.logoUrl());
+        opponent.getAliases().clear();
+        opponent.getAliases().addAll(aliases);
+    }
+
+    private static Set<String> concat(String name, Set<String> aliases) {
+        Set<String> all = new LinkedHashSet<>();
+        all.add(name);
+        all.addAll(aliases);
+        return all;
+    }
+
+    static String clean(String name) {
+        return name.trim().replaceAll("\\s+", " ");
+    }
+
+    static String key(String name) {
+        return clean(name).toLowerCase(Locale.ROOT);
+    }
+
+    static OpponentDto toDto(Opponent opponent) {
+        return new OpponentDto(
+                opponent.getId(),
+                opponent.getName(),
+                opponent.getLogoUrl(),
+                List.copyOf(opponent.getAliases())
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package org.buscheacademy.basketball.opponent;
+
+/**
+ * Published after every game of {@code sourceId} was moved to {@code targetId} and the source deleted.
+ */
+public record OpponentsMergedEvent(Long sourceId, Long targetId) {
+}
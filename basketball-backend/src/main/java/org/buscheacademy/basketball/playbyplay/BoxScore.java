@@ -0,0 +1,61 @@
+package org.buscheacademy.basketball.playbyplay;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Materialized box score of one game, built by applying its plays in any order.
+ * Each sequence number is applied at most once.
+ */
+class BoxScore {
+
+    private final Long gameId;
+    private final BitSet applied = new BitSet();
+    private final StatLine us = new StatLine();
+    private final StatLine them = new StatLine();
+    // In order of first appearance
+    private final Map<Long, StatLine> players = new LinkedHashMap<>();
+    private int lastSequence;
+
+    BoxScore(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    void apply(GamePlay play) {
+        if (applied.get(play.sequence())) {
+            return;
+        }
+        applied.set(play.sequence());
+        lastSequence = Math.max(lastSequence, play.sequence());
+
+        if (play.side() == PlaySide.THEM) {
+            them.apply(play.type());
+            return;
+        }
+        us.apply(play.type());
+        if (play.playerId() != null) {
+            players.computeIfAbsent(play.playerId(), id -> new StatLine()).apply(play.type());
+        }
+    }
+
+    Long gameId() {
+        return gameId;
+    }
+
+    int lastSequence() {
+        return lastSequence;
+    }
+
+    StatLine us() {
+        return us;
+    }
+
+    StatLine them() {
+        return them;
+    }
+
+    Map<Long, StatLine> players() {
+        return players;
+    }
+}
@@ -0,0 +1,8 @@
+package org.buscheacademy.basketball.playbyplay;
+
+/**
+ * Published by {@link BoxScoreService} once a committed batch of plays is reflected in
+ * the game's box score, so {@link BoxScoreService#getPlayerLines} already includes it.
+ */
+public record BoxScoreChangedEvent(Long gameId) {
+}
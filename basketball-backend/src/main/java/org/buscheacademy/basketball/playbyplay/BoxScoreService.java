@@ -0,0 +1,142 @@
+package org.buscheacademy.basketball.playbyplay;
+
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.BoxScoreDto;
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.PlayerBoxLineDto;
+import org.buscheacademy.basketball.dto.PlayerDto;
+import org.buscheacademy.basketball.dto.StatLineDto;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.buscheacademy.basketball.game.GameService;
+import org.buscheacademy.basketball.player.PlayerService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Box scores materialized from the play-by-play log.
+ * <p>
+ * A game's box score is built by replaying its log on first request and then kept
+ * current by applying each committed batch of plays; the most recently used games stay
+ * in memory. {@link #rebuild} throws the materialized copy away and replays again.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoxScoreService {
+
+    private static final int MAX_GAMES_IN_MEMORY = 500;
+
+    private final GamePlayRepository gamePlayRepository;
+    private final GameService gameService;
+    private final PlayerService playerService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Guarded by "this"; access-ordered, so the least recently used game is dropped first
+    private final Map<Long, BoxScore> boxScores = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BoxScore> eldest) {
+            return size() > MAX_GAMES_IN_MEMORY;
+        }
+    };
+
+    public BoxScoreDto getBoxScore(Long gameId) {
+        GameDto game = gameService.getGame(gameId);
+        return toDto(game, snapshot(gameId, false));
+    }
+
+    public BoxScoreDto rebuild(Long gameId) {
+        GameDto game = gameService.getGame(gameId);
+        BoxScoreDto rebuilt = toDto(game, snapshot(gameId, true));
+        eventPublisher.publishEvent(new BoxScoreChangedEvent(gameId));
+        return rebuilt;
+    }
+
+    /**
+     * Per-player stat lines of one game, keyed by player id.
+     */
+    public Map<Long, StatLineDto> getPlayerLines(Long gameId) {
+        return snapshot(gameId, false).players();
+    }
+
+    /**
+     * Replays the whole log into per-player lines for every game that has plays,
+     * without keeping the box scores in memory.
+     */
+    public Map<Long, Map<Long, StatLineDto>> replayAllPlayerLines() {
+        Map<Long, BoxScore> replayed = new HashMap<>();
+        gamePlayRepository.forEachPlay(play ->
+                replayed.computeIfAbsent(play.gameId(), BoxScore::new).apply(play));
+
+        Map<Long, Map<Long, StatLineDto>> lines = new HashMap<>();
+        replayed.forEach((gameId, boxScore) -> lines.put(gameId, playerLines(boxScore)));
+        return lines;
+    }
+
+    // fallbackExecution: also fires when the write ran without a surrounding transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaysRecorded(PlaysRecordedEvent event) {
+        synchronized (this) {
+            BoxScore boxScore = boxScores.get(event.gameId());
+            if (boxScore != null) {
+                // Not in memory: the next read replays the log, these plays included
+                event.plays().forEach(boxScore::apply);
+            }
+        }
+        eventPublisher.publishEvent(new BoxScoreChangedEvent(event.gameId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGameChanged(GameChangedEvent event) {
+        if (event.after() == null) {
+            boxScores.remove(event.gameId()); // the log went with the game
+        }
+    }
+
+    // The stat lines are mutable, so copy what the DTO needs while holding the lock
+    private synchronized BoxScoreSnapshot snapshot(Long gameId, boolean replay) {
+        BoxScore boxScore = replay ? null : boxScores.get(gameId);
+        if (boxScore == null) {
+            boxScore = new BoxScore(gameId);
+            gamePlayRepository.findByGameId(gameId).forEach(boxScore::apply);
+            boxScores.put(gameId, boxScore);
+        }
+        return new BoxScoreSnapshot(boxScore.lastSequence(), boxScore.us().toDto(), boxScore.them().toDto(),
+                playerLines(boxScore));
+    }
+
+    private static Map<Long, StatLineDto> playerLines(BoxScore boxScore) {
+        Map<Long, StatLineDto> players = new LinkedHashMap<>();
+        boxScore.players().forEach((playerId, line) -> players.put(playerId, line.toDto()));
+        return players;
+    }
+
+    private BoxScoreDto toDto(GameDto game, BoxScoreSnapshot snapshot) {
+        Map<Long, PlayerDto> roster = playerService.getPlayersByTeam(game.teamId(), game.season()).stream()
+                .collect(Collectors.toMap(PlayerDto::id, Function.identity()));
+
+        List<PlayerBoxLineDto> players = new ArrayList<>(snapshot.players().size());
+        snapshot.players().forEach((playerId, stats) -> {
+            PlayerDto player = roster.get(playerId);
+            players.add(new PlayerBoxLineDto(
+                    playerId,
+                    player != null ? player.firstName() + " " + player.lastName() : null,
+                    player != null ? player.jerseyNumber() : null,
+                    stats));
+        });
+        return new BoxScoreDto(game.id(), snapshot.lastSequence(), snapshot.us(), snapshot.them(), players);
+    }
+
+    private record BoxScoreSnapshot(int lastSequence,
+                                    StatLineDto us,
+                                    StatLineDto them,
+                                    Map<Long, StatLineDto> players) {
+    }
+}
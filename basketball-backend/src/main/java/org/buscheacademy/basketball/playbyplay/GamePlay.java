@@ -0,0 +1,16 @@
+package org.buscheacademy.basketball.playbyplay;
+
+/**
+ * One row of the play-by-play log. {@code playerId} is null for opponent plays
+ * (and for plays of a player who has since been deleted).
+ */
+public record GamePlay(
+        Long gameId,
+        int sequence,
+        int period,
+        Integer clockSeconds,
+        PlaySide side,
+        PlayType type,
+        Long playerId
+) {
+}
@@ -0,0 +1,89 @@
+package org.buscheacademy.basketball.playbyplay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC for the play log: inserts go out as one JDBC batch per flush rather than
+ * an entity persist (and round trip) per play.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GamePlayRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO game_plays
+                (created_at, game_id, sequence, period, clock_seconds, side, play_type, player_id, points)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (game_id, sequence) DO NOTHING
+            """;
+
+    private static final RowMapper<GamePlay> PLAY_MAPPER = (rs, rowNum) -> new GamePlay(
+            rs.getLong("game_id"),
+            rs.getInt("sequence"),
+            rs.getInt("period"),
+            rs.getObject("clock_seconds", Integer.class),
+            PlaySide.valueOf(rs.getString("side")),
+            PlayType.valueOf(rs.getString("play_type")),
+            rs.getObject("player_id", Long.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<GamePlay> plays) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, plays, plays.size(), (ps, play) -> {
+            ps.setTimestamp(1, now);
+            ps.setLong(2, play.gameId());
+            ps.setInt(3, play.sequence());
+            ps.setInt(4, play.period());
+            ps.setObject(5, play.clockSeconds(), Types.INTEGER);
+            ps.setString(6, play.side().name());
+            ps.setString(7, play.type().name());
+            ps.setObject(8, play.playerId(), Types.BIGINT);
+            ps.setInt(9, play.type().points());
+        });
+    }
+
+    public List<GamePlay> findByGameId(Long gameId) {
+        return jdbcTemplate.query("""
+                SELECT game_id, sequence, period, clock_seconds, side, play_type, player_id
+                FROM game_plays
+                WHERE game_id = ?
+                ORDER BY sequence
+                """, PLAY_MAPPER, gameId);
+    }
+
+    // Whole log, game by game, streamed off the cursor rather than collected
+    public void forEachPlay(Consumer<GamePlay> consumer) {
+        jdbcTemplate.query("""
+                SELECT game_id, sequence, period, clock_seconds, side, play_type, player_id
+                FROM game_plays
+                ORDER BY game_id, sequence
+                """, (RowCallbackHandler) rs -> consumer.accept(PLAY_MAPPER.mapRow(rs, 0)));
+    }
+
+    /**
+     * Points per side from the log, {@code [us, them]}, or null if the game has no plays.
+     */
+    public int[] sumPoints(Long gameId) {
+        return jdbcTemplate.query("""
+                SELECT count(*) AS plays,
+                       coalesce(sum(points) FILTER (WHERE side = 'US'), 0)   AS us,
+                       coalesce(sum(points) FILTER (WHERE side = 'THEM'), 0) AS them
+                FROM game_plays
+                WHERE game_id = ?
+                """, rs -> {
+            rs.next();
+            return rs.getLong("plays") == 0 ? null : new int[]{rs.getInt("us"), rs.getInt("them")};
+        }, gameId);
+    }
+}
@@ -0,0 +1,88 @@
+package org.buscheacademy.basketball.playbyplay;
+
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.PlayerDto;
+import org.buscheacademy.basketball.dto.RecordPlayRequest;
+import org.buscheacademy.basketball.game.GameService;
+import org.buscheacademy.basketball.player.PlayerService;
+import org.buscheacademy.basketball.season.SeasonGuard;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Ingests play-by-play batches into the append-only log.
+ * <p>
+ * A batch costs a handful of statements however many plays it holds: one JDBC batch
+ * insert, one SUM over the game's log, and the score-only game update when the score
+ * moved. Once a game has plays, its score is whatever the log adds up to. The game row
+ * is locked for the whole batch, so concurrent batches for one game can't each sum
+ * without the other's plays and store a stale total.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayByPlayService {
+
+    private final GamePlayRepository gamePlayRepository;
+    private final GameService gameService;
+    private final PlayerService playerService;
+    private final SeasonGuard seasonGuard;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void recordPlays(Long gameId, List<RecordPlayRequest> requests) {
+        GameDto game = gameService.lockForScoring(gameId);
+        seasonGuard.requireOpen(game.season());
+
+        Set<Long> roster = new HashSet<>();
+        for (PlayerDto player : playerService.getPlayersByTeam(game.teamId(), game.season())) {
+            roster.add(player.id());
+        }
+        List<GamePlay> plays = requests.stream()
+                .map(request -> toPlay(gameId, request, roster))
+                .toList();
+
+        gamePlayRepository.insertAll(plays);
+        syncScore(game);
+        eventPublisher.publishEvent(new PlaysRecordedEvent(gameId, plays));
+    }
+
+    /**
+     * Re-derives the game score from the log, for a log that was repaired by hand.
+     */
+    @Transactional
+    public void syncScore(Long gameId) {
+        syncScore(gameService.lockForScoring(gameId));
+    }
+
+    private void syncScore(GameDto game) {
+        int[] points = gamePlayRepository.sumPoints(game.id());
+        if (points == null) {
+            return; // no plays: the score stays whatever was entered
+        }
+        if (!Objects.equals(game.scoreUs(), points[0]) || !Objects.equals(game.scoreThem(), points[1])) {
+            gameService.applyPlayScore(game, points[0], points[1]);
+        }
+    }
+
+    private static GamePlay toPlay(Long gameId, RecordPlayRequest request, Set<Long> roster) {
+        if (request.side() == PlaySide.THEM && request.playerId() != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Play " + request.sequence() + ": opponent plays have no player");
+        }
+        if (request.playerId() != null && !roster.contains(request.playerId())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Play " + request.sequence() + ": player " + request.playerId() + " is not on this team");
+        }
+        return new GamePlay(gameId, request.sequence(), request.period(), request.clockSeconds(),
+                request.side(), request.type(), request.playerId());
+    }
+}
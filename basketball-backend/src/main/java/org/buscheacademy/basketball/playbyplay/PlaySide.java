@@ -0,0 +1,6 @@
+package org.buscheacademy.basketball.playbyplay;
+
+public enum PlaySide {
+    US,
+    THEM
+}
@@ -0,0 +1,29 @@
+package org.buscheacademy.basketball.playbyplay;
+
+public enum PlayType {
+    TWO_MADE(2),
+    TWO_MISSED(0),
+    THREE_MADE(3),
+    THREE_MISSED(0),
+    FREE_THROW_MADE(1),
+    FREE_THROW_MISSED(0),
+    OFFENSIVE_REBOUND(0),
+    DEFENSIVE_REBOUND(0),
+    ASSIST(0),
+    STEAL(0),
+    BLOCK(0),
+    TURNOVER(0),
+    FOUL(0),
+    SUB_IN(0),
+    SUB_OUT(0);
+
+    private final int points;
+
+    PlayType(int points) {
+        this.points = points;
+    }
+
+    public int points() {
+        return points;
+    }
+}
@@ -0,0 +1,10 @@
+package org.buscheacademy.basketball.playbyplay;
+
+import java.util.List;
+
+/**
+ * Published by {@link PlayByPlayService} for every ingested batch. May repeat plays
+ * that were already stored (a re-sent batch); consumers dedupe on the sequence number.
+ */
+public record PlaysRecordedEvent(Long gameId, List<GamePlay> plays) {
+}
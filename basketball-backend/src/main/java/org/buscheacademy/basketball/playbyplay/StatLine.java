@@ -0,0 +1,84 @@
+package org.buscheacademy.basketball.playbyplay;
+
+import org.buscheacademy.basketball.dto.StatLineDto;
+
+/**
+ * Running counting stats for one player or one side of a game.
+ */
+class StatLine {
+
+    private int points;
+    private int fieldGoalsMade;
+    private int fieldGoalsAttempted;
+    private int threesMade;
+    private int threesAttempted;
+    private int freeThrowsMade;
+    private int freeThrowsAttempted;
+    private int offensiveRebounds;
+    private int defensiveRebounds;
+    private int assists;
+    private int steals;
+    private int blocks;
+    private int turnovers;
+    private int fouls;
+
+    void apply(PlayType type) {
+        points += type.points();
+        switch (type) {
+            case TWO_MADE -> {
+                fieldGoalsMade++;
+                fieldGoalsAttempted++;
+            }
+            case TWO_MISSED -> fieldGoalsAttempted++;
+            case THREE_MADE -> {
+                fieldGoalsMade++;
+                fieldGoalsAttempted++;
+                threesMade++;
+                threesAttempted++;
+            }
+            case THREE_MISSED -> {
+                fieldGoalsAttempted++;
+                threesAttempted++;
+            }
+            case FREE_THROW_MADE -> {
+                freeThrowsMade++;
+                freeThrowsAttempted++;
+            }
+            case FREE_THROW_MISSED -> freeThrowsAttempted++;
+            case OFFENSIVE_REBOUND -> offensiveRebounds++;
+            case DEFENSIVE_REBOUND -> defensiveRebounds++;
+            case ASSIST -> assists++;
+            case STEAL -> steals++;
+            case BLOCK -> blocks++;
+            case TURNOVER -> turnovers++;
+            case FOUL -> fouls++;
+            case SUB_IN, SUB_OUT -> {
+                // lineup changes carry no counting stat
+            }
+        }
+    }
+
+    int points() {
+        return points;
+    }
+
+    StatLineDto toDto() {
+        return new StatLineDto(
+                points,
+                fieldGoalsMade,
+                fieldGoalsAttempted,
+                threesMade,
+                threesAttempted,
+                freeThrowsMade,
+                freeThrowsAttempted,
+                offensiveRebounds,
+                defensiveRebounds,
+                offensiveRebounds + defensiveRebounds,
+                assists,
+                steals,
+                blocks,
+                turnovers,
+                fouls
+        );
+    }
+}
@@ -15,7 +15,8 @@ import org.buscheacademy.basketball.team.Team;
 public class Player extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_seq")
+    @SequenceGenerator(name = "players_seq", sequenceName = "players_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 80)
@@ -57,6 +58,12 @@ public class Player extends BaseEntity {
     @Column(length = 500)
     private String photoUrl;
 
+    /**
+     * Season this roster entry belongs to, e.g. "2025-2026".
+     */
+    @Column(nullable = false, length = 9)
+    private String season;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id", nullable = false,
             foreignKey = @ForeignKey(name = "fk_players_team"))
@@ -0,0 +1,14 @@
+package org.buscheacademy.basketball.player;
+
+import org.buscheacademy.basketball.dto.PlayerDto;
+
+/**
+ * Published by {@link PlayerService} after every player write.
+ * {@code before} is null for a create, {@code after} is null for a delete.
+ */
+public record PlayerChangedEvent(PlayerDto before, PlayerDto after) {
+
+    public Long playerId() {
+        return after != null ? after.id() : before.id();
+    }
+}
@@ -1,6 +1,10 @@
 package org.buscheacademy.basketball.player;
 
 import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.dto.PresignUploadRequest;
+import org.buscheacademy.basketball.dto.PresignedUploadResponse;
+import org.buscheacademy.basketball.storage.PresignedUploadService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,7 +20,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PlayerImageStorageService {
 
-    private final S3Client s3Client;
+    // Built on first use (see S3Config)
+    private final ObjectProvider<S3Client> s3Client;
+    private final PresignedUploadService presignedUploadService;
 
     @Value("${app.s3.bucket-name}")
     private String bucketName;
@@ -30,6 +36,9 @@ public class PlayerImageStorageService {
     @Value("${app.s3.player-prefix:players/}")
     private String playerPrefix;
 
+    @Value("${app.upload.max-photo-bytes:10485760}")
+    private long maxPhotoBytes;
+
     public String storePlayerPhoto(MultipartFile file) {
         if (bucketName == null || bucketName.isBlank()) {
             throw new IllegalStateException("S3 bucket is not configured (app.s3.bucket-name is blank)");
@@ -51,7 +60,7 @@ public class PlayerImageStorageService {
                     .acl(ObjectCannedACL.PUBLIC_READ)
                     .build();
 
-            s3Client.putObject(
+            s3Client.getObject().putObject(
                     putRequest,
                     RequestBody.fromInputStream(file.getInputStream(), file.getSize())
             );
@@ -62,6 +71,18 @@ public class PlayerImageStorageService {
         }
     }
 
+    // --- Direct browser uploads (presigned PUT) ---
+
+    public PresignedUploadResponse createPhotoUploadUrl(PresignUploadRequest request) {
+        return presignedUploadService.presignPut(playerPrefix, request,
+                PresignedUploadService.PHOTO_CONTENT_TYPES, maxPhotoBytes);
+    }
+
+    public String completePhotoUpload(String objectKey) {
+        return presignedUploadService.completeUpload(playerPrefix, objectKey,
+                PresignedUploadService.PHOTO_CONTENT_TYPES, maxPhotoBytes);
+    }
+
     private String buildPublicUrl(String key) {
         if (publicBaseUrl != null && !publicBaseUrl.isBlank()) {
             if (publicBaseUrl.endsWith("/")) {
@@ -1,10 +1,40 @@
 package org.buscheacademy.basketball.player;
 
+import org.buscheacademy.basketball.dto.PlayerDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
 
-    List<Player> findByTeamIdOrderByJerseyNumberAsc(Long teamId);
+    // Public roster, selected straight into PlayerDto (no Player/Team entities hydrated)
+    String PLAYER_DTO = """
+            select new org.buscheacademy.basketball.dto.PlayerDto(
+                p.id, p.firstName, p.lastName, p.jerseyNumber, p.position, p.height,
+                p.gradYear, p.country, p.photoUrl, t.id, t.name, p.season)
+            from Player p join p.team t
+            """;
+
+    // One team's roster for one season; players carry a row per season they were rostered
+    @Query(PLAYER_DTO + "where t.id = :teamId and p.season = :season order by p.jerseyNumber asc, p.id asc")
+    List<PlayerDto> findRosterByTeamIdAndSeason(@Param("teamId") Long teamId, @Param("season") String season);
+
+    // Every team's roster for one season
+    @Query(PLAYER_DTO + "where p.season = :season order by t.id asc, p.jerseyNumber asc")
+    List<PlayerDto> findRosterBySeason(@Param("season") String season);
+
+    // Latest season up to :current with players on the team; labels sort chronologically
+    @Query("select max(p.season) from Player p where p.team.id = :teamId and p.season <= :current")
+    Optional<String> findLatestRosterSeason(@Param("teamId") Long teamId, @Param("current") String current);
+
+    // Each team's roster for its latest season up to :current, for the search index
+    @Query(PLAYER_DTO + """
+            where p.season = (select max(p2.season) from Player p2
+                              where p2.team = p.team and p2.season <= :current)
+            order by t.id asc, p.jerseyNumber asc
+            """)
+    List<PlayerDto> findLatestRosters(@Param("current") String current);
 }
@@ -3,11 +3,16 @@ package org.buscheacademy.basketball.player;
 import lombok.RequiredArgsConstructor;
 import org.buscheacademy.basketball.dto.CreateOrUpdatePlayerRequest;
 import org.buscheacademy.basketball.dto.PlayerDto;
+import org.buscheacademy.basketball.season.SeasonGuard;
+import org.buscheacademy.basketball.season.Seasons;
 import org.buscheacademy.basketball.team.Team;
 import org.buscheacademy.basketball.team.TeamService;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -17,21 +22,54 @@ public class PlayerService {
 
     private final PlayerRepository playerRepository;
     private final TeamService teamService;
+    private final SeasonGuard seasonGuard;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ---------- Public ----------
 
-    @Cacheable(cacheNames = "playersByTeam", key = "#teamId")
-    public List<PlayerDto> getPlayersByTeam(Long teamId) {
-        return playerRepository.findByTeamIdOrderByJerseyNumberAsc(teamId)
-                .stream()
-                .map(this::toDto)
-                .toList();
+    @Cacheable(cacheNames = "playersByTeam", key = "#teamId + ':' + #season")
+    @Transactional(readOnly = true)
+    public List<PlayerDto> getPlayersByTeam(Long teamId, String season) {
+        return playerRepository.findRosterByTeamIdAndSeason(teamId, season);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlayerDto> getSeasonRoster(String season) {
+        return playerRepository.findRosterBySeason(season);
+    }
+
+    /**
+     * Season a team's roster is shown for when none is asked for: the latest one, up to the
+     * current season, that has players on the team (the current season if none has). Rosters
+     * are entered per season, so last season's stays up after the August rollover until the
+     * coach enters the new one.
+     */
+    @Cacheable(cacheNames = "rosterSeasons",
+            key = "#teamId + ':' + T(org.buscheacademy.basketball.season.Seasons).current()")
+    @Transactional(readOnly = true)
+    public String getRosterSeason(Long teamId) {
+        String current = Seasons.current();
+        return playerRepository.findLatestRosterSeason(teamId, current).orElse(current);
+    }
+
+    // Every team's roster for its getRosterSeason season
+    @Transactional(readOnly = true)
+    public List<PlayerDto> getLatestRosters() {
+        return playerRepository.findLatestRosters(Seasons.current());
     }
 
     // ---------- Admin CRUD ----------
 
-    @CacheEvict(cacheNames = "playersByTeam", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "playersByTeam", allEntries = true),
+            @CacheEvict(cacheNames = "rosterSeasons", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true)
+    })
+    @Transactional
     public PlayerDto createPlayer(CreateOrUpdatePlayerRequest request) {
+        String season = request.season() != null ? request.season() : Seasons.current();
+        Seasons.startYear(season);
+        seasonGuard.requireOpen(season);
         Team team = teamService.getByIdOrThrow(request.teamId());
 
         Player player = Player.builder()
@@ -44,15 +82,28 @@ public class PlayerService {
                 .gradYear(request.gradYear())
                 .country(request.country())
                 .photoUrl(request.photoUrl())
+                .season(season)
                 .build();
 
-        return toDto(playerRepository.save(player));
+        PlayerDto created = toDto(playerRepository.save(player));
+        eventPublisher.publishEvent(new PlayerChangedEvent(null, created));
+        return created;
     }
 
-    @CacheEvict(cacheNames = "playersByTeam", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "playersByTeam", allEntries = true),
+            @CacheEvict(cacheNames = "rosterSeasons", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true)
+    })
+    @Transactional
     public PlayerDto updatePlayer(Long id, CreateOrUpdatePlayerRequest request) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Player not found: " + id));
+        String season = request.season() != null ? request.season() : player.getSeason();
+        Seasons.startYear(season);
+        seasonGuard.requireOpen(player.getSeason());
+        seasonGuard.requireOpen(season);
+        PlayerDto before = toDto(player);
 
         Team team = teamService.getByIdOrThrow(request.teamId());
 
@@ -65,16 +116,26 @@ public class PlayerService {
         player.setGradYear(request.gradYear());
         player.setCountry(request.country());
         player.setPhotoUrl(request.photoUrl());
+        player.setSeason(season);
 
-        return toDto(playerRepository.save(player));
+        PlayerDto after = toDto(playerRepository.save(player));
+        eventPublisher.publishEvent(new PlayerChangedEvent(before, after));
+        return after;
     }
 
-    @CacheEvict(cacheNames = "playersByTeam", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "playersByTeam", allEntries = true),
+            @CacheEvict(cacheNames = "rosterSeasons", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true)
+    })
+    @Transactional
     public void deletePlayer(Long id) {
-        if (!playerRepository.existsById(id)) {
-            throw new IllegalArgumentException("Player not found: " + id);
-        }
-        playerRepository.deleteById(id);
+        Player player = playerRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Player not found: " + id));
+        seasonGuard.requireOpen(player.getSeason());
+        PlayerDto before = toDto(player);
+        playerRepository.delete(player);
+        eventPublisher.publishEvent(new PlayerChangedEvent(before, null));
     }
 
     // ---------- Mapper ----------
@@ -91,7 +152,8 @@ public class PlayerService {
                 player.getCountry(),
                 player.getPhotoUrl(),
                 player.getTeam().getId(),
-                player.getTeam().getName()
+                player.getTeam().getName(),
+                player.getSeason()
         );
     }
 }
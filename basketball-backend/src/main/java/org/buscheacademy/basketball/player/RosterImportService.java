@@ -0,0 +1,381 @@
+package org.buscheacademy.basketball.player;
+
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.common.CsvReader;
+import org.buscheacademy.basketball.dto.ImportRowErrorDto;
+import org.buscheacademy.basketball.dto.PlayerDto;
+import org.buscheacademy.basketball.dto.RosterImportResultDto;
+import org.buscheacademy.basketball.season.SeasonGuard;
+import org.buscheacademy.basketball.season.Seasons;
+import org.buscheacademy.basketball.team.TeamService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bulk roster upload from CSV.
+ * <p>
+ * Every row is validated before anything is written; one bad row rejects the file and
+ * the report lists each problem by line. A valid file is applied in one transaction as
+ * one JDBC batch of inserts and one of updates, followed by a single cache eviction.
+ * Rows match existing players of the team and season by jersey number, then by name.
+ * Columns missing from the header leave the existing values alone.
+ */
+@Service
+@RequiredArgsConstructor
+public class RosterImportService {
+
+    public static final int MAX_ROWS = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO players (created_at, updated_at, first_name, last_name, jersey_number, position,
+                                 height, grad_year, country, photo_url, season, team_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE players
+            SET updated_at = ?, first_name = ?, last_name = ?, jersey_number = ?, position = ?,
+                height = ?, grad_year = ?, country = ?, photo_url = ?
+            WHERE id = ?
+            """;
+
+    private final PlayerRepository playerRepository;
+    private final TeamService teamService;
+    private final SeasonGuard seasonGuard;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "playersByTeam", allEntries = true),
+            @CacheEvict(cacheNames = "rosterSeasons", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true)
+    })
+    @Transactional
+    public RosterImportResultDto importRoster(Long teamId, String requestedSeason, InputStream csv) {
+        String season = requestedSeason != null ? requestedSeason : Seasons.current();
+        Seasons.startYear(season);
+        seasonGuard.requireOpen(season);
+        teamService.getByIdOrThrow(teamId);
+
+        List<ImportRowErrorDto> errors = new ArrayList<>();
+        ParsedFile file = parse(csv, errors);
+        if (file == null) {
+            return new RosterImportResultDto(teamId, season, 0, 0, 0, errors);
+        }
+
+        // Rows that parsed cleanly are still matched so duplicates show up in the same report
+        List<PlayerDto> existing = playerRepository.findRosterByTeamIdAndSeason(teamId, season);
+        Plan plan = plan(file, existing, errors);
+        if (!errors.isEmpty()) {
+            errors.sort(Comparator.comparingInt(ImportRowErrorDto::line));
+            return new RosterImportResultDto(teamId, season, 0, 0, 0, errors);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, plan.inserts(), plan.inserts().size(), (ps, player) -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            bindFields(ps, 3, player);
+            ps.setString(11, season);
+            ps.setLong(12, teamId);
+        });
+        jdbcTemplate.batchUpdate(UPDATE_SQL, plan.updates(), plan.updates().size(), (ps, player) -> {
+            ps.setTimestamp(1, now);
+            bindFields(ps, 2, player);
+            ps.setLong(10, player.id());
+        });
+
+        publishChanges(teamId, season, existing);
+        return new RosterImportResultDto(teamId, season,
+                plan.inserts().size(), plan.updates().size(), plan.unchanged(), List.of());
+    }
+
+    // ---------- Parsing ----------
+
+    private ParsedFile parse(InputStream csv, List<ImportRowErrorDto> errors) {
+        try (CsvReader reader = new CsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            List<String> header = reader.next();
+            if (header == null) {
+                errors.add(new ImportRowErrorDto(1, "File is empty"));
+                return null;
+            }
+            Map<Column, Integer> positions = new EnumMap<>(Column.class);
+            for (int i = 0; i < header.size(); i++) {
+                Column column = Column.forHeader(header.get(i));
+                if (column != null) {
+                    positions.putIfAbsent(column, i);
+                }
+            }
+            for (Column required : List.of(Column.FIRST_NAME, Column.LAST_NAME)) {
+                if (!positions.containsKey(required)) {
+                    errors.add(new ImportRowErrorDto(1, "Missing column: " + required.headers[0]));
+                }
+            }
+            if (!errors.isEmpty()) {
+                return null;
+            }
+
+            List<Row> rows = new ArrayList<>();
+            int rowCount = 0;
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (++rowCount > MAX_ROWS) {
+                    errors.add(new ImportRowErrorDto(reader.recordLine(), "More than " + MAX_ROWS + " rows"));
+                    return null;
+                }
+                Row row = parseRow(reader.recordLine(), fields, positions, errors);
+                if (row != null) {
+                    rows.add(row);
+                }
+            }
+            return new ParsedFile(EnumSet.copyOf(positions.keySet()), rows);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unreadable CSV: " + ex.getMessage());
+        }
+    }
+
+    // Null when the row has errors
+    private static Row parseRow(int line, List<String> fields, Map<Column, Integer> positions,
+                                List<ImportRowErrorDto> errors) {
+        int errorCount = errors.size();
+        Map<Column, String> values = new EnumMap<>(Column.class);
+        positions.forEach((column, index) -> {
+            String value = index < fields.size() ? fields.get(index).trim() : "";
+            if (value.isEmpty()) {
+                return;
+            }
+            if (value.length() > column.maxLength) {
+                errors.add(new ImportRowErrorDto(line,
+                        column.headers[0] + " is longer than " + column.maxLength + " characters"));
+            }
+            values.put(column, value);
+        });
+
+        if (!values.containsKey(Column.FIRST_NAME) || !values.containsKey(Column.LAST_NAME)) {
+            errors.add(new ImportRowErrorDto(line, "firstName and lastName are required"));
+        }
+        Integer jersey = parseInt(line, values.get(Column.JERSEY_NUMBER), Column.JERSEY_NUMBER, 0, 99, errors);
+        Integer gradYear = parseInt(line, values.get(Column.GRAD_YEAR), Column.GRAD_YEAR, 1900, 2100, errors);
+        if (errors.size() > errorCount) {
+            return null;
+        }
+
+        return new Row(line, new PlayerFields(
+                null,
+                values.get(Column.FIRST_NAME),
+                values.get(Column.LAST_NAME),
+                jersey,
+                values.get(Column.POSITION),
+                values.get(Column.HEIGHT),
+                gradYear,
+                values.get(Column.COUNTRY),
+                values.get(Column.PHOTO_URL)));
+    }
+
+    private static Integer parseInt(int line, String value, Column column, int min, int max,
+                                    List<ImportRowErrorDto> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            int parsed = Integer.parseInt(value.startsWith("#") ? value.substring(1) : value);
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        errors.add(new ImportRowErrorDto(line,
+                column.headers[0] + " must be a whole number from " + min + " to " + max));
+        return null;
+    }
+
+    // ---------- Matching ----------
+
+    private static Plan plan(ParsedFile file, List<PlayerDto> existing, List<ImportRowErrorDto> errors) {
+        Map<Integer, PlayerDto> byJersey = new HashMap<>();
+        Map<String, PlayerDto> byName = new HashMap<>();
+        for (PlayerDto player : existing) {
+            if (player.jerseyNumber() != null) {
+                byJersey.putIfAbsent(player.jerseyNumber(), player);
+            }
+            byName.putIfAbsent(nameKey(player.firstName(), player.lastName()), player);
+        }
+
+        Map<Integer, Integer> jerseyLines = new HashMap<>();
+        Map<String, Integer> nameLines = new HashMap<>();
+        Map<Long, Integer> matchedLines = new HashMap<>();
+        List<PlayerFields> inserts = new ArrayList<>();
+        List<PlayerFields> updates = new ArrayList<>();
+        int unchanged = 0;
+
+        for (Row row : file.rows()) {
+            PlayerFields fields = row.fields();
+            Integer jersey = fields.jerseyNumber();
+            String name = nameKey(fields.firstName(), fields.lastName());
+
+            Integer sameJersey = jersey != null ? jerseyLines.putIfAbsent(jersey, row.line()) : null;
+            if (sameJersey != null) {
+                errors.add(new ImportRowErrorDto(row.line(), "Jersey #" + jersey + " is also on line " + sameJersey));
+                continue;
+            }
+            Integer sameName = nameLines.putIfAbsent(name, row.line());
+            if (sameName != null) {
+                errors.add(new ImportRowErrorDto(row.line(), "Same player as line " + sameName));
+                continue;
+            }
+
+            PlayerDto jerseyOwner = jersey != null ? byJersey.get(jersey) : null;
+            PlayerDto namesake = byName.get(name);
+            if (jerseyOwner != null && namesake != null && !jerseyOwner.id().equals(namesake.id())) {
+                errors.add(new ImportRowErrorDto(row.line(), "Jersey #" + jersey + " already belongs to "
+                        + jerseyOwner.firstName() + " " + jerseyOwner.lastName()));
+                continue;
+            }
+            PlayerDto match = jerseyOwner != null ? jerseyOwner : namesake;
+            if (match != null) {
+                Integer otherLine = matchedLines.putIfAbsent(match.id(), row.line());
+                if (otherLine != null) {
+                    errors.add(new ImportRowErrorDto(row.line(),
+                            "Matches the same existing player as line " + otherLine));
+                    continue;
+                }
+            }
+
+            if (match == null) {
+                inserts.add(fields);
+                continue;
+            }
+            PlayerFields merged = merge(match, fields, file.columns());
+            if (merged.equals(PlayerFields.of(match))) {
+                unchanged++;
+            } else {
+                updates.add(merged);
+            }
+        }
+        return new Plan(inserts, updates, unchanged);
+    }
+
+    // Columns absent from the file keep the stored value; present but empty cells clear it
+    private static PlayerFields merge(PlayerDto current, PlayerFields row, Set<Column> columns) {
+        return new PlayerFields(
+                current.id(),
+                row.firstName(),
+                row.lastName(),
+                columns.contains(Column.JERSEY_NUMBER) ? row.jerseyNumber() : current.jerseyNumber(),
+                columns.contains(Column.POSITION) ? row.position() : current.position(),
+                columns.contains(Column.HEIGHT) ? row.height() : current.height(),
+                columns.contains(Column.GRAD_YEAR) ? row.gradYear() : current.gradYear(),
+                columns.contains(Column.COUNTRY) ? row.country() : current.country(),
+                columns.contains(Column.PHOTO_URL) ? row.photoUrl() : current.photoUrl());
+    }
+
+    private static String nameKey(String firstName, String lastName) {
+        return (Objects.toString(firstName, "") + " " + Objects.toString(lastName, ""))
+                .trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // ---------- Writing ----------
+
+    private static void bindFields(java.sql.PreparedStatement ps, int first, PlayerFields player)
+            throws java.sql.SQLException {
+        ps.setString(first, player.firstName());
+        ps.setString(first + 1, player.lastName());
+        ps.setObject(first + 2, player.jerseyNumber(), Types.INTEGER);
+        ps.setString(first + 3, player.position());
+        ps.setString(first + 4, player.height());
+        ps.setObject(first + 5, player.gradYear(), Types.INTEGER);
+        ps.setString(first + 6, player.country());
+        ps.setString(first + 7, player.photoUrl());
+    }
+
+    // Same events as one-by-one edits, so the search index and other listeners follow along
+    private void publishChanges(Long teamId, String season, List<PlayerDto> before) {
+        Map<Long, PlayerDto> beforeById = new HashMap<>();
+        before.forEach(player -> beforeById.put(player.id(), player));
+        for (PlayerDto after : playerRepository.findRosterByTeamIdAndSeason(teamId, season)) {
+            PlayerDto previous = beforeById.get(after.id());
+            if (!after.equals(previous)) {
+                eventPublisher.publishEvent(new PlayerChangedEvent(previous, after));
+            }
+        }
+    }
+
+    private enum Column {
+        FIRST_NAME(80, "firstName", "first"),
+        LAST_NAME(80, "lastName", "last", "surname"),
+        JERSEY_NUMBER(3, "jerseyNumber", "jersey", "number", "no"),
+        POSITION(20, "position", "pos"),
+        HEIGHT(50, "height"),
+        GRAD_YEAR(4, "gradYear", "graduationYear", "class"),
+        COUNTRY(120, "country", "nationality"),
+        PHOTO_URL(500, "photoUrl", "photo");
+
+        private final int maxLength;
+        private final String[] headers;
+
+        Column(int maxLength, String... headers) {
+            this.maxLength = maxLength;
+            this.headers = headers;
+        }
+
+        // "First Name", "first_name" and "firstName" all match; a bare "#" is the jersey
+        static Column forHeader(String header) {
+            if (header.trim().equals("#")) {
+                return JERSEY_NUMBER;
+            }
+            String key = header.replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT);
+            for (Column column : values()) {
+                for (String candidate : column.headers) {
+                    if (candidate.toLowerCase(Locale.ROOT).equals(key)) {
+                        return column;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    private record PlayerFields(Long id, String firstName, String lastName, Integer jerseyNumber,
+                                String position, String height, Integer gradYear, String country,
+                                String photoUrl) {
+
+        static PlayerFields of(PlayerDto player) {
+            return new PlayerFields(player.id(), player.firstName(), player.lastName(), player.jerseyNumber(),
+                    player.position(), player.height(), player.gradYear(), player.country(), player.photoUrl());
+        }
+    }
+
+    private record Row(int line, PlayerFields fields) {
+    }
+
+    private record ParsedFile(Set<Column> columns, List<Row> rows) {
+    }
+
+    private record Plan(List<PlayerFields> inserts, List<PlayerFields> updates, int unchanged) {
+    }
+}
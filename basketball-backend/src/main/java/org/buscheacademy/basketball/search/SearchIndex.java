@@ -0,0 +1,209 @@
+package org.buscheacademy.basketball.search;
+
+import org.buscheacademy.basketball.dto.SearchResultDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over short text fields. Not thread-safe; {@link SearchService} guards it.
+ * <p>
+ * Every query token must match (so results narrow as the user types). A token matches a
+ * term exactly, as a prefix (typeahead), or, when neither finds anything, by trigram
+ * similarity so small typos still hit. Each term carries the highest boost of the fields
+ * it came from.
+ */
+class SearchIndex {
+
+    private static final double PREFIX_FACTOR = 0.7;
+    private static final double FUZZY_FACTOR = 0.5;
+    private static final double MIN_TRIGRAM_SIMILARITY = 0.4;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    record Field(String text, float boost) {
+    }
+
+    private record DocKey(SearchResultType type, Long id) {
+    }
+
+    private record Expansion(String term, Map<DocKey, Float> docs, double factor, double weight) {
+    }
+
+    // Best first: highest weight, then the shortest (closest) completion, then alphabetical
+    private static final Comparator<Expansion> BEST_EXPANSION = Comparator
+            .comparingDouble(Expansion::weight).reversed()
+            .thenComparingInt(expansion -> expansion.term().length())
+            .thenComparing(Expansion::term);
+
+    private final Map<DocKey, SearchResultDto> results = new HashMap<>();
+    private final Map<DocKey, Map<String, Float>> termsByDoc = new HashMap<>();
+    private final TreeMap<String, Map<DocKey, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+    void put(SearchResultDto result, List<Field> fields) {
+        DocKey key = new DocKey(result.type(), result.id());
+        remove(result.type(), result.id());
+
+        Map<String, Float> terms = new HashMap<>();
+        for (Field field : fields) {
+            for (String token : tokenize(field.text())) {
+                terms.merge(token, field.boost(), Math::max);
+            }
+        }
+
+        results.put(key, result);
+        termsByDoc.put(key, terms);
+        terms.forEach((term, weight) -> {
+            Map<DocKey, Float> docs = postings.computeIfAbsent(term, t -> {
+                trigrams(t).forEach(g -> termsByTrigram.computeIfAbsent(g, x -> new HashSet<>()).add(t));
+                return new HashMap<>();
+            });
+            docs.put(key, weight);
+        });
+    }
+
+    void remove(SearchResultType type, Long id) {
+        DocKey key = new DocKey(type, id);
+        results.remove(key);
+        Map<String, Float> terms = termsByDoc.remove(key);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<DocKey, Float> docs = postings.get(term);
+            docs.remove(key);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+                for (String gram : trigrams(term)) {
+                    Set<String> sharing = termsByTrigram.get(gram);
+                    sharing.remove(term);
+                    if (sharing.isEmpty()) {
+                        termsByTrigram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    int size() {
+        return results.size();
+    }
+
+    List<SearchResultDto> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        Map<DocKey, Double> scores = null;
+        for (String token : tokens) {
+            Map<DocKey, Double> matches = match(token);
+            if (scores == null) {
+                scores = matches;
+            } else {
+                scores.keySet().retainAll(matches.keySet());
+                scores.replaceAll((doc, score) -> score + matches.get(doc));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<DocKey, Double>comparingByValue().reversed()
+                        .thenComparing(e -> results.get(e.getKey()).title(), String.CASE_INSENSITIVE_ORDER))
+                .limit(limit)
+                .map(e -> results.get(e.getKey()))
+                .toList();
+    }
+
+    // Best score per document for one query token
+    private Map<DocKey, Double> match(String token) {
+        Map<DocKey, Double> best = new HashMap<>();
+
+        // A short prefix can expand to many terms. Only the best-weighted ones are scored,
+        // so the cap drops the weakest completions, not the ones late in the alphabet
+        SortedMap<String, Map<DocKey, Float>> prefixed = postings.subMap(token, token + Character.MAX_VALUE);
+        PriorityQueue<Expansion> expansions = new PriorityQueue<>(BEST_EXPANSION.reversed());
+        for (Map.Entry<String, Map<DocKey, Float>> entry : prefixed.entrySet()) {
+            double factor = entry.getKey().equals(token) ? 1.0 : PREFIX_FACTOR;
+            double weight = factor * Collections.max(entry.getValue().values());
+            expansions.add(new Expansion(entry.getKey(), entry.getValue(), factor, weight));
+            if (expansions.size() > MAX_PREFIX_EXPANSIONS) {
+                expansions.poll();
+            }
+        }
+        expansions.forEach(expansion -> collect(expansion.docs(), expansion.factor(), best));
+
+        if (best.isEmpty() && token.length() >= 3) {
+            for (Map.Entry<String, Double> similar : similarTerms(token).entrySet()) {
+                collect(postings.get(similar.getKey()), FUZZY_FACTOR * similar.getValue(), best);
+            }
+        }
+        return best;
+    }
+
+    private static void collect(Map<DocKey, Float> docs, double factor, Map<DocKey, Double> best) {
+        docs.forEach((doc, weight) -> best.merge(doc, weight * factor, Math::max));
+    }
+
+    // Terms whose trigram sets overlap the token's (Jaccard) by at least MIN_TRIGRAM_SIMILARITY
+    private Map<String, Double> similarTerms(String token) {
+        Set<String> grams = trigrams(token);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            Set<String> terms = termsByTrigram.get(gram);
+            if (terms != null) {
+                terms.forEach(term -> shared.merge(term, 1, Integer::sum));
+            }
+        }
+
+        Map<String, Double> similar = new HashMap<>();
+        shared.forEach((term, common) -> {
+            double similarity = (double) common / (grams.size() + trigrams(term).size() - common);
+            if (similarity >= MIN_TRIGRAM_SIMILARITY) {
+                similar.put(term, similarity);
+            }
+        });
+        return similar;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Padded so word starts and ends count: "jay" -> " ja", "jay", "ay "
+    private static Set<String> trigrams(String term) {
+        String padded = " " + term + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,8 @@
+package org.buscheacademy.basketball.search;
+
+public enum SearchResultType {
+    PLAYER,
+    STAFF,
+    TEAM,
+    OPPONENT
+}
@@ -0,0 +1,219 @@
+package org.buscheacademy.basketball.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.dto.OpponentDto;
+import org.buscheacademy.basketball.dto.PlayerDto;
+import org.buscheacademy.basketball.dto.SearchResultDto;
+import org.buscheacademy.basketball.dto.StaffMemberDto;
+import org.buscheacademy.basketball.dto.TeamDto;
+import org.buscheacademy.basketball.opponent.OpponentChangedEvent;
+import org.buscheacademy.basketball.opponent.OpponentService;
+import org.buscheacademy.basketball.opponent.OpponentsMergedEvent;
+import org.buscheacademy.basketball.player.PlayerChangedEvent;
+import org.buscheacademy.basketball.player.PlayerService;
+import org.buscheacademy.basketball.season.Seasons;
+import org.buscheacademy.basketball.search.SearchIndex.Field;
+import org.buscheacademy.basketball.staff.StaffChangedEvent;
+import org.buscheacademy.basketball.staff.StaffMemberService;
+import org.buscheacademy.basketball.team.TeamChangedEvent;
+import org.buscheacademy.basketball.team.TeamService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Site search over current rosters, active staff, teams and opponents, served from memory.
+ * <p>
+ * The index is filled on the first query and then follows the *ChangedEvents published
+ * by the owning services, re-indexing only the record that changed. Players get one row
+ * per season, so each team's players are indexed for the season its roster is shown for
+ * ({@link PlayerService#getRosterSeason}); a change that can move that season, and the
+ * season rolling over, rebuild the index on the next query.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SearchService {
+
+    private static final float NAME_BOOST = 3.0f;
+    private static final float ALIAS_BOOST = 2.0f;
+    private static final float POSITION_BOOST = 1.5f;
+    private static final float COUNTRY_BOOST = 1.0f;
+    private static final float BIO_BOOST = 0.5f;
+
+    private final PlayerService playerService;
+    private final StaffMemberService staffMemberService;
+    private final TeamService teamService;
+    private final OpponentService opponentService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private SearchIndex index = new SearchIndex();
+    private Map<Long, String> rosterSeasons = new HashMap<>();
+    private volatile String indexedSeason;
+    private volatile boolean loaded;
+
+    public List<SearchResultDto> search(String query, int limit) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return index.search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---------- Incremental updates ----------
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        update(() -> {
+            PlayerDto player = event.after();
+            if (player != null && player.season().equals(rosterSeasons.get(player.teamId()))) {
+                indexPlayer(player);
+            } else if (movesRosterSeason(event.before()) || movesRosterSeason(player)) {
+                // A newer roster started, or the indexed one lost a player and may be empty now
+                loaded = false;
+            } else {
+                index.remove(SearchResultType.PLAYER, event.playerId());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStaffChanged(StaffChangedEvent event) {
+        update(() -> {
+            StaffMemberDto staff = event.after();
+            if (staff == null || !staff.active()) {
+                index.remove(SearchResultType.STAFF, event.staffId());
+            } else {
+                indexStaff(staff);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        update(() -> {
+            if (event.after() == null) {
+                index.remove(SearchResultType.TEAM, event.teamId());
+            } else {
+                indexTeam(event.after());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOpponentChanged(OpponentChangedEvent event) {
+        update(() -> indexOpponent(event.opponent()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOpponentsMerged(OpponentsMergedEvent event) {
+        // OpponentService.merge follows up with an OpponentChangedEvent for the target,
+        // which re-indexes it with the source's name and aliases
+        update(() -> index.remove(SearchResultType.OPPONENT, event.sourceId()));
+    }
+
+    // Applies a change only once the index exists; before that the first load sees it anyway
+    private void update(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Whether adding or removing this row can change which season its team's roster is shown for
+    private boolean movesRosterSeason(PlayerDto player) {
+        if (player == null || player.season().compareTo(indexedSeason) > 0) {
+            return false;
+        }
+        String season = rosterSeasons.get(player.teamId());
+        return season == null || player.season().compareTo(season) >= 0;
+    }
+
+    private void ensureLoaded() {
+        String season = Seasons.current();
+        if (loaded && season.equals(indexedSeason)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded && season.equals(indexedSeason)) {
+                return;
+            }
+            index = new SearchIndex();
+            rosterSeasons = new HashMap<>();
+            indexedSeason = season;
+            for (PlayerDto player : playerService.getLatestRosters()) {
+                rosterSeasons.put(player.teamId(), player.season());
+                indexPlayer(player);
+            }
+            staffMemberService.getAllStaff().stream().filter(StaffMemberDto::active).forEach(this::indexStaff);
+            teamService.getAllTeams().forEach(this::indexTeam);
+            opponentService.getAll().forEach(this::indexOpponent);
+            loaded = true;
+            log.info("Search index built for {} with {} documents", season, index.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---------- Documents ----------
+
+    private void indexPlayer(PlayerDto player) {
+        String subtitle = Stream.of(
+                        player.jerseyNumber() != null ? "#" + player.jerseyNumber() : null,
+                        player.position(),
+                        player.country())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" · "));
+        index.put(
+                new SearchResultDto(SearchResultType.PLAYER, player.id(),
+                        player.firstName() + " " + player.lastName(),
+                        subtitle.isEmpty() ? null : subtitle,
+                        player.teamId()),
+                List.of(
+                        new Field(player.firstName(), NAME_BOOST),
+                        new Field(player.lastName(), NAME_BOOST),
+                        new Field(player.position(), POSITION_BOOST),
+                        new Field(player.country(), COUNTRY_BOOST)));
+    }
+
+    private void indexStaff(StaffMemberDto staff) {
+        index.put(
+                new SearchResultDto(SearchResultType.STAFF, staff.id(), staff.fullName(), staff.position(), null),
+                List.of(
+                        new Field(staff.fullName(), NAME_BOOST),
+                        new Field(staff.position(), POSITION_BOOST),
+                        new Field(staff.bio(), BIO_BOOST)));
+    }
+
+    private void indexTeam(TeamDto team) {
+        index.put(
+                new SearchResultDto(SearchResultType.TEAM, team.id(), team.name(), team.season(), null),
+                List.of(new Field(team.name(), NAME_BOOST)));
+    }
+
+    private void indexOpponent(OpponentDto opponent) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field(opponent.name(), NAME_BOOST));
+        opponent.aliases().forEach(alias -> fields.add(new Field(alias, ALIAS_BOOST)));
+        index.put(
+                new SearchResultDto(SearchResultType.OPPONENT, opponent.id(), opponent.name(), null, null),
+                fields);
+    }
+}
@@ -0,0 +1,34 @@
+package org.buscheacademy.basketball.season;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A closed season, frozen as the JSON of its {@code SeasonSnapshotDto}. Written once, never updated.
+ */
+@Entity
+@Table(name = "season_archives")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeasonArchive {
+
+    @Id
+    @Column(length = 9)
+    private String season;
+
+    @Column(nullable = false)
+    private LocalDateTime closedAt;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+}
@@ -0,0 +1,13 @@
+package org.buscheacademy.basketball.season;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SeasonArchiveRepository extends JpaRepository<SeasonArchive, String> {
+
+    // Labels only; payloads can be large
+    @Query("select a.season from SeasonArchive a")
+    List<String> findClosedSeasons();
+}
@@ -0,0 +1,26 @@
+package org.buscheacademy.basketball.season;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Rejects admin writes that would change a season that has already been archived.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeasonGuard {
+
+    private final SeasonArchiveRepository archiveRepository;
+
+    public void requireOpen(String season) {
+        if (!isOpen(season)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Season " + season + " is closed");
+        }
+    }
+
+    public boolean isOpen(String season) {
+        return season == null || !archiveRepository.existsById(season);
+    }
+}
@@ -0,0 +1,135 @@
+package org.buscheacademy.basketball.season;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.audit.AuditAction;
+import org.buscheacademy.basketball.audit.AuditEntityType;
+import org.buscheacademy.basketball.audit.AuditedChangeEvent;
+import org.buscheacademy.basketball.dto.SeasonDto;
+import org.buscheacademy.basketball.dto.SeasonSnapshotDto;
+import org.buscheacademy.basketball.game.GameService;
+import org.buscheacademy.basketball.player.PlayerService;
+import org.buscheacademy.basketball.team.TeamService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-season views of teams, games and rosters.
+ * <p>
+ * The open season is assembled from live queries and cached briefly ({@code seasonLive}).
+ * Once an admin closes a season its snapshot is written to {@code season_archives} and
+ * from then on served from memory: archived seasons can't change, so that copy is never
+ * evicted and the database is only read once per season per instance.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeasonService {
+
+    private final SeasonArchiveRepository archiveRepository;
+    private final TeamService teamService;
+    private final GameService gameService;
+    private final PlayerService playerService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, SeasonSnapshotDto> archived = new ConcurrentHashMap<>();
+
+    @Cacheable("seasons")
+    @Transactional(readOnly = true)
+    public List<SeasonDto> getSeasons() {
+        String current = Seasons.current();
+        Set<String> names = new TreeSet<>(Comparator.reverseOrder());
+        names.addAll(gameService.getSeasonNames());
+        names.add(current);
+
+        Set<String> closed = new HashSet<>(archiveRepository.findClosedSeasons());
+        return names.stream()
+                .map(name -> new SeasonDto(name, name.equals(current), closed.contains(name)))
+                .toList();
+    }
+
+    // Not transactional on purpose: an archived season must not even borrow a connection.
+    @Cacheable(cacheNames = "seasonLive", key = "#season", unless = "#result.closed()")
+    public SeasonSnapshotDto getSeason(String season) {
+        Seasons.startYear(season);
+
+        SeasonSnapshotDto snapshot = findArchived(season);
+        return snapshot != null ? snapshot : buildSnapshot(season, null);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "seasonLive", key = "#season"),
+            @CacheEvict(cacheNames = "seasons", allEntries = true)
+    })
+    @Transactional
+    public SeasonSnapshotDto closeSeason(String season) {
+        if (!Seasons.end(season).isBefore(LocalDateTime.now())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Season " + season + " is still in progress");
+        }
+        if (archiveRepository.existsById(season)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Season " + season + " is already closed");
+        }
+
+        LocalDateTime closedAt = LocalDateTime.now();
+        SeasonSnapshotDto snapshot = buildSnapshot(season, closedAt);
+        try {
+            archiveRepository.saveAndFlush(
+                    new SeasonArchive(season, closedAt, objectMapper.writeValueAsString(snapshot)));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize season " + season, ex);
+        }
+        archived.put(season, snapshot);
+        eventPublisher.publishEvent(new AuditedChangeEvent(AuditEntityType.SEASON, season, AuditAction.CLOSE,
+                null, Map.of("closedAt", closedAt)));
+        return snapshot;
+    }
+
+    private SeasonSnapshotDto findArchived(String season) {
+        SeasonSnapshotDto snapshot = archived.get(season);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return archiveRepository.findById(season)
+                .map(archive -> {
+                    SeasonSnapshotDto loaded = readPayload(archive);
+                    archived.put(season, loaded);
+                    return loaded;
+                })
+                .orElse(null);
+    }
+
+    private SeasonSnapshotDto buildSnapshot(String season, LocalDateTime closedAt) {
+        return new SeasonSnapshotDto(
+                season,
+                closedAt != null,
+                closedAt,
+                teamService.getAllTeams(),
+                gameService.getSeasonGames(season),
+                playerService.getSeasonRoster(season)
+        );
+    }
+
+    private SeasonSnapshotDto readPayload(SeasonArchive archive) {
+        try {
+            return objectMapper.readValue(archive.getPayload(), SeasonSnapshotDto.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupt archive for season " + archive.getSeason(), ex);
+        }
+    }
+}
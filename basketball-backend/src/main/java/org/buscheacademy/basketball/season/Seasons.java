@@ -0,0 +1,54 @@
+package org.buscheacademy.basketball.season;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Season labels like "2025-2026". A season runs from August 1st to the end of July.
+ */
+public final class Seasons {
+
+    private static final int FIRST_MONTH = 8;
+    private static final Pattern FORMAT = Pattern.compile("(\\d{4})-(\\d{4})");
+
+    private Seasons() {
+    }
+
+    public static String of(LocalDate date) {
+        int startYear = date.getMonthValue() >= FIRST_MONTH ? date.getYear() : date.getYear() - 1;
+        return startYear + "-" + (startYear + 1);
+    }
+
+    public static String of(LocalDateTime dateTime) {
+        return of(dateTime.toLocalDate());
+    }
+
+    public static String current() {
+        return of(LocalDate.now());
+    }
+
+    /**
+     * Validates a season label and returns the year it starts in.
+     */
+    public static int startYear(String season) {
+        Matcher matcher = season == null ? null : FORMAT.matcher(season);
+        if (matcher == null || !matcher.matches()
+                || Integer.parseInt(matcher.group(2)) != Integer.parseInt(matcher.group(1)) + 1) {
+            throw new IllegalArgumentException("Season not found: " + season);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    public static LocalDateTime start(String season) {
+        return LocalDate.of(startYear(season), FIRST_MONTH, 1).atStartOfDay();
+    }
+
+    /**
+     * First instant after the season (exclusive bound).
+     */
+    public static LocalDateTime end(String season) {
+        return LocalDate.of(startYear(season) + 1, FIRST_MONTH, 1).atStartOfDay();
+    }
+}
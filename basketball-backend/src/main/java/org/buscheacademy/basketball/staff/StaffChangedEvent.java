@@ -0,0 +1,14 @@
+package org.buscheacademy.basketball.staff;
+
+import org.buscheacademy.basketball.dto.StaffMemberDto;
+
+/**
+ * Published by {@link StaffMemberService} after every staff write.
+ * {@code before} is null for a create, {@code after} is null for a delete.
+ */
+public record StaffChangedEvent(StaffMemberDto before, StaffMemberDto after) {
+
+    public Long staffId() {
+        return after != null ? after.id() : before.id();
+    }
+}
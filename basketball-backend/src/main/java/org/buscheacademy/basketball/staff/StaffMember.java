@@ -16,7 +16,8 @@ import org.buscheacademy.basketball.team.TeamLevel;
 public class StaffMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "staff_members_seq")
+    @SequenceGenerator(name = "staff_members_seq", sequenceName = "staff_members_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
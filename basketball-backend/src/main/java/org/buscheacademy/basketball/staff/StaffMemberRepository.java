@@ -1,24 +1,63 @@
 package org.buscheacademy.basketball.staff;
 
+import org.buscheacademy.basketball.common.ReadOnlyQuery;
+import org.buscheacademy.basketball.dto.StaffMemberDto;
 import org.buscheacademy.basketball.team.TeamLevel;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface StaffMemberRepository extends JpaRepository<StaffMember, Long> {
 
-    // Admin listing – all staff
+    // Admin listing – all staff (read path only: load entities read-only, never flush)
+    @ReadOnlyQuery
     List<StaffMember> findAllByOrderByDisplayOrderAscFullNameAsc();
 
-    // Public listing – only active staff
-    List<StaffMember> findByActiveTrueOrderByDisplayOrderAscFullNameAsc();
-
-    // Public listing filtered by team level
-    List<StaffMember> findByTeamLevelAndActiveTrueOrderByDisplayOrderAscFullNameAsc(TeamLevel teamLevel);
-
-    // Public listing filtered by staffCategory only
-    List<StaffMember> findByStaffCategoryAndActiveTrueOrderByDisplayOrderAscFullNameAsc(StaffCategory staffCategory);
-
-    // Public listing filtered by both teamLevel and staffCategory
-    List<StaffMember> findByTeamLevelAndStaffCategoryAndActiveTrueOrderByDisplayOrderAscFullNameAsc(TeamLevel teamLevel, StaffCategory staffCategory);
+    // Admin listing, keyset-paginated on (displayOrder, fullName, id)
+    String ADMIN_STAFF_ORDER = " order by s.displayOrder asc, s.fullName asc, s.id asc";
+
+    @Query(PUBLIC_STAFF_DTO + ADMIN_STAFF_ORDER)
+    List<StaffMemberDto> findStaffPage(Limit limit);
+
+    @Query(PUBLIC_STAFF_DTO
+            + "where (s.displayOrder, s.fullName, s.id) > (:afterDisplayOrder, :afterFullName, :afterId)"
+            + ADMIN_STAFF_ORDER)
+    List<StaffMemberDto> findStaffPageAfter(@Param("afterDisplayOrder") int afterDisplayOrder,
+                                            @Param("afterFullName") String afterFullName,
+                                            @Param("afterId") Long afterId,
+                                            Limit limit);
+
+    // ---------- Public listings: selected straight into StaffMemberDto ----------
+
+    String PUBLIC_STAFF_DTO = """
+            select new org.buscheacademy.basketball.dto.StaffMemberDto(
+                s.id, s.fullName, s.teamLevel, s.position, s.displayOrder,
+                s.primaryPhotoUrl, s.secondaryPhotoUrl, s.bio, s.email, s.phone,
+                s.active, s.adminStaff, s.staffCategory)
+            from StaffMember s
+            """;
+
+    String PUBLIC_STAFF_ORDER = " order by s.displayOrder asc, s.fullName asc";
+
+    // Only active staff
+    @Query(PUBLIC_STAFF_DTO + "where s.active = true" + PUBLIC_STAFF_ORDER)
+    List<StaffMemberDto> findPublicStaff();
+
+    // Filtered by team level
+    @Query(PUBLIC_STAFF_DTO + "where s.active = true and s.teamLevel = :teamLevel" + PUBLIC_STAFF_ORDER)
+    List<StaffMemberDto> findPublicStaffByTeamLevel(@Param("teamLevel") TeamLevel teamLevel);
+
+    // Filtered by staffCategory only
+    @Query(PUBLIC_STAFF_DTO + "where s.active = true and s.staffCategory = :staffCategory" + PUBLIC_STAFF_ORDER)
+    List<StaffMemberDto> findPublicStaffByStaffCategory(@Param("staffCategory") StaffCategory staffCategory);
+
+    // Filtered by both teamLevel and staffCategory
+    @Query(PUBLIC_STAFF_DTO
+            + "where s.active = true and s.teamLevel = :teamLevel and s.staffCategory = :staffCategory"
+            + PUBLIC_STAFF_ORDER)
+    List<StaffMemberDto> findPublicStaffByTeamLevelAndStaffCategory(@Param("teamLevel") TeamLevel teamLevel,
+                                                                    @Param("staffCategory") StaffCategory staffCategory);
 }
@@ -1,13 +1,18 @@
 package org.buscheacademy.basketball.staff;
 
 import lombok.RequiredArgsConstructor;
+import org.buscheacademy.basketball.common.Cursors;
 import org.buscheacademy.basketball.dto.CreateOrUpdateStaffMemberRequest;
+import org.buscheacademy.basketball.dto.CursorPage;
 import org.buscheacademy.basketball.dto.StaffMemberDto;
 import org.buscheacademy.basketball.team.TeamLevel;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,9 +21,11 @@ import java.util.List;
 public class StaffMemberService {
 
     private final StaffMemberRepository staffMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ---------- Admin ----------
 
+    @Transactional(readOnly = true)
     public List<StaffMemberDto> getAllStaff() {
         return staffMemberRepository.findAllByOrderByDisplayOrderAscFullNameAsc()
                 .stream()
@@ -26,10 +33,34 @@ public class StaffMemberService {
                 .toList();
     }
 
+    /**
+     * Keyset-paginated admin listing in display order. The first page is cached.
+     */
+    @Cacheable(cacheNames = "staffPage", key = "#size", condition = "#cursor == null")
+    @Transactional(readOnly = true)
+    public CursorPage<StaffMemberDto> getStaffPage(String cursor, int size) {
+        List<StaffMemberDto> rows;
+        if (cursor == null) {
+            rows = staffMemberRepository.findStaffPage(Limit.of(size + 1));
+        } else {
+            StaffKey after = Cursors.decode(cursor, 3,
+                    parts -> new StaffKey(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), parts[2]));
+            rows = staffMemberRepository.findStaffPageAfter(
+                    after.displayOrder(), after.fullName(), after.id(), Limit.of(size + 1));
+        }
+        return Cursors.page(rows, size,
+                staff -> Cursors.encode(staff.displayOrder(), staff.id(), staff.fullName()));
+    }
+
+    private record StaffKey(int displayOrder, Long id, String fullName) {
+    }
+
     @Caching(evict = {
             @CacheEvict(cacheNames = "publicStaff", allEntries = true),
+            @CacheEvict(cacheNames = "staffPage", allEntries = true),
             @CacheEvict(cacheNames = "publicStaffMember", allEntries = true)
     })
+    @Transactional
     public StaffMemberDto createStaff(CreateOrUpdateStaffMemberRequest request) {
         StaffMember staff = StaffMember.builder()
                 .fullName(request.fullName())
@@ -46,16 +77,21 @@ public class StaffMemberService {
                 .staffCategory(request.staffCategory())
                 .build();
 
-        return toDto(staffMemberRepository.save(staff));
+        StaffMemberDto created = toDto(staffMemberRepository.save(staff));
+        eventPublisher.publishEvent(new StaffChangedEvent(null, created));
+        return created;
     }
 
     @Caching(evict = {
             @CacheEvict(cacheNames = "publicStaff", allEntries = true),
+            @CacheEvict(cacheNames = "staffPage", allEntries = true),
             @CacheEvict(cacheNames = "publicStaffMember", allEntries = true)
     })
+    @Transactional
     public StaffMemberDto updateStaff(Long id, CreateOrUpdateStaffMemberRequest request) {
         StaffMember staff = staffMemberRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Staff member not found: " + id));
+        StaffMemberDto before = toDto(staff);
 
         staff.setFullName(request.fullName());
         staff.setTeamLevel(request.teamLevel());
@@ -70,46 +106,44 @@ public class StaffMemberService {
         staff.setAdminStaff(request.adminStaff());
         staff.setStaffCategory(request.staffCategory());
 
-        return toDto(staffMemberRepository.save(staff));
+        StaffMemberDto after = toDto(staffMemberRepository.save(staff));
+        eventPublisher.publishEvent(new StaffChangedEvent(before, after));
+        return after;
     }
 
     @Caching(evict = {
             @CacheEvict(cacheNames = "publicStaff", allEntries = true),
+            @CacheEvict(cacheNames = "staffPage", allEntries = true),
             @CacheEvict(cacheNames = "publicStaffMember", allEntries = true)
     })
+    @Transactional
     public void deleteStaff(Long id) {
-        if (!staffMemberRepository.existsById(id)) {
-            throw new IllegalArgumentException("Staff member not found: " + id);
-        }
-        staffMemberRepository.deleteById(id);
+        StaffMember staff = staffMemberRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Staff member not found: " + id));
+        StaffMemberDto before = toDto(staff);
+        staffMemberRepository.delete(staff);
+        eventPublisher.publishEvent(new StaffChangedEvent(before, null));
     }
 
     // ---------- Public ----------
 
     @Cacheable(cacheNames = "publicStaff",
             key = "((#teamLevel == null ? 'ALL' : #teamLevel.name()) + '_' + (#staffCategory == null ? 'ALL' : #staffCategory.name()))")
+    @Transactional(readOnly = true)
     public List<StaffMemberDto> getPublicStaff(TeamLevel teamLevel, StaffCategory staffCategory) {
-        List<StaffMember> staff;
         if (teamLevel != null && staffCategory != null) {
-            staff = staffMemberRepository
-                    .findByTeamLevelAndStaffCategoryAndActiveTrueOrderByDisplayOrderAscFullNameAsc(teamLevel, staffCategory);
+            return staffMemberRepository.findPublicStaffByTeamLevelAndStaffCategory(teamLevel, staffCategory);
         } else if (teamLevel != null) {
-            staff = staffMemberRepository
-                    .findByTeamLevelAndActiveTrueOrderByDisplayOrderAscFullNameAsc(teamLevel);
+            return staffMemberRepository.findPublicStaffByTeamLevel(teamLevel);
         } else if (staffCategory != null) {
-            staff = staffMemberRepository
-                    .findByStaffCategoryAndActiveTrueOrderByDisplayOrderAscFullNameAsc(staffCategory);
+            return staffMemberRepository.findPublicStaffByStaffCategory(staffCategory);
         } else {
-            staff = staffMemberRepository
-                    .findByActiveTrueOrderByDisplayOrderAscFullNameAsc();
+            return staffMemberRepository.findPublicStaff();
         }
-
-        return staff.stream()
-                .map(this::toDto)
-                .toList();
     }
 
     @Cacheable(cacheNames = "publicStaffMember", key = "#id")
+    @Transactional(readOnly = true)
     public StaffMemberDto getPublicStaffMember(Long id) {
         StaffMember staff = staffMemberRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Staff member not found: " + id));
@@ -2,6 +2,10 @@ package org.buscheacademy.basketball.staff;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.dto.PresignUploadRequest;
+import org.buscheacademy.basketball.dto.PresignedUploadResponse;
+import org.buscheacademy.basketball.storage.PresignedUploadService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,7 +22,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class StaffPhotoStorageService {
 
-    private final S3Client s3Client;
+    // Built on first use (see S3Config)
+    private final ObjectProvider<S3Client> s3Client;
+    private final PresignedUploadService presignedUploadService;
 
     @Value("${app.s3.bucket-name}")
     private String bucketName;
@@ -32,6 +38,9 @@ public class StaffPhotoStorageService {
     @Value("${app.s3.staff-prefix:staff/}")
     private String staffPrefix;
 
+    @Value("${app.upload.max-photo-bytes:10485760}")
+    private long maxPhotoBytes;
+
     public String saveStaffPhoto(MultipartFile file) {
         if (bucketName == null || bucketName.isBlank()) {
             throw new IllegalStateException("S3 bucket is not configured (app.s3.bucket-name is blank)");
@@ -53,7 +62,7 @@ public class StaffPhotoStorageService {
                     .acl(ObjectCannedACL.PUBLIC_READ) // public object
                     .build();
 
-            s3Client.putObject(
+            s3Client.getObject().putObject(
                     putRequest,
                     RequestBody.fromInputStream(file.getInputStream(), file.getSize())
             );
@@ -67,6 +76,18 @@ public class StaffPhotoStorageService {
         }
     }
 
+    // --- Direct browser uploads (presigned PUT) ---
+
+    public PresignedUploadResponse createPhotoUploadUrl(PresignUploadRequest request) {
+        return presignedUploadService.presignPut(staffPrefix, request,
+                PresignedUploadService.PHOTO_CONTENT_TYPES, maxPhotoBytes);
+    }
+
+    public String completePhotoUpload(String objectKey) {
+        return presignedUploadService.completeUpload(staffPrefix, objectKey,
+                PresignedUploadService.PHOTO_CONTENT_TYPES, maxPhotoBytes);
+    }
+
     private String buildPublicUrl(String key) {
         // If you're using CloudFront or a custom domain, prefer that.
         if (publicBaseUrl != null && !publicBaseUrl.isBlank()) {
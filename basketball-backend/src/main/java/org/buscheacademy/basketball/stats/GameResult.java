@@ -0,0 +1,37 @@
+package org.buscheacademy.basketball.stats;
+
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.game.HomeAway;
+
+import java.time.LocalDateTime;
+
+/**
+ * The few columns of a scored game that the season stats need.
+ */
+public record GameResult(
+        Long gameId,
+        Long teamId,
+        String season,
+        LocalDateTime gameDateTime,
+        HomeAway homeAway,
+        boolean conferenceGame,
+        int scoreUs,
+        int scoreThem
+) {
+
+    /**
+     * Null when the game has no final score yet.
+     */
+    public static GameResult from(GameDto game) {
+        if (game == null || game.scoreUs() == null || game.scoreThem() == null) {
+            return null;
+        }
+        return new GameResult(game.id(), game.teamId(), game.season(), game.gameDateTime(),
+                game.homeAway(), game.conferenceGame(), game.scoreUs(), game.scoreThem());
+    }
+
+    // Same rule as GameDto.win
+    public boolean win() {
+        return scoreUs > scoreThem;
+    }
+}
@@ -0,0 +1,40 @@
+package org.buscheacademy.basketball.stats;
+
+/**
+ * Leaderboard categories. Per-game averages are ranked in thousandths so every board
+ * orders plain ints.
+ */
+public enum Leaderboard {
+    POINTS(PlayerStat.POINTS, false),
+    REBOUNDS(PlayerStat.REBOUNDS, false),
+    ASSISTS(PlayerStat.ASSISTS, false),
+    STEALS(PlayerStat.STEALS, false),
+    BLOCKS(PlayerStat.BLOCKS, false),
+    THREES_MADE(PlayerStat.THREES_MADE, false),
+    POINTS_PER_GAME(PlayerStat.POINTS, true),
+    REBOUNDS_PER_GAME(PlayerStat.REBOUNDS, true),
+    ASSISTS_PER_GAME(PlayerStat.ASSISTS, true);
+
+    private static final int AVERAGE_SCALE = 1000;
+
+    private final PlayerStat stat;
+    private final boolean perGame;
+
+    Leaderboard(PlayerStat stat, boolean perGame) {
+        this.stat = stat;
+        this.perGame = perGame;
+    }
+
+    int score(PlayerStatsTable table, int slot) {
+        int total = table.get(stat, slot);
+        if (!perGame) {
+            return total;
+        }
+        int games = table.get(PlayerStat.GAMES_PLAYED, slot);
+        return games == 0 ? 0 : (int) ((long) total * AVERAGE_SCALE / games);
+    }
+
+    double value(int score) {
+        return perGame ? Math.round(score / (double) AVERAGE_SCALE * 10) / 10.0 : score;
+    }
+}
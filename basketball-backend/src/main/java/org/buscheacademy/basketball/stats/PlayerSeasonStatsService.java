@@ -0,0 +1,172 @@
+package org.buscheacademy.basketball.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.LeaderDto;
+import org.buscheacademy.basketball.dto.LeaderboardDto;
+import org.buscheacademy.basketball.dto.PlayerDto;
+import org.buscheacademy.basketball.dto.PlayerSeasonLineDto;
+import org.buscheacademy.basketball.dto.StatLineDto;
+import org.buscheacademy.basketball.dto.TeamLeadersDto;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.buscheacademy.basketball.game.GameService;
+import org.buscheacademy.basketball.playbyplay.BoxScoreChangedEvent;
+import org.buscheacademy.basketball.playbyplay.BoxScoreService;
+import org.buscheacademy.basketball.player.PlayerService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-player season totals and team leaderboards, served from memory.
+ * <p>
+ * Each game contributes its box-score player lines to the season table. When a game's
+ * box score changes, its previous contribution is subtracted and the new one added, so
+ * a repeated notification never double-counts. The play log is replayed once, on the
+ * first request.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PlayerSeasonStatsService {
+
+    public static final int MAX_LEADERS = PlayerStatsTable.TOP_K;
+
+    private final BoxScoreService boxScoreService;
+    private final GameService gameService;
+    private final PlayerService playerService;
+
+    // All guarded by "this"
+    private final PlayerStatsTable table = new PlayerStatsTable();
+    private final Map<Long, GameContribution> contributions = new HashMap<>();
+    private boolean loaded;
+
+    public TeamLeadersDto getTeamLeaders(Long teamId, String season, int limit) {
+        Map<Long, PlayerDto> roster = playerService.getPlayersByTeam(teamId, season).stream()
+                .collect(Collectors.toMap(PlayerDto::id, Function.identity()));
+
+        List<LeaderboardDto> leaderboards = new ArrayList<>();
+        List<PlayerSeasonLineDto> players = new ArrayList<>();
+        synchronized (this) {
+            ensureLoaded();
+            for (Leaderboard board : Leaderboard.values()) {
+                List<LeaderDto> leaders = table.leaders(teamId, season, board, limit).stream()
+                        .map(slot -> toLeader(slot, board, roster))
+                        .toList();
+                leaderboards.add(new LeaderboardDto(board, leaders));
+            }
+            for (int slot : table.slots(teamId, season)) {
+                if (table.get(PlayerStat.GAMES_PLAYED, slot) > 0) {
+                    players.add(toSeasonLine(slot, roster));
+                }
+            }
+        }
+        players.sort(Comparator.comparingInt((PlayerSeasonLineDto line) -> line.totals().points()).reversed());
+        return new TeamLeadersDto(teamId, season, leaderboards, players);
+    }
+
+    // Published after the box score applied the plays, on the thread that committed them
+    @EventListener
+    public synchronized void onBoxScoreChanged(BoxScoreChangedEvent event) {
+        if (!loaded) {
+            return; // the first read replays the log, these plays included
+        }
+        // Lines are read under the lock so two batches for one game can't land out of order
+        GameDto game = gameService.getGame(event.gameId());
+        Map<Long, StatLineDto> lines = boxScoreService.getPlayerLines(event.gameId());
+        replace(event.gameId(), new GameContribution(game.teamId(), game.season(), lines));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGameChanged(GameChangedEvent event) {
+        GameContribution current = contributions.get(event.gameId());
+        if (!loaded || current == null) {
+            return;
+        }
+        if (event.after() == null) {
+            replace(event.gameId(), null);
+        } else if (!event.after().teamId().equals(current.teamId())
+                || !event.after().season().equals(current.season())) {
+            // Moved to another team or season: the same lines count there instead
+            replace(event.gameId(),
+                    new GameContribution(event.after().teamId(), event.after().season(), current.lines()));
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        Map<Long, GameDto> games = gameService.loadAllGames().stream()
+                .collect(Collectors.toMap(GameDto::id, Function.identity()));
+        Map<Long, Map<Long, StatLineDto>> linesByGame = boxScoreService.replayAllPlayerLines();
+        linesByGame.forEach((gameId, lines) -> {
+            GameDto game = games.get(gameId);
+            if (game != null) {
+                replace(gameId, new GameContribution(game.teamId(), game.season(), lines));
+            }
+        });
+        loaded = true;
+        log.info("Loaded player season stats from {} games with plays", contributions.size());
+    }
+
+    private void replace(Long gameId, GameContribution next) {
+        GameContribution previous = next != null ? contributions.put(gameId, next) : contributions.remove(gameId);
+        if (previous != null) {
+            previous.lines().forEach((playerId, line) ->
+                    table.subtract(playerId, previous.teamId(), previous.season(), line));
+        }
+        if (next != null) {
+            next.lines().forEach((playerId, line) ->
+                    table.add(playerId, next.teamId(), next.season(), line));
+        }
+    }
+
+    private LeaderDto toLeader(int slot, Leaderboard board, Map<Long, PlayerDto> roster) {
+        PlayerDto player = roster.get(table.playerId(slot));
+        return new LeaderDto(
+                table.playerId(slot),
+                player != null ? player.firstName() + " " + player.lastName() : null,
+                player != null ? player.jerseyNumber() : null,
+                board.value(board.score(table, slot)),
+                table.get(PlayerStat.GAMES_PLAYED, slot));
+    }
+
+    private PlayerSeasonLineDto toSeasonLine(int slot, Map<Long, PlayerDto> roster) {
+        PlayerDto player = roster.get(table.playerId(slot));
+        StatLineDto totals = new StatLineDto(
+                table.get(PlayerStat.POINTS, slot),
+                table.get(PlayerStat.FIELD_GOALS_MADE, slot),
+                table.get(PlayerStat.FIELD_GOALS_ATTEMPTED, slot),
+                table.get(PlayerStat.THREES_MADE, slot),
+                table.get(PlayerStat.THREES_ATTEMPTED, slot),
+                table.get(PlayerStat.FREE_THROWS_MADE, slot),
+                table.get(PlayerStat.FREE_THROWS_ATTEMPTED, slot),
+                table.get(PlayerStat.OFFENSIVE_REBOUNDS, slot),
+                table.get(PlayerStat.DEFENSIVE_REBOUNDS, slot),
+                table.get(PlayerStat.REBOUNDS, slot),
+                table.get(PlayerStat.ASSISTS, slot),
+                table.get(PlayerStat.STEALS, slot),
+                table.get(PlayerStat.BLOCKS, slot),
+                table.get(PlayerStat.TURNOVERS, slot),
+                table.get(PlayerStat.FOULS, slot));
+        return new PlayerSeasonLineDto(
+                table.playerId(slot),
+                player != null ? player.firstName() + " " + player.lastName() : null,
+                player != null ? player.jerseyNumber() : null,
+                table.get(PlayerStat.GAMES_PLAYED, slot),
+                totals);
+    }
+
+    private record GameContribution(Long teamId, String season, Map<Long, StatLineDto> lines) {
+    }
+}
@@ -0,0 +1,39 @@
+package org.buscheacademy.basketball.stats;
+
+import org.buscheacademy.basketball.dto.StatLineDto;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Columns of {@link PlayerStatsTable}.
+ */
+enum PlayerStat {
+    GAMES_PLAYED(line -> 1),
+    POINTS(StatLineDto::points),
+    FIELD_GOALS_MADE(StatLineDto::fieldGoalsMade),
+    FIELD_GOALS_ATTEMPTED(StatLineDto::fieldGoalsAttempted),
+    THREES_MADE(StatLineDto::threesMade),
+    THREES_ATTEMPTED(StatLineDto::threesAttempted),
+    FREE_THROWS_MADE(StatLineDto::freeThrowsMade),
+    FREE_THROWS_ATTEMPTED(StatLineDto::freeThrowsAttempted),
+    OFFENSIVE_REBOUNDS(StatLineDto::offensiveRebounds),
+    DEFENSIVE_REBOUNDS(StatLineDto::defensiveRebounds),
+    REBOUNDS(StatLineDto::rebounds),
+    ASSISTS(StatLineDto::assists),
+    STEALS(StatLineDto::steals),
+    BLOCKS(StatLineDto::blocks),
+    TURNOVERS(StatLineDto::turnovers),
+    FOULS(StatLineDto::fouls);
+
+    static final PlayerStat[] ALL = values();
+
+    private final ToIntFunction<StatLineDto> extractor;
+
+    PlayerStat(ToIntFunction<StatLineDto> extractor) {
+        this.extractor = extractor;
+    }
+
+    int of(StatLineDto line) {
+        return extractor.applyAsInt(line);
+    }
+}
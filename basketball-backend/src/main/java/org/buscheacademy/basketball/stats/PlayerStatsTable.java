@@ -0,0 +1,175 @@
+package org.buscheacademy.basketball.stats;
+
+import org.buscheacademy.basketball.dto.StatLineDto;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Season totals per player, stored column-wise: one {@code int[]} per {@link PlayerStat},
+ * indexed by a slot per (player, team, season). Slots of the same team and season form a
+ * group that keeps a bounded top-K heap per {@link Leaderboard}.
+ * <p>
+ * Not thread-safe; {@link PlayerSeasonStatsService} guards it.
+ */
+class PlayerStatsTable {
+
+    static final int TOP_K = 10;
+
+    private final Map<SlotKey, Integer> slots = new HashMap<>();
+    private final Map<TeamSeason, Group> groups = new HashMap<>();
+
+    private long[] playerIds = new long[64];
+    private Group[] slotGroups = new Group[64];
+    private final int[][] columns = new int[PlayerStat.ALL.length][64];
+    private int size;
+
+    void add(long playerId, long teamId, String season, StatLineDto line) {
+        update(slotFor(playerId, teamId, season), line, 1);
+    }
+
+    void subtract(long playerId, long teamId, String season, StatLineDto line) {
+        Integer slot = slots.get(new SlotKey(playerId, teamId, season));
+        if (slot != null) {
+            update(slot, line, -1);
+        }
+    }
+
+    int get(PlayerStat stat, int slot) {
+        return columns[stat.ordinal()][slot];
+    }
+
+    long playerId(int slot) {
+        return playerIds[slot];
+    }
+
+    /**
+     * Slots of one team and season, best first, for players with a non-zero score.
+     */
+    List<Integer> leaders(long teamId, String season, Leaderboard board, int limit) {
+        Group group = groups.get(new TeamSeason(teamId, season));
+        if (group == null) {
+            return List.of();
+        }
+        return group.heaps.get(board).stream()
+                .sorted(group.comparator(board).reversed())
+                .filter(slot -> board.score(this, slot) > 0)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * All slots of one team and season.
+     */
+    int[] slots(long teamId, String season) {
+        Group group = groups.get(new TeamSeason(teamId, season));
+        return group == null ? new int[0] : Arrays.copyOf(group.members, group.size);
+    }
+
+    private int slotFor(long playerId, long teamId, String season) {
+        return slots.computeIfAbsent(new SlotKey(playerId, teamId, season), key -> {
+            if (size == playerIds.length) {
+                grow();
+            }
+            int slot = size++;
+            playerIds[slot] = playerId;
+            Group group = groups.computeIfAbsent(new TeamSeason(teamId, season), k -> new Group());
+            group.addMember(slot);
+            slotGroups[slot] = group;
+            return slot;
+        });
+    }
+
+    private void grow() {
+        int capacity = playerIds.length * 2;
+        playerIds = Arrays.copyOf(playerIds, capacity);
+        slotGroups = Arrays.copyOf(slotGroups, capacity);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Arrays.copyOf(columns[i], capacity);
+        }
+    }
+
+    private void update(int slot, StatLineDto line, int sign) {
+        Group group = slotGroups[slot];
+
+        // A heap orders by the current column values, so take the slot out before they change
+        Map<Leaderboard, Integer> before = new EnumMap<>(Leaderboard.class);
+        for (Leaderboard board : Leaderboard.values()) {
+            if (group.heaps.get(board).remove(slot)) {
+                before.put(board, board.score(this, slot));
+            }
+        }
+
+        for (PlayerStat stat : PlayerStat.ALL) {
+            columns[stat.ordinal()][slot] += sign * stat.of(line);
+        }
+
+        for (Leaderboard board : Leaderboard.values()) {
+            Integer previous = before.get(board);
+            if (previous != null && board.score(this, slot) < previous) {
+                // A member dropped: someone outside the heap may now belong in it
+                group.rebuild(board);
+            } else {
+                group.offer(board, slot);
+            }
+        }
+    }
+
+    private record SlotKey(long playerId, long teamId, String season) {
+    }
+
+    private record TeamSeason(long teamId, String season) {
+    }
+
+    private class Group {
+
+        private int[] members = new int[16];
+        private int size;
+        private final Map<Leaderboard, Comparator<Integer>> comparators = new EnumMap<>(Leaderboard.class);
+        private final Map<Leaderboard, PriorityQueue<Integer>> heaps = new EnumMap<>(Leaderboard.class);
+
+        Group() {
+            for (Leaderboard board : Leaderboard.values()) {
+                // Score, then lower player id first on ties so the order is stable
+                Comparator<Integer> comparator =
+                        Comparator.<Integer>comparingInt(slot -> board.score(PlayerStatsTable.this, slot))
+                                .thenComparing(slot -> playerIds[slot], Comparator.reverseOrder());
+                comparators.put(board, comparator);
+                // Min-heap: the weakest of the current top K sits on top, ready to be displaced
+                heaps.put(board, new PriorityQueue<>(TOP_K + 1, comparator));
+            }
+        }
+
+        Comparator<Integer> comparator(Leaderboard board) {
+            return comparators.get(board);
+        }
+
+        void addMember(int slot) {
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            members[size++] = slot;
+        }
+
+        void offer(Leaderboard board, int slot) {
+            PriorityQueue<Integer> heap = heaps.get(board);
+            if (heap.size() < TOP_K) {
+                heap.add(slot);
+            } else if (comparator(board).compare(slot, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(slot);
+            }
+        }
+
+        void rebuild(Leaderboard board) {
+            heaps.get(board).clear();
+            IntStream.range(0, size).forEach(i -> offer(board, members[i]));
+        }
+    }
+}
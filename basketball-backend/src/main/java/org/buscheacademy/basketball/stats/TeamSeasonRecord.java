@@ -0,0 +1,113 @@
+package org.buscheacademy.basketball.stats;
+
+import org.buscheacademy.basketball.dto.TeamSeasonStatsDto;
+import org.buscheacademy.basketball.game.HomeAway;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.TreeMap;
+
+/**
+ * Running totals for one team in one season. Not thread-safe; {@link TeamStatsService}
+ * serializes access.
+ */
+class TeamSeasonRecord {
+
+    private static final Comparator<GameResult> CHRONOLOGICAL =
+            Comparator.comparing(GameResult::gameDateTime).thenComparing(GameResult::gameId);
+
+    private final Long teamId;
+    private final String season;
+
+    // Scored games in date order, only walked from the end to find the current streak
+    private final TreeMap<GameResult, Boolean> results = new TreeMap<>(CHRONOLOGICAL);
+
+    private int wins;
+    private int losses;
+    private int homeWins;
+    private int homeLosses;
+    private int awayWins;
+    private int awayLosses;
+    private int conferenceWins;
+    private int conferenceLosses;
+    private int pointsFor;
+    private int pointsAgainst;
+
+    TeamSeasonRecord(Long teamId, String season) {
+        this.teamId = teamId;
+        this.season = season;
+    }
+
+    void add(GameResult result) {
+        results.put(result, result.win());
+        apply(result, 1);
+    }
+
+    void remove(GameResult result) {
+        results.remove(result);
+        apply(result, -1);
+    }
+
+    boolean isEmpty() {
+        return results.isEmpty();
+    }
+
+    private void apply(GameResult result, int sign) {
+        boolean win = result.win();
+        if (win) {
+            wins += sign;
+        } else {
+            losses += sign;
+        }
+        if (result.homeAway() == HomeAway.HOME) {
+            homeWins += win ? sign : 0;
+            homeLosses += win ? 0 : sign;
+        } else {
+            awayWins += win ? sign : 0;
+            awayLosses += win ? 0 : sign;
+        }
+        if (result.conferenceGame()) {
+            conferenceWins += win ? sign : 0;
+            conferenceLosses += win ? 0 : sign;
+        }
+        pointsFor += sign * result.scoreUs();
+        pointsAgainst += sign * result.scoreThem();
+    }
+
+    TeamSeasonStatsDto toDto() {
+        return new TeamSeasonStatsDto(
+                teamId,
+                season,
+                wins + losses,
+                wins,
+                losses,
+                homeWins,
+                homeLosses,
+                awayWins,
+                awayLosses,
+                conferenceWins,
+                conferenceLosses,
+                pointsFor,
+                pointsAgainst,
+                pointsFor - pointsAgainst,
+                streak()
+        );
+    }
+
+    private String streak() {
+        Iterator<Boolean> latestFirst = results.descendingMap().values().iterator();
+        if (!latestFirst.hasNext()) {
+            return null;
+        }
+        boolean last = latestFirst.next();
+        int length = 1;
+        while (latestFirst.hasNext() && latestFirst.next() == last) {
+            length++;
+        }
+        return (last ? "W" : "L") + length;
+    }
+
+    static TeamSeasonStatsDto empty(Long teamId, String season) {
+        return new TeamSeasonRecord(teamId, season).toDto();
+    }
+}
@@ -0,0 +1,85 @@
+package org.buscheacademy.basketball.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.dto.TeamSeasonStatsDto;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.buscheacademy.basketball.game.GameRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-team, per-season records kept in memory.
+ * <p>
+ * All final scores are read once, on the first stats request. After that every committed
+ * game write adjusts only the record(s) it touches: the old result is subtracted and the
+ * new one added. Reads never go to the database.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TeamStatsService {
+
+    private final GameRepository gameRepository;
+
+    // All guarded by "this"
+    private final Map<TeamSeason, TeamSeasonRecord> records = new HashMap<>();
+    private final Map<Long, GameResult> resultsByGameId = new HashMap<>();
+    private boolean loaded;
+
+    public synchronized TeamSeasonStatsDto getStats(Long teamId, String season) {
+        ensureLoaded();
+        TeamSeasonRecord record = records.get(new TeamSeason(teamId, season));
+        return record != null ? record.toDto() : TeamSeasonRecord.empty(teamId, season);
+    }
+
+    // fallbackExecution: also fires when the write ran without a surrounding transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGameChanged(GameChangedEvent event) {
+        if (!loaded) {
+            return; // the first read loads the committed state, this change included
+        }
+        // Replace by id, so an event that raced the initial load is not counted twice
+        remove(event.gameId());
+        GameResult result = GameResult.from(event.after());
+        if (result != null) {
+            add(result);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        List<GameResult> results = gameRepository.findAllResults();
+        results.forEach(this::add);
+        loaded = true;
+        log.info("Loaded season stats from {} scored games", results.size());
+    }
+
+    private void add(GameResult result) {
+        resultsByGameId.put(result.gameId(), result);
+        records.computeIfAbsent(new TeamSeason(result.teamId(), result.season()),
+                key -> new TeamSeasonRecord(key.teamId(), key.season())).add(result);
+    }
+
+    private void remove(Long gameId) {
+        GameResult previous = resultsByGameId.remove(gameId);
+        if (previous == null) {
+            return;
+        }
+        TeamSeason key = new TeamSeason(previous.teamId(), previous.season());
+        TeamSeasonRecord record = records.get(key);
+        record.remove(previous);
+        if (record.isEmpty()) {
+            records.remove(key);
+        }
+    }
+
+    private record TeamSeason(Long teamId, String season) {
+    }
+}
@@ -0,0 +1,180 @@
+package org.buscheacademy.basketball.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.dto.PresignUploadRequest;
+import org.buscheacademy.basketball.dto.PresignedUploadResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Direct browser-to-S3 uploads.
+ * <p>
+ * The admin UI first asks for a presigned PUT (content type and length are part of the
+ * signature), uploads the bytes straight to the bucket, then calls back so we can check
+ * the stored object before recording its URL. The file never passes through the JVM.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PresignedUploadService {
+
+    // Player and staff photos
+    public static final Set<String> PHOTO_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/webp", "image/gif");
+
+    // Built on first use (see S3Config)
+    private final ObjectProvider<S3Client> s3Client;
+    private final ObjectProvider<S3Presigner> s3Presigner;
+
+    @Value("${app.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${app.s3.region:us-east-1}")
+    private String region;
+
+    @Value("${app.s3.public-base-url:}")
+    private String publicBaseUrl;
+
+    @Value("${app.upload.presign-ttl-minutes:10}")
+    private long presignTtlMinutes;
+
+    public PresignedUploadResponse presignPut(String prefix,
+                                              PresignUploadRequest request,
+                                              Set<String> allowedContentTypes,
+                                              long maxBytes) {
+        requireBucket();
+
+        if (!allowedContentTypes.contains(request.contentType())) {
+            throw new IllegalArgumentException("Unsupported content type: " + request.contentType());
+        }
+        if (request.contentLength() <= 0 || request.contentLength() > maxBytes) {
+            throw new IllegalArgumentException("File must be between 1 and " + maxBytes + " bytes");
+        }
+
+        String key = prefix + UUID.randomUUID() + extensionOf(request.fileName());
+
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(request.contentType())
+                .contentLength(request.contentLength())
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.getObject().presignPutObject(
+                PutObjectPresignRequest.builder()
+                        .signatureDuration(Duration.ofMinutes(presignTtlMinutes))
+                        .putObjectRequest(putRequest)
+                        .build()
+        );
+
+        // The browser sets Host (and Content-Length) itself; everything else it must echo back.
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : presigned.signedHeaders().entrySet()) {
+            String name = header.getKey();
+            if (name.equalsIgnoreCase("host") || name.equalsIgnoreCase("content-length")) {
+                continue;
+            }
+            headers.put(name, String.join(",", header.getValue()));
+        }
+
+        return new PresignedUploadResponse(
+                presigned.url().toString(),
+                presigned.httpRequest().method().name(),
+                headers,
+                key,
+                buildPublicUrl(key),
+                presigned.expiration()
+        );
+    }
+
+    /**
+     * Verifies an object uploaded through {@link #presignPut} and returns its public URL.
+     * Objects that don't match the constraints are deleted.
+     */
+    public String completeUpload(String prefix,
+                                 String objectKey,
+                                 Set<String> allowedContentTypes,
+                                 long maxBytes) {
+        requireBucket();
+
+        if (!objectKey.startsWith(prefix) || objectKey.contains("..")) {
+            throw new IllegalArgumentException("Invalid object key: " + objectKey);
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.getObject().headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .build());
+        } catch (NoSuchKeyException ex) {
+            throw new IllegalArgumentException("Uploaded object not found: " + objectKey);
+        } catch (S3Exception ex) {
+            // HEAD responses have no body, so a missing key often comes back without the NoSuchKey code
+            if (ex.statusCode() == 404) {
+                throw new IllegalArgumentException("Uploaded object not found: " + objectKey);
+            }
+            throw ex;
+        }
+
+        Long size = head.contentLength();
+        boolean validSize = size != null && size > 0 && size <= maxBytes;
+        boolean validType = allowedContentTypes.contains(head.contentType());
+        if (!validSize || !validType) {
+            log.warn("Rejecting direct upload {} (size={}, contentType={})", objectKey, size, head.contentType());
+            s3Client.getObject().deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .build());
+            throw new IllegalArgumentException("Uploaded object does not match the requested constraints");
+        }
+
+        return buildPublicUrl(objectKey);
+    }
+
+    private void requireBucket() {
+        if (bucketName == null || bucketName.isBlank()) {
+            throw new IllegalStateException("S3 bucket is not configured (app.s3.bucket-name is blank)");
+        }
+    }
+
+    private String extensionOf(String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            return "";
+        }
+        String extension = fileName.substring(fileName.lastIndexOf("."));
+        // Keep keys predictable: ".jpg", ".pdf" — nothing user-controlled beyond that
+        return extension.matches("\\.[A-Za-z0-9]{1,8}") ? extension.toLowerCase() : "";
+    }
+
+    private String buildPublicUrl(String key) {
+        if (publicBaseUrl != null && !publicBaseUrl.isBlank()) {
+            if (publicBaseUrl.endsWith("/")) {
+                return publicBaseUrl + key;
+            } else {
+                return publicBaseUrl + "/" + key;
+            }
+        }
+        return "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + key;
+    }
+}
@@ -0,0 +1,14 @@
+package org.buscheacademy.basketball.team;
+
+import org.buscheacademy.basketball.dto.TeamDto;
+
+/**
+ * Published by {@link TeamService} after every team write.
+ * {@code before} is null for a create, {@code after} is null for a delete.
+ */
+public record TeamChangedEvent(TeamDto before, TeamDto after) {
+
+    public Long teamId() {
+        return after != null ? after.id() : before.id();
+    }
+}
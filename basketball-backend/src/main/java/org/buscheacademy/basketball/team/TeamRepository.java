@@ -1,9 +1,31 @@
 package org.buscheacademy.basketball.team;
 
+import org.buscheacademy.basketball.dto.TeamDto;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
     // Optional, if useful:
-    java.util.List<Team> findByLevel(TeamLevel level);
+    List<Team> findByLevel(TeamLevel level);
+
+    // Public team list, selected straight into TeamDto
+    @Query("""
+            select new org.buscheacademy.basketball.dto.TeamDto(
+                t.id, t.name, t.level, t.season, t.description)
+            from Team t
+            order by t.id
+            """)
+    List<TeamDto> findAllTeamDtos();
 
+    // Schedule import: the rows stay locked until the apply commits, so two applies for
+    // the same teams plan and insert one after the other; id order keeps them deadlock-free
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Team t where t.id in :ids order by t.id")
+    List<Team> lockAllById(@Param("ids") Collection<Long> ids);
 }
@@ -3,11 +3,14 @@ package org.buscheacademy.basketball.team;
 import lombok.RequiredArgsConstructor;
 import org.buscheacademy.basketball.dto.CreateOrUpdateTeamRequest;
 import org.buscheacademy.basketball.dto.TeamDto;
+import org.buscheacademy.basketball.season.Seasons;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -15,12 +18,12 @@ import java.util.List;
 public class TeamService {
 
     private final TeamRepository teamRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Cacheable("teams")
+    @Transactional(readOnly = true)
     public List<TeamDto> getAllTeams() {
-        return teamRepository.findAll().stream()
-                .map(this::toDto)
-                .toList();
+        return teamRepository.findAllTeamDtos();
     }
 
     public Team getByIdOrThrow(Long id) {
@@ -29,11 +32,17 @@ public class TeamService {
     }
 
     // 👉 NEW: return a single TeamDto (useful for public / admin)
+    @Transactional(readOnly = true)
     public TeamDto getTeamDto(Long id) {
         return toDto(getByIdOrThrow(id));
     }
 
-    @CacheEvict(cacheNames = "teams", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "teams", allEntries = true),
+            @CacheEvict(cacheNames = "homeBundle", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true)
+    })
+    @Transactional
     public TeamDto createTeam(CreateOrUpdateTeamRequest request) {
         Team team = new Team();
         apply(request, team);
@@ -41,26 +50,44 @@ public class TeamService {
             team.setSeason(computeCurrentSeason());
         }
         Team saved = teamRepository.save(team);
-        return toDto(saved);
+        TeamDto created = toDto(saved);
+        eventPublisher.publishEvent(new TeamChangedEvent(null, created));
+        return created;
     }
 
-    @CacheEvict(cacheNames = "teams", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "teams", allEntries = true),
+            @CacheEvict(cacheNames = "homeBundle", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true)
+    })
+    @Transactional
     public TeamDto updateTeam(Long id, CreateOrUpdateTeamRequest request) {
         Team team = getByIdOrThrow(id);
+        TeamDto before = toDto(team);
         apply(request, team);
         if (team.getSeason() == null || team.getSeason().isBlank()) {
             team.setSeason(computeCurrentSeason());
         }
         Team saved = teamRepository.save(team);
-        return toDto(saved);
+        TeamDto after = toDto(saved);
+        eventPublisher.publishEvent(new TeamChangedEvent(before, after));
+        return after;
     }
 
-    @CacheEvict(cacheNames = "teams", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "teams", allEntries = true),
+            @CacheEvict(cacheNames = "homeBundle", allEntries = true),
+            @CacheEvict(cacheNames = "seasonLive", allEntries = true)
+    })
+    @Transactional
     public void deleteTeam(Long id) {
-        if (!teamRepository.existsById(id)) {
+        Team team = teamRepository.findById(id).orElse(null);
+        if (team == null) {
             return; // silently ignore if not found
         }
-        teamRepository.deleteById(id);
+        TeamDto before = toDto(team);
+        teamRepository.delete(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(before, null));
     }
 
     // --- helpers ---
@@ -86,14 +113,6 @@ public class TeamService {
     }
 
     private String computeCurrentSeason() {
-        LocalDate now  = LocalDate.now();
-        int year = now.getYear();
-        int month = now.getMonthValue();
-
-        if(month >= 8){
-            return year + "-" + (year + 1);
-        } else {
-            return (year - 1) + "-" + year;
-        }
+        return Seasons.current();
     }
 }
@@ -0,0 +1,78 @@
+-- Baseline: the schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE teams (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL,
+    name        VARCHAR(150)  NOT NULL,
+    level       VARCHAR(40)   NOT NULL,
+    season      VARCHAR(40),
+    description VARCHAR(1000)
+);
+
+CREATE TABLE players (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    first_name    VARCHAR(80)  NOT NULL,
+    last_name     VARCHAR(80)  NOT NULL,
+    jersey_number INTEGER,
+    position      VARCHAR(20),
+    height        VARCHAR(50),
+    grad_year     INTEGER,
+    country       VARCHAR(120),
+    photo_url     VARCHAR(500),
+    team_id       BIGINT       NOT NULL,
+    CONSTRAINT fk_players_team FOREIGN KEY (team_id) REFERENCES teams (id)
+);
+
+CREATE TABLE games (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    updated_at      TIMESTAMP(6)  NOT NULL,
+    team_id         BIGINT        NOT NULL,
+    opponent        VARCHAR(150)  NOT NULL,
+    game_date_time  TIMESTAMP(6)  NOT NULL,
+    home_away       VARCHAR(10)   NOT NULL,
+    location        VARCHAR(200)  NOT NULL,
+    score_us        INTEGER,
+    score_them      INTEGER,
+    conference_game BOOLEAN       NOT NULL,
+    notes           VARCHAR(1000),
+    CONSTRAINT fk_games_team FOREIGN KEY (team_id) REFERENCES teams (id)
+);
+
+CREATE TABLE staff_members (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    full_name           VARCHAR(255)  NOT NULL,
+    team_level          VARCHAR(32),
+    position            VARCHAR(255)  NOT NULL,
+    display_order       INTEGER       NOT NULL,
+    primary_photo_url   VARCHAR(1000),
+    secondary_photo_url VARCHAR(1000),
+    bio                 TEXT,
+    email               VARCHAR(255),
+    phone               VARCHAR(50),
+    active              BOOLEAN       NOT NULL,
+    admin_staff         BOOLEAN       NOT NULL DEFAULT FALSE,
+    staff_category      VARCHAR(32)
+);
+
+CREATE TABLE site_documents (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    document_key VARCHAR(64)              NOT NULL UNIQUE,
+    file_url     VARCHAR(1000)            NOT NULL,
+    uploaded_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    full_name     VARCHAR(120) NOT NULL,
+    email         VARCHAR(120) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    enabled       BOOLEAN      NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
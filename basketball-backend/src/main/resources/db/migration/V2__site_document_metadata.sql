@@ -0,0 +1,7 @@
+-- PDF metadata filled in by DocumentPreviewService.
+-- IF NOT EXISTS: databases that ran ddl-auto=update after that change already have these.
+
+ALTER TABLE site_documents ADD COLUMN IF NOT EXISTS page_count  INTEGER;
+ALTER TABLE site_documents ADD COLUMN IF NOT EXISTS byte_size   BIGINT;
+ALTER TABLE site_documents ADD COLUMN IF NOT EXISTS title       VARCHAR(500);
+ALTER TABLE site_documents ADD COLUMN IF NOT EXISTS preview_url VARCHAR(1000);
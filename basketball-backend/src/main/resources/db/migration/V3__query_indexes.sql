@@ -0,0 +1,18 @@
+-- Indexes matching the repository finders.
+
+-- GameRepository: full schedule, upcoming (after now), recent (before now)
+CREATE INDEX IF NOT EXISTS idx_games_game_date_time
+    ON games (game_date_time);
+
+-- GameRepository: per-team schedule variants (also serves the team_id FK)
+CREATE INDEX IF NOT EXISTS idx_games_team_date_time
+    ON games (team_id, game_date_time);
+
+-- PlayerRepository.findByTeamIdOrderByJerseyNumberAsc (also serves the team_id FK)
+CREATE INDEX IF NOT EXISTS idx_players_team_jersey
+    ON players (team_id, jersey_number);
+
+-- StaffMemberRepository public listings: filter on active/team_level/staff_category,
+-- ordered by display_order, full_name
+CREATE INDEX IF NOT EXISTS idx_staff_members_public_listing
+    ON staff_members (active, team_level, staff_category, display_order, full_name);
@@ -0,0 +1,12 @@
+-- Keyset pagination: the indexes match the page ordering exactly, including the id
+-- tie-breaker, so "(sort key) > (cursor)" is a single index range scan.
+
+-- GameRepository.findSchedulePageAfter; also serves the old (game_date_time) lookups
+CREATE INDEX IF NOT EXISTS idx_games_game_date_time_id
+    ON games (game_date_time, id);
+
+DROP INDEX IF EXISTS idx_games_game_date_time;
+
+-- StaffMemberRepository.findStaffPageAfter (admin listing, no active filter)
+CREATE INDEX IF NOT EXISTS idx_staff_members_listing_order
+    ON staff_members (display_order, full_name, id);
@@ -0,0 +1,43 @@
+-- Season becomes a column on games and players ("2025-2026", August through July),
+-- and closed seasons are frozen into season_archives.
+
+ALTER TABLE games ADD COLUMN season VARCHAR(9);
+
+UPDATE games
+SET season = s.start_year || '-' || (s.start_year + 1)
+FROM (SELECT id,
+             EXTRACT(YEAR FROM game_date_time)::int
+                 - CASE WHEN EXTRACT(MONTH FROM game_date_time) >= 8 THEN 0 ELSE 1 END AS start_year
+      FROM games) s
+WHERE games.id = s.id;
+
+ALTER TABLE games ALTER COLUMN season SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_games_season_date_time
+    ON games (season, game_date_time);
+
+-- Existing roster entries belong to their team's season (or the current one if unset)
+ALTER TABLE players ADD COLUMN season VARCHAR(9);
+
+UPDATE players
+SET season = t.season
+FROM teams t
+WHERE players.team_id = t.id
+  AND t.season ~ '^[0-9]{4}-[0-9]{4}$';
+
+UPDATE players
+SET season = s.start_year || '-' || (s.start_year + 1)
+FROM (SELECT EXTRACT(YEAR FROM CURRENT_DATE)::int
+                 - CASE WHEN EXTRACT(MONTH FROM CURRENT_DATE) >= 8 THEN 0 ELSE 1 END AS start_year) s
+WHERE players.season IS NULL;
+
+ALTER TABLE players ALTER COLUMN season SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_players_season_team_jersey
+    ON players (season, team_id, jersey_number);
+
+CREATE TABLE season_archives (
+    season    VARCHAR(9)   PRIMARY KEY,
+    closed_at TIMESTAMP(6) NOT NULL,
+    payload   TEXT         NOT NULL
+);
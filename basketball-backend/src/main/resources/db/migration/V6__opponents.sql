@@ -0,0 +1,46 @@
+-- Opponent directory. Game rows keep the opponent text they were entered with and
+-- point at the opponent it resolved to. Names match case-insensitively, ignoring
+-- extra whitespace (same rule as OpponentService.key).
+
+CREATE TABLE opponents (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    name       VARCHAR(150) NOT NULL,
+    logo_url   VARCHAR(500)
+);
+
+CREATE UNIQUE INDEX ux_opponents_name_key ON opponents (lower(name));
+
+CREATE TABLE opponent_aliases (
+    opponent_id BIGINT       NOT NULL,
+    alias       VARCHAR(150) NOT NULL,
+    CONSTRAINT fk_opponent_aliases_opponent FOREIGN KEY (opponent_id) REFERENCES opponents (id)
+);
+
+CREATE UNIQUE INDEX ux_opponent_aliases_alias_key ON opponent_aliases (lower(alias));
+
+-- One opponent per distinct normalized name; the most common spelling becomes canonical
+INSERT INTO opponents (name, created_at, updated_at)
+SELECT DISTINCT ON (name_key) spelling, now(), now()
+FROM (SELECT lower(regexp_replace(trim(opponent), '\s+', ' ', 'g')) AS name_key,
+             regexp_replace(trim(opponent), '\s+', ' ', 'g')        AS spelling,
+             count(*)                                               AS uses
+      FROM games
+      GROUP BY 1, 2) spellings
+ORDER BY name_key, uses DESC, spelling;
+
+ALTER TABLE games ADD COLUMN opponent_id BIGINT;
+
+UPDATE games
+SET opponent_id = o.id
+FROM opponents o
+WHERE lower(o.name) = lower(regexp_replace(trim(games.opponent), '\s+', ' ', 'g'));
+
+ALTER TABLE games ALTER COLUMN opponent_id SET NOT NULL;
+
+ALTER TABLE games
+    ADD CONSTRAINT fk_games_opponent FOREIGN KEY (opponent_id) REFERENCES opponents (id);
+
+CREATE INDEX IF NOT EXISTS idx_games_opponent_date_time
+    ON games (opponent_id, game_date_time);
@@ -0,0 +1,21 @@
+-- Append-only play-by-play log. A scorer's client numbers its plays per game, so a
+-- batch that is re-sent after a timeout hits the (game_id, sequence) key and is skipped.
+-- Opponent plays have no player; points are stored so the score is a plain SUM.
+
+CREATE TABLE game_plays (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_at    TIMESTAMP(6) NOT NULL,
+    game_id       BIGINT       NOT NULL,
+    sequence      INTEGER      NOT NULL,
+    period        SMALLINT     NOT NULL,
+    clock_seconds INTEGER,
+    side          VARCHAR(4)   NOT NULL,
+    play_type     VARCHAR(20)  NOT NULL,
+    player_id     BIGINT,
+    points        SMALLINT     NOT NULL,
+    CONSTRAINT fk_game_plays_game FOREIGN KEY (game_id) REFERENCES games (id) ON DELETE CASCADE,
+    CONSTRAINT fk_game_plays_player FOREIGN KEY (player_id) REFERENCES players (id) ON DELETE SET NULL,
+    CONSTRAINT ux_game_plays_game_sequence UNIQUE (game_id, sequence)
+);
+
+CREATE INDEX idx_game_plays_player ON game_plays (player_id);
@@ -0,0 +1,21 @@
+-- Entity ids come from sequences that hand out 50 values per call (Hibernate's pooled-lo
+-- optimizer), so new rows no longer need an INSERT round trip each to learn their id and
+-- inserts can be JDBC-batched. Each sequence continues after the current highest id.
+-- The identity columns become plain defaults on the same sequence: raw SQL inserts
+-- (bulk imports) still get an id without one, and it can't clash with a block
+-- Hibernate already holds.
+
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['teams', 'players', 'games', 'staff_members', 'site_documents', 'users', 'opponents']
+    LOOP
+        EXECUTE format('CREATE SEQUENCE %I INCREMENT BY 50', t || '_seq');
+        EXECUTE format('SELECT setval(%L, COALESCE((SELECT MAX(id) FROM %I), 0) + 1, false)', t || '_seq', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t, t || '_seq');
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', t || '_seq', t);
+    END LOOP;
+END
+$$;
@@ -0,0 +1,17 @@
+-- Admin audit trail, written behind by AuditWriter in batches. entity_id is text so
+-- season labels fit next to numeric ids; changes is a JSON array of
+-- {"field", "from", "to"} objects.
+
+CREATE TABLE audit_events (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    actor       VARCHAR(255) NOT NULL,
+    entity_type VARCHAR(20)  NOT NULL,
+    entity_id   VARCHAR(64),
+    action      VARCHAR(20)  NOT NULL,
+    changes     JSONB        NOT NULL
+);
+
+-- "History of this game/player" and "what did this coach change", newest first
+CREATE INDEX idx_audit_events_entity ON audit_events (entity_type, entity_id, id);
+CREATE INDEX idx_audit_events_actor ON audit_events (actor, id);
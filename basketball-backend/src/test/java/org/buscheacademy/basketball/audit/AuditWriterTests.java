@@ -0,0 +1,91 @@
+package org.buscheacademy.basketball.audit;
+
+import org.buscheacademy.basketball.PostgresTestDatabase;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The writer's worker thread is never started here, so entries stay queued until the
+ * shutdown flush and the capacity is easy to hit. Each test gets a freshly migrated
+ * Postgres database, so the jsonb insert runs as in production.
+ */
+class AuditWriterTests {
+
+    private String url;
+    private DataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+    private AuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        url = PostgresTestDatabase.create();
+        dataSource = new DriverManagerDataSource(url, "postgres", "postgres");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        writer = new AuditWriter(new AuditRepository(jdbc), transactionManager, 2, 100, 60_000);
+    }
+
+    @Test
+    void overflowFromAfterCommitListenerIsCommittedRightAway() throws InterruptedException {
+        AtomicInteger visibleAfterOverflow = new AtomicInteger(-1);
+
+        // Same situation as AuditService's listeners: the request transaction has committed
+        // but its connection is still bound to the thread
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            new JdbcTemplate(dataSource).update("INSERT INTO audit_events (occurred_at, actor, entity_type, "
+                    + "entity_id, action, changes) VALUES (CURRENT_TIMESTAMP, 'seed', 'TEAM', '0', 'CREATE', '[]')");
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writer.enqueue(entry("1"));
+                    writer.enqueue(entry("2"));
+                    writer.enqueue(entry("3")); // queue full: written inline
+                    visibleAfterOverflow.set(countFromOtherConnection());
+                }
+            });
+        });
+
+        // Seed row plus the overflow entry, seen from a connection that isn't the request's
+        assertThat(visibleAfterOverflow).hasValue(2);
+
+        writer.shutdown();
+        assertThat(new JdbcTemplate(dataSource).queryForList(
+                "SELECT entity_id FROM audit_events WHERE actor = 'coach' ORDER BY id", String.class))
+                .containsExactly("3", "1", "2");
+    }
+
+    @Test
+    void queuedEntriesAreFlushedOnShutdown() throws InterruptedException {
+        writer.enqueue(entry("1"));
+        writer.enqueue(entry("2"));
+        assertThat(countFromOtherConnection()).isZero();
+
+        writer.shutdown();
+
+        assertThat(countFromOtherConnection()).isEqualTo(2);
+    }
+
+    private int countFromOtherConnection() {
+        DataSource other = new DriverManagerDataSource(url, "postgres", "postgres");
+        return new JdbcTemplate(other).queryForObject("SELECT COUNT(*) FROM audit_events", Integer.class);
+    }
+
+    private static AuditEntry entry(String entityId) {
+        return new AuditEntry(LocalDateTime.now(), "coach", AuditEntityType.GAME, entityId, AuditAction.UPDATE,
+                "[{\"field\":\"scoreUs\",\"from\":1,\"to\":2}]");
+    }
+}
@@ -0,0 +1,87 @@
+package org.buscheacademy.basketball.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Records are read from in-memory strings; {@link #records} also notes the line each
+ * record started on, since import errors are reported by that line.
+ */
+class CsvReaderTests {
+
+    @Test
+    void quotedFieldsKeepCommasQuotesAndLineBreaks() throws IOException {
+        String csv = "name,notes\n"
+                + "\"Okafor, Jay\",\"6'8\"\" forward\"\n"
+                + "Smith,\"first line\nsecond line\"\n"
+                + "Lee,plain\n";
+
+        assertThat(records(csv)).containsExactly(
+                "1: [name, notes]",
+                "2: [Okafor, Jay, 6'8\" forward]",
+                "3: [Smith, first line\nsecond line]",
+                "5: [Lee, plain]");
+    }
+
+    @Test
+    void crlfAndBareCrEndLinesLikeLf() throws IOException {
+        assertThat(records("a,b\r\n1,2\r\n\r\n3,4\r5,6"))
+                .containsExactly("1: [a, b]", "2: [1, 2]", "4: [3, 4]", "5: [5, 6]");
+    }
+
+    @Test
+    void quotedCrlfIsKeptInsideTheField() throws IOException {
+        assertThat(records("\"a\r\nb\",c\r\nd,e\r\n"))
+                .containsExactly("1: [a\r\nb, c]", "3: [d, e]");
+    }
+
+    @Test
+    void emptyFieldsAreKeptAndBlankLinesSkipped() throws IOException {
+        assertThat(records("\n\na,,\"\",b\n,\n\n"))
+                .containsExactly("3: [a, , , b]", "4: [, ]");
+    }
+
+    @Test
+    void leadingBomIsIgnored() throws IOException {
+        assertThat(records("\uFEFFname\nJay\n")).containsExactly("1: [name]", "2: [Jay]");
+    }
+
+    @Test
+    void quoteInsideAnUnquotedFieldIsLiteral() throws IOException {
+        assertThat(records("6'8\",x\n")).containsExactly("1: [6'8\", x]");
+    }
+
+    @Test
+    void unterminatedQuoteReportsTheLineItStartedOn() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b\n\"open,\nstill open\n"));
+        reader.next();
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertThat(records("")).isEmpty();
+        assertThat(records("\r\n\n")).isEmpty();
+    }
+
+    private static List<String> records(String csv) throws IOException {
+        List<String> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                records.add(reader.recordLine() + ": " + fields);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,74 @@
+package org.buscheacademy.basketball.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; each one
+ * answers with its own name so we can see where a query was routed.
+ */
+class ReadWriteRoutingDataSourceTests {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndEverythingElseToPrimary() {
+        DataSource routing = DataSourceRoutingConfig.routingDataSource(primary, replica, () -> true);
+
+        assertThat(nodeName(routing, true)).isEqualTo("replica");
+        assertThat(nodeName(routing, false)).isEqualTo("primary");
+        // No transaction at all (e.g. Flyway, schedulers)
+        assertThat(new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenLagCheckFails() {
+        // H2 has no pg_is_in_recovery(), so the check fails like an unreachable replica would
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, 30);
+        monitor.check();
+
+        DataSource routing = DataSourceRoutingConfig.routingDataSource(primary, replica, monitor::isReadAvailable);
+
+        assertThat(monitor.isReadAvailable()).isFalse();
+        assertThat(nodeName(routing, true)).isEqualTo("primary");
+    }
+
+    private String nodeName(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        tx.setReadOnly(readOnly);
+        return tx.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
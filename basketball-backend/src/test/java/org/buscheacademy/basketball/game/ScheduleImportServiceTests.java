@@ -0,0 +1,103 @@
+package org.buscheacademy.basketball.game;
+
+import org.buscheacademy.basketball.PostgresTestDatabase;
+import org.buscheacademy.basketball.dto.CreateOrUpdateTeamRequest;
+import org.buscheacademy.basketball.dto.ScheduleImportResultDto;
+import org.buscheacademy.basketball.team.TeamLevel;
+import org.buscheacademy.basketball.team.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Previews a two-game file for a new team, then applies the same plan from two threads
+ * at once, the way a double click would.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ScheduleImportServiceTests {
+
+    private static final String CSV = """
+            dateTime,opponent,homeAway,location
+            2026-11-07T19:00,IMG Academy,home,Main Gym
+            2026-11-14T18:30,Oak Hill,away,Oak Hill Gym
+            """;
+
+    @Autowired
+    private ScheduleImportService scheduleImportService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Test
+    void concurrentAppliesOfOnePlanInsertTheGamesOnce() throws Exception {
+        Long teamId = teamService.createTeam(new CreateOrUpdateTeamRequest("Regional", TeamLevel.REGIONAL)).id();
+        String planId = scheduleImportService.preview(teamId, "schedule.csv", file()).planId();
+
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<ScheduleImportResultDto> apply = () -> {
+            start.await();
+            return scheduleImportService.apply(teamId, "schedule.csv", file(), planId);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Future<ScheduleImportResultDto>> applies;
+        try {
+            applies = List.of(executor.submit(apply), executor.submit(apply));
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<ScheduleImportResultDto> applied = new ArrayList<>();
+        List<Throwable> refused = new ArrayList<>();
+        for (Future<ScheduleImportResultDto> result : applies) {
+            try {
+                applied.add(result.get());
+            } catch (ExecutionException ex) {
+                refused.add(ex.getCause());
+            }
+        }
+
+        assertThat(applied).singleElement().satisfies(result -> {
+            assertThat(result.applied()).isTrue();
+            assertThat(result.create()).hasSize(2);
+        });
+        assertThat(refused).singleElement()
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from games where team_id = ?", Integer.class, teamId))
+                .isEqualTo(2);
+    }
+
+    private static InputStream file() {
+        return new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package org.buscheacademy.basketball.opponent;
+
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.buscheacademy.basketball.game.GameService;
+import org.buscheacademy.basketball.game.HomeAway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * One opponent, IMG (id 5); the repository and game service are mocks standing in for
+ * the database load.
+ */
+class HeadToHeadIndexTests {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 11, 7, 21, 0);
+
+    private GameService gameService;
+    private HeadToHeadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Opponent img = Opponent.builder().id(5L).name("IMG").build();
+        OpponentRepository opponentRepository = mock(OpponentRepository.class);
+        when(opponentRepository.findAllWithAliases()).thenReturn(List.of(img));
+        gameService = mock(GameService.class);
+        index = new HeadToHeadIndex(opponentRepository, gameService);
+    }
+
+    @Test
+    void gameWrittenDuringTheLoadIsNotLost() {
+        GameDto played = game(1, 60, 50);
+        // The first load reads the games before the score commits, and its event lands mid-load
+        when(gameService.loadAllGames())
+                .thenAnswer(call -> {
+                    index.onGameChanged(new GameChangedEvent(game(1, null, null), played, T0));
+                    return List.of(game(1, null, null));
+                })
+                .thenReturn(List.of(played));
+
+        assertThat(index.getHeadToHead(5L).games()).containsExactly(played);
+        assertThat(index.getHeadToHead(5L).wins()).isEqualTo(1);
+        verify(gameService, times(2)).loadAllGames();
+    }
+
+    @Test
+    void olderEventArrivingLateIsDropped() {
+        when(gameService.loadAllGames()).thenReturn(List.of(game(1, null, null)));
+        index.getHeadToHead(5L);
+
+        index.onGameChanged(new GameChangedEvent(game(1, 60, 50), game(1, 62, 50), T0.plusSeconds(2)));
+        index.onGameChanged(new GameChangedEvent(game(1, null, null), game(1, 60, 50), T0.plusSeconds(1)));
+
+        assertThat(index.getHeadToHead(5L).pointsFor()).isEqualTo(62);
+    }
+
+    @Test
+    void lateUpdateDoesNotBringBackADeletedGame() {
+        when(gameService.loadAllGames()).thenReturn(List.of(game(1, 60, 50)));
+        index.getHeadToHead(5L);
+
+        index.onGameChanged(new GameChangedEvent(game(1, 60, 50), null, T0.plusSeconds(2)));
+        index.onGameChanged(new GameChangedEvent(game(1, null, null), game(1, 60, 50), T0.plusSeconds(1)));
+
+        assertThat(index.getHeadToHead(5L).games()).isEmpty();
+    }
+
+    @Test
+    void previousIndexServesWhileAMergeRebuildRuns() {
+        GameDto played = game(1, 60, 50);
+        when(gameService.loadAllGames())
+                .thenReturn(List.of(played))
+                .thenAnswer(call -> {
+                    // Another reader arrives while this one rebuilds
+                    assertThat(index.getHeadToHead(5L).games()).containsExactly(played);
+                    return List.of(played, game(2, null, null));
+                });
+        index.getDirectory();
+
+        index.onOpponentsMerged(new OpponentsMergedEvent(6L, 5L));
+
+        assertThat(index.getHeadToHead(5L).games()).hasSize(2);
+        verify(gameService, times(2)).loadAllGames();
+    }
+
+    private static GameDto game(long id, Integer us, Integer them) {
+        return new GameDto(id, 10L, "Regional", "IMG", 5L, T0.minusHours(2).plusDays(id), "2026-2027",
+                HomeAway.HOME, "Main Gym", us, them, us != null ? us > them : null, false, null);
+    }
+}
@@ -0,0 +1,86 @@
+package org.buscheacademy.basketball.opponent;
+
+import org.buscheacademy.basketball.PostgresTestDatabase;
+import org.buscheacademy.basketball.dto.CreateOrUpdateOpponentRequest;
+import org.buscheacademy.basketball.dto.OpponentDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs on Postgres: names and aliases are unique through lower() expression indexes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OpponentServiceTests {
+
+    @Autowired
+    private OpponentService opponentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Test
+    void mergeSkipsNamesTheTargetAlreadyAnswersToInAnotherCase() {
+        OpponentDto target = opponentService.create(
+                new CreateOrUpdateOpponentRequest("IMG Academy", null, List.of("IMG")));
+        // The service refuses to create this; two admins saving at once can still end up here
+        long sourceId = jdbcTemplate.queryForObject("""
+                INSERT INTO opponents (created_at, updated_at, name) VALUES (now(), now(), 'img') RETURNING id
+                """, Long.class);
+        jdbcTemplate.update("INSERT INTO opponent_aliases (opponent_id, alias) VALUES (?, 'Img Academy')", sourceId);
+        jdbcTemplate.update("INSERT INTO opponent_aliases (opponent_id, alias) VALUES (?, 'Ascenders')", sourceId);
+
+        OpponentDto merged = opponentService.merge(target.id(), sourceId);
+
+        assertThat(merged.aliases()).containsExactlyInAnyOrder("IMG", "Ascenders");
+        assertThat(opponentService.findId("img")).contains(target.id());
+        assertThat(opponentService.findId("ascenders")).contains(target.id());
+    }
+
+    @Test
+    void concurrentFirstUsesOfANewNameResolveToOneOpponent() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        // The first request inserts the name and holds its transaction open for a moment
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            Long id = opponentService.resolveId("Oak Hill");
+            inserted.countDown();
+            sleep(500);
+            return id;
+        }));
+        inserted.await();
+        // The second can't see the uncommitted row, so it inserts too and waits on the index
+        Long second = transactionTemplate.execute(status -> opponentService.resolveId("  oak   hill "));
+
+        assertThat(second).isEqualTo(first.get());
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from opponents where lower(name) = 'oak hill'", Integer.class)).isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
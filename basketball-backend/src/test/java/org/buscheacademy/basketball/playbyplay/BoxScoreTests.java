@@ -0,0 +1,119 @@
+package org.buscheacademy.basketball.playbyplay;
+
+import org.buscheacademy.basketball.dto.StatLineDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A box score fed batch by batch, out of order and with re-sent plays, has to end up
+ * exactly where a single in-order replay of the log does.
+ */
+class BoxScoreTests {
+
+    private static final long GAME_ID = 7L;
+    private static final PlayType[] TYPES = PlayType.values();
+
+    @Test
+    void incrementalBatchesMatchAReplay() {
+        List<GamePlay> log = randomLog(new Random(42), 400);
+
+        BoxScore replayed = new BoxScore(GAME_ID);
+        log.forEach(replayed::apply);
+
+        // Batches of varying size, shuffled, with every fifth batch sent twice
+        List<GamePlay> shuffled = new ArrayList<>(log);
+        Collections.shuffle(shuffled, new Random(7));
+        BoxScore incremental = new BoxScore(GAME_ID);
+        Random sizes = new Random(3);
+        int batch = 0;
+        for (int from = 0; from < shuffled.size(); batch++) {
+            int to = Math.min(shuffled.size(), from + 1 + sizes.nextInt(25));
+            List<GamePlay> plays = shuffled.subList(from, to);
+            plays.forEach(incremental::apply);
+            if (batch % 5 == 0) {
+                plays.forEach(incremental::apply);
+            }
+            from = to;
+        }
+
+        assertThat(snapshot(incremental)).isEqualTo(snapshot(replayed));
+        assertThat(incremental.lastSequence()).isEqualTo(replayed.lastSequence()).isEqualTo(400);
+    }
+
+    @Test
+    void aSequenceNumberCountsOnce() {
+        BoxScore box = new BoxScore(GAME_ID);
+        box.apply(play(1, PlaySide.US, PlayType.THREE_MADE, 11L));
+        // Same sequence, different content: a re-send never overrides what was applied
+        box.apply(play(1, PlaySide.US, PlayType.TWO_MADE, 12L));
+
+        assertThat(box.us().points()).isEqualTo(3);
+        assertThat(box.players()).containsOnlyKeys(11L);
+    }
+
+    @Test
+    void teamTotalsIncludePlaysWithoutAPlayer() {
+        BoxScore box = new BoxScore(GAME_ID);
+        box.apply(play(1, PlaySide.US, PlayType.TWO_MADE, 11L));
+        box.apply(play(2, PlaySide.US, PlayType.FREE_THROW_MADE, null)); // deleted player
+        box.apply(play(3, PlaySide.THEM, PlayType.THREE_MADE, null));
+        box.apply(play(4, PlaySide.US, PlayType.DEFENSIVE_REBOUND, 12L));
+        box.apply(play(5, PlaySide.US, PlayType.ASSIST, 11L));
+
+        assertThat(box.us().toDto().points()).isEqualTo(3);
+        assertThat(box.them().toDto().points()).isEqualTo(3);
+        assertThat(box.players().get(11L).toDto().points()).isEqualTo(2);
+        assertThat(box.players().get(11L).toDto().assists()).isEqualTo(1);
+        assertThat(box.players().get(12L).toDto().rebounds()).isEqualTo(1);
+        // In order of first appearance
+        assertThat(box.players().keySet()).containsExactly(11L, 12L);
+    }
+
+    @Test
+    void shotTypesFeedTheRightColumns() {
+        BoxScore box = new BoxScore(GAME_ID);
+        List.of(PlayType.TWO_MADE, PlayType.TWO_MISSED, PlayType.THREE_MADE, PlayType.THREE_MISSED,
+                        PlayType.FREE_THROW_MADE, PlayType.FREE_THROW_MISSED, PlayType.SUB_IN)
+                .forEach(type -> box.apply(play(box.lastSequence() + 1, PlaySide.US, type, 11L)));
+
+        StatLineDto line = box.players().get(11L).toDto();
+        assertThat(line.points()).isEqualTo(6);
+        assertThat(line.fieldGoalsMade()).isEqualTo(2);
+        assertThat(line.fieldGoalsAttempted()).isEqualTo(4);
+        assertThat(line.threesMade()).isEqualTo(1);
+        assertThat(line.threesAttempted()).isEqualTo(2);
+        assertThat(line.freeThrowsMade()).isEqualTo(1);
+        assertThat(line.freeThrowsAttempted()).isEqualTo(2);
+    }
+
+    private static List<GamePlay> randomLog(Random random, int plays) {
+        List<GamePlay> log = new ArrayList<>();
+        for (int sequence = 1; sequence <= plays; sequence++) {
+            PlaySide side = random.nextInt(3) == 0 ? PlaySide.THEM : PlaySide.US;
+            Long playerId = side == PlaySide.US && random.nextInt(10) > 0 ? 100L + random.nextInt(8) : null;
+            log.add(play(sequence, side, TYPES[random.nextInt(TYPES.length)], playerId));
+        }
+        return log;
+    }
+
+    private static GamePlay play(int sequence, PlaySide side, PlayType type, Long playerId) {
+        return new GamePlay(GAME_ID, sequence, 1 + (sequence - 1) / 100, null, side, type, playerId);
+    }
+
+    // Player lines compared as a set: first-appearance order legitimately depends on arrival order
+    private static Map<String, Object> snapshot(BoxScore box) {
+        Map<Long, StatLineDto> players = new LinkedHashMap<>();
+        box.players().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> players.put(e.getKey(), e.getValue().toDto()));
+        return Map.of("us", box.us().toDto(), "them", box.them().toDto(), "players", players);
+    }
+}
@@ -0,0 +1,84 @@
+package org.buscheacademy.basketball.playbyplay;
+
+import org.buscheacademy.basketball.PostgresTestDatabase;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a freshly migrated Postgres: the insert relies on ON CONFLICT and the
+ * score on aggregate FILTER, neither of which H2 understands.
+ */
+class GamePlayRepositoryTests {
+
+    private JdbcTemplate jdbc;
+    private GamePlayRepository repository;
+    private long gameId;
+    private long playerId;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(PostgresTestDatabase.create(), "postgres", "postgres");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        repository = new GamePlayRepository(jdbc);
+
+        long teamId = jdbc.queryForObject("""
+                INSERT INTO teams (created_at, updated_at, name, level, season)
+                VALUES (now(), now(), 'Regional', 'REGIONAL', '2026-2027') RETURNING id
+                """, Long.class);
+        playerId = jdbc.queryForObject("""
+                INSERT INTO players (created_at, updated_at, first_name, last_name, team_id, season)
+                VALUES (now(), now(), 'Jay', 'Okafor', ?, '2026-2027') RETURNING id
+                """, Long.class, teamId);
+        long opponentId = jdbc.queryForObject("""
+                INSERT INTO opponents (created_at, updated_at, name) VALUES (now(), now(), 'IMG') RETURNING id
+                """, Long.class);
+        gameId = jdbc.queryForObject("""
+                INSERT INTO games (created_at, updated_at, team_id, opponent, opponent_id, game_date_time,
+                                   home_away, location, conference_game, season)
+                VALUES (now(), now(), ?, 'IMG', ?, '2026-11-07 19:00', 'HOME', 'Main Gym', false, '2026-2027')
+                RETURNING id
+                """, Long.class, teamId, opponentId);
+    }
+
+    @Test
+    void resentPlaysAreSkipped() {
+        List<GamePlay> first = List.of(
+                play(1, PlaySide.US, PlayType.THREE_MADE, playerId),
+                play(2, PlaySide.THEM, PlayType.TWO_MADE, null));
+        repository.insertAll(first);
+
+        // Retried batch: the first two again plus one new play
+        List<GamePlay> retry = new ArrayList<>(first);
+        retry.add(play(3, PlaySide.US, PlayType.FREE_THROW_MADE, playerId));
+        repository.insertAll(retry);
+
+        assertThat(repository.findByGameId(gameId)).extracting(GamePlay::sequence).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void pointsAreSummedPerSide() {
+        assertThat(repository.sumPoints(gameId)).isNull();
+
+        repository.insertAll(List.of(
+                play(1, PlaySide.US, PlayType.THREE_MADE, playerId),
+                play(2, PlaySide.THEM, PlayType.TWO_MADE, null),
+                play(3, PlaySide.US, PlayType.FREE_THROW_MADE, playerId),
+                play(4, PlaySide.US, PlayType.DEFENSIVE_REBOUND, playerId)));
+
+        assertThat(repository.sumPoints(gameId)).containsExactly(4, 2);
+    }
+
+    private GamePlay play(int sequence, PlaySide side, PlayType type, Long player) {
+        return new GamePlay(gameId, sequence, 1, 600 - sequence, side, type, player);
+    }
+}
@@ -0,0 +1,109 @@
+package org.buscheacademy.basketball.player;
+
+import org.buscheacademy.basketball.PostgresTestDatabase;
+import org.buscheacademy.basketball.dto.CreateOrUpdatePlayerRequest;
+import org.buscheacademy.basketball.season.Seasons;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Rosters entered before players had a season (schema at V4) are migrated to the latest
+ * version before the context starts; the public roster must still show every team's players.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RosterSeasonMigrationTests {
+
+    private static long pastTeamId;
+    private static long unlabelledTeamId;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        String url = PostgresTestDatabase.create();
+        DataSource dataSource = new DriverManagerDataSource(url, "postgres", "postgres");
+        Flyway.configure().dataSource(dataSource).target("4").load().migrate();
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        // Created two seasons ago and never edited since
+        pastTeamId = team(jdbc, "Regional", "2024-2025");
+        player(jdbc, pastTeamId, "Jay", "Okafor", 23);
+        player(jdbc, pastTeamId, "Sam", "Lee", 4);
+        // Free-text season, so V5 can't use it
+        unlabelledTeamId = team(jdbc, "National", "Varsity");
+        player(jdbc, unlabelledTeamId, "Ana", "Silva", 10);
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Test
+    void rostersSurviveTheMigrationUntilANewSeasonIsEntered() throws Exception {
+        mockMvc.perform(get("/public/teams/{teamId}/players", pastTeamId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].lastName", contains("Lee", "Okafor")))
+                .andExpect(jsonPath("$[*].season", everyItem(is("2024-2025"))));
+        mockMvc.perform(get("/public/teams/{teamId}/players", unlabelledTeamId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].lastName", contains("Silva")))
+                .andExpect(jsonPath("$[*].season", everyItem(is(Seasons.current()))));
+        // An explicit season still means exactly that season
+        mockMvc.perform(get("/public/teams/{teamId}/players", pastTeamId).param("season", Seasons.current()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(0)));
+        mockMvc.perform(get("/public/search").param("q", "okafor"))
+                .andExpect(jsonPath("$[*].title", contains("Jay Okafor")));
+
+        // The coach starts this season's roster: it replaces last season's everywhere
+        playerService.createPlayer(new CreateOrUpdatePlayerRequest(
+                pastTeamId, "Kofi", "Mensah", 5, "G", null, 2028, "Ghana", null, null));
+
+        mockMvc.perform(get("/public/teams/{teamId}/players", pastTeamId))
+                .andExpect(jsonPath("$[*].lastName", contains("Mensah")));
+        mockMvc.perform(get("/public/search").param("q", "okafor"))
+                .andExpect(jsonPath("$.length()", is(0)));
+        mockMvc.perform(get("/public/search").param("q", "mensah"))
+                .andExpect(jsonPath("$[*].title", contains("Kofi Mensah")));
+    }
+
+    private static long team(JdbcTemplate jdbc, String name, String season) {
+        return jdbc.queryForObject("""
+                INSERT INTO teams (created_at, updated_at, name, level, season)
+                VALUES (now(), now(), ?, 'REGIONAL', ?) RETURNING id
+                """, Long.class, name, season);
+    }
+
+    private static void player(JdbcTemplate jdbc, long teamId, String first, String last, int jersey) {
+        jdbc.update("""
+                INSERT INTO players (created_at, updated_at, first_name, last_name, jersey_number, team_id)
+                VALUES (now(), now(), ?, ?, ?, ?)
+                """, first, last, jersey, teamId);
+    }
+}
@@ -0,0 +1,149 @@
+package org.buscheacademy.basketball.search;
+
+import org.buscheacademy.basketball.dto.SearchResultDto;
+import org.buscheacademy.basketball.search.SearchIndex.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boosts are the ones {@link SearchService} uses: names 3, aliases 2, positions 1.5.
+ */
+class SearchIndexTests {
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        player(1, "Jaylen", "Okafor", "Guard");
+        player(2, "Jay", "Brooks", "Forward");
+        player(3, "Marcus", "Jaylenson", "Center");
+        opponent(10, "Montverde Academy", List.of("MVA", "Montverde"));
+        opponent(11, "IMG Academy", List.of());
+    }
+
+    @Test
+    void exactTermOutranksPrefixMatch() {
+        // 2 matches "jay" exactly; 1 and 3 by prefix, tied and then ordered by title
+        assertThat(ids(index.search("jay", 10))).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void prefixMatchesWhileTyping() {
+        assertThat(ids(index.search("oka", 10))).containsExactly(1L);
+        assertThat(ids(index.search("jaylen", 10))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void everyTokenMustMatch() {
+        assertThat(ids(index.search("jaylen guard", 10))).containsExactly(1L);
+        assertThat(index.search("jaylen forward", 10)).isEmpty();
+    }
+
+    @Test
+    void aliasFindsTheOpponent() {
+        assertThat(ids(index.search("mva", 10))).containsExactly(10L);
+    }
+
+    @Test
+    void nameOutranksAlias() {
+        opponent(12, "Montverde Prep", List.of());
+        opponent(13, "Sunrise Christian", List.of("Montverde Rival"));
+
+        // Both are exact matches on "montverde": 12 by name (3.0), 13 by alias (2.0).
+        // 10 has it both ways and keeps the higher, name boost, so it ties with 12 and
+        // wins the tie on title.
+        assertThat(ids(index.search("montverde", 10))).containsExactly(10L, 12L, 13L);
+    }
+
+    @Test
+    void shortPrefixKeepsTheBestMatchesPastTheExpansionCap() {
+        // 70 alias-only completions of "ka" that sort before the player's first name
+        for (int i = 0; i < 70; i++) {
+            opponent(100 + i, "Opponent " + i, List.of(String.format("Kaa%02d", i)));
+        }
+        player(4, "Kaz", "Walker", "Guard");
+
+        assertThat(ids(index.search("ka", 1))).containsExactly(4L);
+    }
+
+    @Test
+    void smallTyposStillMatch() {
+        assertThat(ids(index.search("okafoor", 10))).containsExactly(1L);
+        assertThat(ids(index.search("montvrde", 10))).containsExactly(10L);
+    }
+
+    @Test
+    void typoMatchingOnlyKicksInWithoutExactOrPrefixHits() {
+        player(4, "Brook", "Adams", "Guard");
+
+        // "brooks" has an exact hit, so the similar "brook" is not pulled in as a typo
+        assertThat(ids(index.search("brooks", 10))).containsExactly(2L);
+        // ...while "brook" reaches "brooks" as a prefix
+        assertThat(ids(index.search("brook", 10))).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void accentsAndCaseAreFolded() {
+        player(4, "José", "Núñez", "Guard");
+
+        assertThat(ids(index.search("JOSE nunez", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void removedDocumentsNoLongerMatch() {
+        index.remove(SearchResultType.PLAYER, 1L);
+
+        assertThat(index.search("okafor", 10)).isEmpty();
+        assertThat(index.search("okafoor", 10)).isEmpty();
+        assertThat(ids(index.search("jaylen", 10))).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void putReplacesTheDocument() {
+        player(1, "Jaylen", "Smith", "Guard");
+
+        assertThat(index.search("okafor", 10)).isEmpty();
+        assertThat(ids(index.search("smith", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    void sameIdOfAnotherTypeIsAnotherDocument() {
+        index.put(new SearchResultDto(SearchResultType.TEAM, 1L, "Okafor Select", null, null),
+                List.of(new Field("Okafor Select", 3.0f)));
+        index.remove(SearchResultType.PLAYER, 1L);
+
+        assertThat(index.search("okafor", 10)).extracting(SearchResultDto::type)
+                .containsExactly(SearchResultType.TEAM);
+    }
+
+    @Test
+    void limitAndBlankQueries() {
+        assertThat(index.search("academy", 1)).hasSize(1);
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+
+    private void player(long id, String firstName, String lastName, String position) {
+        index.put(new SearchResultDto(SearchResultType.PLAYER, id, firstName + " " + lastName, position, 1L),
+                List.of(new Field(firstName, 3.0f), new Field(lastName, 3.0f), new Field(position, 1.5f)));
+    }
+
+    private void opponent(long id, String name, List<String> aliases) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field(name, 3.0f));
+        aliases.forEach(alias -> fields.add(new Field(alias, 2.0f)));
+        index.put(new SearchResultDto(SearchResultType.OPPONENT, id, name, null, null), fields);
+    }
+
+    private static List<Long> ids(List<SearchResultDto> results) {
+        return results.stream().map(SearchResultDto::id).toList();
+    }
+}
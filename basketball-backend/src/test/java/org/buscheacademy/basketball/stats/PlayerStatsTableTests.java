@@ -0,0 +1,142 @@
+package org.buscheacademy.basketball.stats;
+
+import org.buscheacademy.basketball.dto.StatLineDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Leaderboards are checked against a brute-force ranking of every slot in the group:
+ * score descending, then lower player id first.
+ */
+class PlayerStatsTableTests {
+
+    private static final long TEAM = 1L;
+    private static final String SEASON = "2025-2026";
+
+    @Test
+    void tiesGoToTheLowerPlayerIdAcrossTheTopKBoundary() {
+        PlayerStatsTable table = new PlayerStatsTable();
+        // Added highest id first, so insertion order can't be what sorts them
+        for (long playerId = 15; playerId >= 1; playerId--) {
+            table.add(playerId, TEAM, SEASON, line(10, 0, 0));
+        }
+
+        assertThat(playerIds(table, Leaderboard.POINTS, 20))
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void aTiedPlayerOutsideTheTopKMovesInWhenAMemberDrops() {
+        PlayerStatsTable table = new PlayerStatsTable();
+        for (long playerId = 1; playerId <= 12; playerId++) {
+            table.add(playerId, TEAM, SEASON, line(10, 0, 0));
+        }
+        // A stat correction takes player 3 below everyone else
+        table.subtract(3L, TEAM, SEASON, line(10, 0, 0));
+        table.add(3L, TEAM, SEASON, line(4, 0, 0));
+
+        assertThat(playerIds(table, Leaderboard.POINTS, 10))
+                .containsExactly(1L, 2L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L);
+    }
+
+    @Test
+    void zeroScoresAreLeftOffTheBoard() {
+        PlayerStatsTable table = new PlayerStatsTable();
+        table.add(1L, TEAM, SEASON, line(8, 0, 0));
+        table.add(2L, TEAM, SEASON, line(0, 5, 0));
+
+        assertThat(playerIds(table, Leaderboard.POINTS, 10)).containsExactly(1L);
+        assertThat(playerIds(table, Leaderboard.REBOUNDS, 10)).containsExactly(2L);
+        assertThat(playerIds(table, Leaderboard.ASSISTS, 10)).isEmpty();
+    }
+
+    @Test
+    void perGameBoardsRankAverages() {
+        PlayerStatsTable table = new PlayerStatsTable();
+        table.add(1L, TEAM, SEASON, line(30, 0, 0));                     // 30 in 1 game
+        table.add(2L, TEAM, SEASON, line(20, 0, 0));
+        table.add(2L, TEAM, SEASON, line(20, 0, 0));                     // 40 in 2 games
+
+        assertThat(playerIds(table, Leaderboard.POINTS, 10)).containsExactly(2L, 1L);
+        assertThat(playerIds(table, Leaderboard.POINTS_PER_GAME, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void teamsAndSeasonsHaveSeparateBoards() {
+        PlayerStatsTable table = new PlayerStatsTable();
+        table.add(1L, TEAM, SEASON, line(10, 0, 0));
+        table.add(2L, 2L, SEASON, line(20, 0, 0));
+        table.add(1L, TEAM, "2024-2025", line(30, 0, 0));
+
+        assertThat(playerIds(table, Leaderboard.POINTS, 10)).containsExactly(1L);
+        assertThat(table.slots(TEAM, SEASON)).hasSize(1);
+        assertThat(table.slots(3L, SEASON)).isEmpty();
+    }
+
+    @Test
+    void incrementalUpdatesMatchARebuiltTable() {
+        Random random = new Random(11);
+        PlayerStatsTable incremental = new PlayerStatsTable();
+        Map<Long, List<StatLineDto>> gamesByPlayer = new HashMap<>();
+
+        // 40 players, far more than TOP_K, with corrections (subtract + re-add) mixed in
+        for (int step = 0; step < 2_000; step++) {
+            long playerId = 1 + random.nextInt(40);
+            List<StatLineDto> games = gamesByPlayer.computeIfAbsent(playerId, id -> new ArrayList<>());
+            if (!games.isEmpty() && random.nextInt(3) == 0) {
+                StatLineDto old = games.remove(random.nextInt(games.size()));
+                incremental.subtract(playerId, TEAM, SEASON, old);
+                StatLineDto corrected = randomLine(random);
+                incremental.add(playerId, TEAM, SEASON, corrected);
+                games.add(corrected);
+            } else {
+                StatLineDto line = randomLine(random);
+                incremental.add(playerId, TEAM, SEASON, line);
+                games.add(line);
+            }
+        }
+
+        PlayerStatsTable rebuilt = new PlayerStatsTable();
+        gamesByPlayer.forEach((playerId, games) ->
+                games.forEach(line -> rebuilt.add(playerId, TEAM, SEASON, line)));
+
+        for (Leaderboard board : Leaderboard.values()) {
+            List<Long> expected = bruteForce(rebuilt, board);
+            assertThat(playerIds(incremental, board, PlayerStatsTable.TOP_K)).as(board.name())
+                    .containsExactlyElementsOf(expected)
+                    .containsExactlyElementsOf(playerIds(rebuilt, board, PlayerStatsTable.TOP_K));
+        }
+    }
+
+    private static List<Long> bruteForce(PlayerStatsTable table, Leaderboard board) {
+        return Arrays.stream(table.slots(TEAM, SEASON)).boxed()
+                .filter(slot -> board.score(table, slot) > 0)
+                .sorted(Comparator.<Integer>comparingInt(slot -> board.score(table, slot)).reversed()
+                        .thenComparingLong(table::playerId))
+                .limit(PlayerStatsTable.TOP_K)
+                .map(table::playerId)
+                .toList();
+    }
+
+    private static List<Long> playerIds(PlayerStatsTable table, Leaderboard board, int limit) {
+        return table.leaders(TEAM, SEASON, board, limit).stream().map(table::playerId).toList();
+    }
+
+    // Small ranges so ties are common
+    private static StatLineDto randomLine(Random random) {
+        return line(random.nextInt(6) * 2, random.nextInt(4), random.nextInt(3));
+    }
+
+    private static StatLineDto line(int points, int rebounds, int assists) {
+        return new StatLineDto(points, 0, 0, 0, 0, 0, 0, 0, rebounds, rebounds, assists, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,146 @@
+package org.buscheacademy.basketball.stats;
+
+import org.buscheacademy.basketball.dto.GameDto;
+import org.buscheacademy.basketball.dto.TeamSeasonStatsDto;
+import org.buscheacademy.basketball.game.GameChangedEvent;
+import org.buscheacademy.basketball.game.GameRepository;
+import org.buscheacademy.basketball.game.HomeAway;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The repository is a mock that answers {@code findAllResults()} from a list of games;
+ * everything after the first read has to come from the change events alone.
+ */
+class TeamStatsServiceTests {
+
+    private static final String SEASON = "2025-2026";
+    private static final LocalDateTime TIP_OFF = LocalDateTime.of(2025, 11, 1, 18, 0);
+
+    @Test
+    void firstReadBuildsTheRecordFromScoredGames() {
+        TeamStatsService service = serviceOver(List.of(
+                game(1, 10, 0, HomeAway.HOME, false, 60, 50),
+                game(2, 10, 1, HomeAway.AWAY, true, 40, 55),
+                game(3, 10, 2, HomeAway.HOME, true, 70, 65),
+                game(4, 10, 3, HomeAway.AWAY, false, 62, 58),
+                game(5, 10, 4, HomeAway.HOME, false, null, null),   // not played yet
+                game(6, 20, 0, HomeAway.HOME, false, 30, 80)));
+
+        TeamSeasonStatsDto stats = service.getStats(10L, SEASON);
+
+        assertThat(stats.gamesPlayed()).isEqualTo(4);
+        assertThat(stats.wins()).isEqualTo(3);
+        assertThat(stats.losses()).isEqualTo(1);
+        assertThat(stats.homeWins()).isEqualTo(2);
+        assertThat(stats.homeLosses()).isZero();
+        assertThat(stats.awayWins()).isEqualTo(1);
+        assertThat(stats.awayLosses()).isEqualTo(1);
+        assertThat(stats.conferenceWins()).isEqualTo(1);
+        assertThat(stats.conferenceLosses()).isEqualTo(1);
+        assertThat(stats.pointsFor()).isEqualTo(232);
+        assertThat(stats.pointsAgainst()).isEqualTo(228);
+        assertThat(stats.pointDifferential()).isEqualTo(4);
+        assertThat(stats.streak()).isEqualTo("W2");
+    }
+
+    @Test
+    void teamWithoutResultsGetsAnEmptyRecord() {
+        TeamSeasonStatsDto stats = serviceOver(List.of()).getStats(10L, SEASON);
+
+        assertThat(stats.gamesPlayed()).isZero();
+        assertThat(stats.pointDifferential()).isZero();
+        assertThat(stats.streak()).isNull();
+    }
+
+    @Test
+    void incrementalUpdatesMatchAFreshLoad() {
+        Map<Long, GameDto> games = new LinkedHashMap<>();
+        for (GameDto game : List.of(
+                game(1, 10, 0, HomeAway.HOME, false, 60, 50),
+                game(2, 10, 1, HomeAway.AWAY, true, 40, 55),
+                game(3, 20, 2, HomeAway.HOME, false, 70, 65),
+                game(4, 10, 3, HomeAway.AWAY, false, null, null))) {
+            games.put(game.id(), game);
+        }
+        TeamStatsService service = serviceOver(new ArrayList<>(games.values()));
+        service.getStats(10L, SEASON); // loads
+
+        List<GameDto> changes = List.of(
+                game(4, 10, 3, HomeAway.AWAY, false, 48, 47),     // scored
+                game(2, 10, 1, HomeAway.AWAY, true, 56, 55),      // corrected to a win
+                game(3, 10, 2, HomeAway.HOME, false, 70, 65),     // moved to the other team
+                game(5, 20, 5, HomeAway.HOME, true, 50, 52),      // created with a score
+                game(1, 10, 0, HomeAway.HOME, false, null, null), // score cleared
+                game(6, 10, 6, HomeAway.AWAY, false, 61, 66));    // created with a score
+        for (GameDto after : changes) {
+            service.onGameChanged(new GameChangedEvent(games.get(after.id()), after, LocalDateTime.now()));
+            games.put(after.id(), after);
+        }
+        GameDto deleted = games.remove(6L);
+        service.onGameChanged(new GameChangedEvent(deleted, null, LocalDateTime.now()));
+
+        TeamStatsService reloaded = serviceOver(new ArrayList<>(games.values()));
+        for (long teamId : List.of(10L, 20L)) {
+            assertThat(service.getStats(teamId, SEASON)).isEqualTo(reloaded.getStats(teamId, SEASON));
+        }
+        assertThat(service.getStats(10L, SEASON).streak()).isEqualTo("W3");
+    }
+
+    @Test
+    void eventForAGameTheLoadAlreadySawIsNotCountedTwice() {
+        GameDto game = game(1, 10, 0, HomeAway.HOME, false, 60, 50);
+        TeamStatsService service = serviceOver(List.of(game));
+        service.getStats(10L, SEASON);
+
+        // The write committed just before the load, its event arrives just after
+        service.onGameChanged(new GameChangedEvent(null, game, LocalDateTime.now()));
+
+        assertThat(service.getStats(10L, SEASON).gamesPlayed()).isEqualTo(1);
+        assertThat(service.getStats(10L, SEASON).pointsFor()).isEqualTo(60);
+    }
+
+    @Test
+    void eventsBeforeTheFirstReadAreLeftToTheLoad() {
+        GameRepository repository = mock(GameRepository.class);
+        when(repository.findAllResults()).thenReturn(List.of());
+        TeamStatsService service = new TeamStatsService(repository);
+
+        GameDto game = game(1, 10, 0, HomeAway.HOME, false, 60, 50);
+        service.onGameChanged(new GameChangedEvent(null, game, LocalDateTime.now()));
+        service.getStats(10L, SEASON);
+        service.getStats(20L, SEASON);
+
+        // Only the load counts: the event's game wasn't in it, so it isn't in the record either
+        assertThat(service.getStats(10L, SEASON).gamesPlayed()).isZero();
+        verify(repository, times(1)).findAllResults();
+    }
+
+    private static TeamStatsService serviceOver(List<GameDto> games) {
+        GameRepository repository = mock(GameRepository.class);
+        when(repository.findAllResults()).thenReturn(games.stream()
+                .map(GameResult::from)
+                .filter(Objects::nonNull)
+                .toList());
+        return new TeamStatsService(repository);
+    }
+
+    private static GameDto game(long id, long teamId, int day, HomeAway homeAway, boolean conference,
+                                Integer scoreUs, Integer scoreThem) {
+        Boolean win = scoreUs != null && scoreThem != null ? scoreUs > scoreThem : null;
+        return new GameDto(id, teamId, "Team " + teamId, "Opponent", 1L, TIP_OFF.plusDays(day), SEASON,
+                homeAway, "Gym", scoreUs, scoreThem, win, conference, null);
+    }
+}
@@ -0,0 +1,61 @@
+// src/api/adminAuditApi.ts
+import axios, { type AxiosRequestHeaders } from "axios";
+import type { AuditEntityType, AuditEventDto, CursorPage } from "../types";
+
+// IMPORTANT: direct hit to your backend, no "/api" prefix
+const apiClient = axios.create({
+    baseURL: import.meta.env.VITE_API_BASE_URL ?? "http://localhost:8080",
+});
+
+// Attach the JWT from localStorage (if present) to every request
+apiClient.interceptors.request.use(
+    (config) => {
+        const token = localStorage.getItem("authToken");
+
+        if (token) {
+            // Ensure headers exists and then add Authorization
+            if (!config.headers) {
+                config.headers = { Authorization: `Bearer ${token}` } as AxiosRequestHeaders;
+            } else {
+                (config.headers as AxiosRequestHeaders).Authorization = `Bearer ${token}`;
+            }
+        }
+
+        return config;
+    },
+    (error) => Promise.reject(error)
+);
+
+// Optional: log auth errors for easier debugging
+apiClient.interceptors.response.use(
+    (response) => response,
+    (error) => {
+        if (
+            error.response &&
+            (error.response.status === 401 || error.response.status === 403)
+        ) {
+            console.warn(
+                "adminAuditApi auth error:",
+                error.response.status,
+                error.response.data
+            );
+        }
+        return Promise.reject(error);
+    }
+);
+
+export interface AuditQuery {
+    entityType?: AuditEntityType;
+    entityId?: string;
+    actor?: string;
+    cursor?: string; // nextCursor from the previous page
+    size?: number; // default 50, max 100
+}
+
+export const adminAuditApi = {
+    // GET /admin/audit  (newest first)
+    list: (query: AuditQuery = {}) =>
+        apiClient
+            .get<CursorPage<AuditEventDto>>("/admin/audit", { params: query })
+            .then((r) => r.data),
+};
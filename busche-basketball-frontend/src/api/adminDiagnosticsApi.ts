@@ -0,0 +1,56 @@
+// src/api/adminDiagnosticsApi.ts
+import axios, { type AxiosRequestHeaders } from "axios";
+import type { QueryDiagnosticsDto } from "../types";
+
+// IMPORTANT: direct hit to your backend, no "/api" prefix
+const apiClient = axios.create({
+    baseURL: import.meta.env.VITE_API_BASE_URL ?? "http://localhost:8080",
+});
+
+// Attach the JWT from localStorage (if present) to every request
+apiClient.interceptors.request.use(
+    (config) => {
+        const token = localStorage.getItem("authToken");
+
+        if (token) {
+            // Ensure headers exists and then add Authorization
+            if (!config.headers) {
+                config.headers = { Authorization: `Bearer ${token}` } as AxiosRequestHeaders;
+            } else {
+                (config.headers as AxiosRequestHeaders).Authorization = `Bearer ${token}`;
+            }
+        }
+
+        return config;
+    },
+    (error) => Promise.reject(error)
+);
+
+// Optional: log auth errors for easier debugging
+apiClient.interceptors.response.use(
+    (response) => response,
+    (error) => {
+        if (
+            error.response &&
+            (error.response.status === 401 || error.response.status === 403)
+        ) {
+            console.warn(
+                "adminDiagnosticsApi auth error:",
+                error.response.status,
+                error.response.data
+            );
+        }
+        return Promise.reject(error);
+    }
+);
+
+export const adminDiagnosticsApi = {
+    // GET /admin/diagnostics/queries  (404 when diagnostics are disabled)
+    getQueryStats: () =>
+        apiClient
+            .get<QueryDiagnosticsDto>("/admin/diagnostics/queries")
+            .then((r) => r.data),
+
+    // DELETE /admin/diagnostics/queries  (start a fresh window)
+    resetQueryStats: () => apiClient.delete<void>("/admin/diagnostics/queries"),
+};
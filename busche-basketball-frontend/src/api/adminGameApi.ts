@@ -1,6 +1,6 @@
 // src/api/adminGameApi.ts
 import axios, { type AxiosRequestHeaders } from "axios";
-import type { GameDto, HomeAway } from "../types";
+import type { BoxScoreDto, GameDto, HomeAway, PlaySide, PlayType, ScheduleImportResultDto } from "../types";
 
 // IMPORTANT: direct hit to your backend, no "/api" prefix
 const apiClient = axios.create({
@@ -40,6 +40,15 @@ export interface GameInput {
     notes: string | null;
 }
 
+export interface PlayInput {
+    sequence: number; // per game, increasing; re-sending a play is harmless
+    period: number;
+    clockSeconds: number | null;
+    side: PlaySide;
+    type: PlayType;
+    playerId: number | null; // null for opponent plays
+}
+
 export const adminGameApi = {
     // GET /admin/games
     listAll: () =>
@@ -55,6 +64,42 @@ export const adminGameApi = {
             .put<GameDto>(`/admin/games/${id}`, payload)
             .then((r) => r.data),
 
+    // PATCH /admin/games/{id}/score (both scores, or both null to clear)
+    updateScore: (id: number, scoreUs: number | null, scoreThem: number | null) =>
+        apiClient
+            .patch<GameDto>(`/admin/games/${id}/score`, { scoreUs, scoreThem })
+            .then((r) => r.data),
+
+    // POST /admin/games/{id}/plays (up to 500 buffered plays per call)
+    recordPlays: (id: number, plays: PlayInput[]) =>
+        apiClient
+            .post<BoxScoreDto>(`/admin/games/${id}/plays`, { plays })
+            .then((r) => r.data),
+
+    // POST /admin/games/import/preview (CSV or .ics; teamId for files without a team column)
+    previewImport: (file: File, teamId?: number) =>
+        apiClient
+            .post<ScheduleImportResultDto>("/admin/games/import/preview", importForm(file), {
+                params: { teamId },
+                headers: { "Content-Type": "multipart/form-data" },
+            })
+            .then((r) => r.data),
+
+    // POST /admin/games/import — the same file plus the planId of the approved preview
+    applyImport: (file: File, planId: string, teamId?: number) =>
+        apiClient
+            .post<ScheduleImportResultDto>("/admin/games/import", importForm(file), {
+                params: { teamId, planId },
+                headers: { "Content-Type": "multipart/form-data" },
+            })
+            .then((r) => r.data),
+
     // DELETE /admin/games/{id}
     remove: (id: number) => apiClient.delete<void>(`/admin/games/${id}`),
 };
+
+function importForm(file: File) {
+    const formData = new FormData();
+    formData.append("file", file);
+    return formData;
+}
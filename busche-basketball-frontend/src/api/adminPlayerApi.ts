@@ -1,5 +1,5 @@
 import axios, { type AxiosRequestHeaders } from "axios";
-import type { PlayerDto } from "../types";
+import type { PlayerDto, RosterImportResultDto } from "../types";
 
 // IMPORTANT: direct hit to your backend, no "/api" prefix
 const apiClient = axios.create({
@@ -57,10 +57,12 @@ export interface PlayerInput {
 }
 
 export const adminPlayerApi = {
-    // GET /admin/players/team/{teamId}
-    listByTeam: (teamId: number) =>
+    // GET /admin/players/team/{teamId}?season=  (current season by default)
+    listByTeam: (teamId: number, season?: string) =>
         apiClient
-            .get<PlayerDto[]>(`/admin/players/team/${teamId}`)
+            .get<PlayerDto[]>(`/admin/players/team/${teamId}`, {
+                params: season ? { season } : undefined,
+            })
             .then((r) => r.data),
 
     // POST /admin/players
@@ -86,4 +88,17 @@ export const adminPlayerApi = {
             })
             .then((r) => r.data.url);
     },
+
+    // POST /admin/players/import — on row errors the 400 body is a RosterImportResultDto
+    importRoster: (teamId: number, file: File, season?: string) => {
+        const formData = new FormData();
+        formData.append("file", file);
+
+        return apiClient
+            .post<RosterImportResultDto>("/admin/players/import", formData, {
+                params: { teamId, season },
+                headers: { "Content-Type": "multipart/form-data" },
+            })
+            .then((r) => r.data);
+    },
 };
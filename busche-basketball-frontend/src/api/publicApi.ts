@@ -1,13 +1,23 @@
 import axios from "axios";
 import type {
+    BoxScoreDto,
     GameDto,
+    HeadToHeadDto,
+    HomeBundleDto,
+    LiveScoreDto,
+    OpponentDto,
     PlayerDto,
+    SearchResultDto,
+    SeasonDto,
+    SeasonSnapshotDto,
     SiteDocumentDto,
     StaffMemberDto,
     TeamDto,
+    TeamLeadersDto,
     TeamLevel,
+    TeamSeasonStatsDto,
 } from "../types";
-import { cachedFetch } from "../lib/ttlCache";
+import { cachedFetch, clearScheduleCache } from "../lib/ttlCache";
 
 const apiClient = axios.create({
     // talks directly to Spring Boot on 8080
@@ -28,12 +38,27 @@ const TTL = {
 
 // Raw fetchers (private)
 const raw = {
+    getHome: (upcoming: number, recent: number) =>
+        apiClient
+            .get<HomeBundleDto>(`/public/home?upcoming=${upcoming}&recent=${recent}`)
+            .then((r) => r.data),
+
     getTeams: () =>
         apiClient.get<TeamDto[]>("/public/teams").then((r) => r.data),
 
-    getPlayersByTeam: (teamId: number) =>
+    // Current season unless one is given
+    getPlayersByTeam: (teamId: number, season?: string) =>
         apiClient
-            .get<PlayerDto[]>(`/public/teams/${teamId}/players`)
+            .get<PlayerDto[]>(`/public/teams/${teamId}/players`, {
+                params: season ? { season } : undefined,
+            })
+            .then((r) => r.data),
+
+    getTeamStats: (teamId: number, season?: string) =>
+        apiClient
+            .get<TeamSeasonStatsDto>(`/public/teams/${teamId}/stats`, {
+                params: season ? { season } : undefined,
+            })
             .then((r) => r.data),
 
     getFullSchedule: () =>
@@ -49,6 +74,33 @@ const raw = {
             .get<GameDto[]>(`/public/games/recent?limit=${limit}`)
             .then((r) => r.data),
 
+    getTeamLeaders: (teamId: number, season?: string, limit = 5) =>
+        apiClient
+            .get<TeamLeadersDto>(`/public/teams/${teamId}/leaders`, { params: { season, limit } })
+            .then((r) => r.data),
+
+    getBoxScore: (gameId: number) =>
+        apiClient.get<BoxScoreDto>(`/public/games/${gameId}/box-score`).then((r) => r.data),
+
+    search: (q: string, limit: number) =>
+        apiClient
+            .get<SearchResultDto[]>("/public/search", { params: { q, limit } })
+            .then((r) => r.data),
+
+    getOpponents: () =>
+        apiClient.get<OpponentDto[]>("/public/opponents").then((r) => r.data),
+
+    getOpponent: (id: number) =>
+        apiClient.get<HeadToHeadDto>(`/public/opponents/${id}`).then((r) => r.data),
+
+    getSeasons: () =>
+        apiClient.get<SeasonDto[]>("/public/seasons").then((r) => r.data),
+
+    getSeason: (season: string) =>
+        apiClient
+            .get<SeasonSnapshotDto>(`/public/seasons/${season}`)
+            .then((r) => r.data),
+
     getStaff: (teamLevel?: TeamLevel) => {
         const params = teamLevel ? `?teamLevel=${teamLevel}` : "";
         return apiClient
@@ -70,6 +122,11 @@ const raw = {
 
 // Cached public API
 export const publicApi = {
+    getHome: (upcoming = 3, recent = 3) =>
+        cachedFetch(`home:${upcoming}:${recent}`, TTL.scheduleShort, () =>
+            raw.getHome(upcoming, recent),
+        ),
+
     getTeams: () =>
         cachedFetch("teams", TTL.teams, raw.getTeams),
 
@@ -78,6 +135,11 @@ export const publicApi = {
             raw.getPlayersByTeam(teamId),
         ),
 
+    getTeamStats: (teamId: number, season?: string) =>
+        cachedFetch(`teamStats:${teamId}:${season ?? "current"}`, TTL.scheduleShort, () =>
+            raw.getTeamStats(teamId, season),
+        ),
+
     getFullSchedule: () =>
         cachedFetch("scheduleFull", TTL.scheduleFull, raw.getFullSchedule),
 
@@ -91,6 +153,31 @@ export const publicApi = {
             raw.getRecentGames(limit),
         ),
 
+    getTeamLeaders: (teamId: number, season?: string, limit = 5) =>
+        cachedFetch(`teamLeaders:${teamId}:${season ?? "current"}:${limit}`, TTL.scheduleShort, () =>
+            raw.getTeamLeaders(teamId, season, limit),
+        ),
+
+    getBoxScore: (gameId: number) =>
+        cachedFetch(`boxScore:${gameId}`, TTL.scheduleShort, () => raw.getBoxScore(gameId)),
+
+    // Not cached: typeahead queries are cheap server-side and rarely repeat
+    search: (q: string, limit = 10) => raw.search(q, limit),
+
+    getOpponents: () =>
+        cachedFetch("opponents", TTL.scheduleFull, raw.getOpponents),
+
+    getOpponent: (id: number) =>
+        cachedFetch(`opponent:${id}`, TTL.scheduleShort, () => raw.getOpponent(id)),
+
+    getSeasons: () =>
+        cachedFetch("seasons", TTL.scheduleFull, raw.getSeasons),
+
+    getSeason: (season: string) =>
+        cachedFetch(`season:${season}`, TTL.scheduleFull, () =>
+            raw.getSeason(season),
+        ),
+
     getStaff: (teamLevel?: TeamLevel) =>
         cachedFetch(
             `publicStaff:${teamLevel ?? "ALL"}`,
@@ -103,6 +190,22 @@ export const publicApi = {
             raw.getStaffMember(id),
         ),
 
+    // Score pushes over SSE; EventSource reconnects (sending Last-Event-ID) on its own.
+    // "resync" means we were away longer than the server replays: refetch instead.
+    // Returns a function that closes the stream.
+    subscribeLiveScores: (onScore: (score: LiveScoreDto) => void, onResync: () => void) => {
+        const source = new EventSource(`${apiClient.defaults.baseURL}/public/games/live`);
+        source.addEventListener("score", (event) => {
+            clearScheduleCache(); // cached schedule lists now hold an old score
+            onScore(JSON.parse((event as MessageEvent<string>).data));
+        });
+        source.addEventListener("resync", () => {
+            clearScheduleCache();
+            onResync();
+        });
+        return () => source.close();
+    },
+
     getDocuments: () =>
         cachedFetch("documents", TTL.documents, raw.getDocuments),
 
@@ -127,12 +127,9 @@ export const HomePage = () => {
     useEffect(() => {
         const load = async () => {
             try {
-                const [recentGames, upcomingGames] = await Promise.all([
-                    publicApi.getRecentGames(3),
-                    publicApi.getUpcomingGames(3),
-                ]);
-                setRecent(recentGames);
-                setUpcoming(upcomingGames);
+                const home = await publicApi.getHome(3, 3);
+                setRecent(home.recentGames);
+                setUpcoming(home.upcomingGames);
             } catch (e) {
                 console.error("Failed to load games", e);
             } finally {
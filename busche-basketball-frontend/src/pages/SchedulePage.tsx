@@ -180,6 +180,27 @@ export const SchedulePage: React.FC = () => {
         load();
     }, []);
 
+    // Patch scores in place as they are pushed, instead of refetching the schedule
+    useEffect(
+        () =>
+            publicApi.subscribeLiveScores(
+                (score) =>
+                    setGames((prev) =>
+                        prev.map((g) =>
+                            g.id === score.gameId
+                                ? { ...g, scoreUs: score.scoreUs, scoreThem: score.scoreThem, win: score.win }
+                                : g,
+                        ),
+                    ),
+                () =>
+                    publicApi
+                        .getFullSchedule()
+                        .then(setGames)
+                        .catch((e) => console.error("Failed to refresh schedule", e)),
+            ),
+        [],
+    );
+
     const teamLevelById = useMemo(() => {
         const map: Record<number, TeamLevel> = {};
         for (const t of teams) {
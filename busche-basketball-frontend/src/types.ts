@@ -15,7 +15,9 @@ export interface GameDto {
     teamId: number;
     teamName: string;
     opponent: string;
+    opponentId: number;
     gameDateTime: string;
+    season: string; // e.g. "2025-2026"
     homeAway: HomeAway;
     location: string;
     scoreUs: number | null;
@@ -37,6 +39,7 @@ export interface PlayerDto {
     photoUrl: string | null;
     teamId: number;
     teamName: string;
+    season: string;
 }
 
 export type StaffCategory = "BASKETBALL" | "ACADEMIC" | "DINING" | "ADMINISTRATION" | "FACILITIES";
@@ -67,6 +70,172 @@ export interface SiteDocumentDto {
     documentKey: string;
     fileUrl: string;
     uploadedAt: string; // ISO instant string
+    pageCount: number | null; // null until the backend has processed the PDF
+    byteSize: number | null;
+    title: string | null;
+    previewUrl: string | null;
+}
+
+export interface OpponentDto {
+    id: number;
+    name: string;
+    logoUrl: string | null;
+    aliases: string[];
+}
+
+export interface HeadToHeadDto {
+    opponent: OpponentDto;
+    gamesPlayed: number; // games with a final score
+    wins: number;
+    losses: number;
+    pointsFor: number;
+    pointsAgainst: number;
+    games: GameDto[]; // every meeting, oldest first
+}
+
+export type PlaySide = "US" | "THEM";
+
+export type PlayType =
+    | "TWO_MADE"
+    | "TWO_MISSED"
+    | "THREE_MADE"
+    | "THREE_MISSED"
+    | "FREE_THROW_MADE"
+    | "FREE_THROW_MISSED"
+    | "OFFENSIVE_REBOUND"
+    | "DEFENSIVE_REBOUND"
+    | "ASSIST"
+    | "STEAL"
+    | "BLOCK"
+    | "TURNOVER"
+    | "FOUL"
+    | "SUB_IN"
+    | "SUB_OUT";
+
+export interface StatLineDto {
+    points: number;
+    fieldGoalsMade: number;
+    fieldGoalsAttempted: number;
+    threesMade: number;
+    threesAttempted: number;
+    freeThrowsMade: number;
+    freeThrowsAttempted: number;
+    offensiveRebounds: number;
+    defensiveRebounds: number;
+    rebounds: number;
+    assists: number;
+    steals: number;
+    blocks: number;
+    turnovers: number;
+    fouls: number;
+}
+
+export interface PlayerBoxLineDto {
+    playerId: number;
+    name: string | null; // null if the player is no longer on the roster
+    jerseyNumber: number | null;
+    stats: StatLineDto;
+}
+
+export interface BoxScoreDto {
+    gameId: number;
+    lastSequence: number; // a scorer resumes numbering after this
+    us: StatLineDto;
+    them: StatLineDto;
+    players: PlayerBoxLineDto[];
+}
+
+export type Leaderboard =
+    | "POINTS"
+    | "REBOUNDS"
+    | "ASSISTS"
+    | "STEALS"
+    | "BLOCKS"
+    | "THREES_MADE"
+    | "POINTS_PER_GAME"
+    | "REBOUNDS_PER_GAME"
+    | "ASSISTS_PER_GAME";
+
+export interface LeaderDto {
+    playerId: number;
+    name: string | null;
+    jerseyNumber: number | null;
+    value: number; // total, or per-game average to one decimal
+    gamesPlayed: number;
+}
+
+export interface PlayerSeasonLineDto {
+    playerId: number;
+    name: string | null;
+    jerseyNumber: number | null;
+    gamesPlayed: number;
+    totals: StatLineDto;
+}
+
+export interface TeamLeadersDto {
+    teamId: number;
+    season: string;
+    leaderboards: { category: Leaderboard; leaders: LeaderDto[] }[];
+    players: PlayerSeasonLineDto[]; // by points
+}
+
+export interface LiveScoreDto {
+    gameId: number;
+    teamId: number;
+    opponent: string;
+    scoreUs: number | null; // null when a score was cleared
+    scoreThem: number | null;
+    win: boolean | null;
+}
+
+export type SearchResultType = "PLAYER" | "STAFF" | "TEAM" | "OPPONENT";
+
+export interface SearchResultDto {
+    type: SearchResultType;
+    id: number;
+    title: string;
+    subtitle: string | null;
+    teamId: number | null; // players only
+}
+
+export interface TeamSeasonStatsDto {
+    teamId: number;
+    season: string;
+    gamesPlayed: number;
+    wins: number;
+    losses: number;
+    homeWins: number;
+    homeLosses: number;
+    awayWins: number;
+    awayLosses: number;
+    conferenceWins: number;
+    conferenceLosses: number;
+    pointsFor: number;
+    pointsAgainst: number;
+    pointDifferential: number;
+    streak: string | null; // "W3" / "L1"
+}
+
+export interface SeasonDto {
+    season: string;
+    current: boolean;
+    closed: boolean;
+}
+
+// Closed seasons are immutable and cached by the browser for a year
+export interface SeasonSnapshotDto {
+    season: string;
+    closed: boolean;
+    closedAt: string | null;
+    teams: TeamDto[];
+    games: GameDto[];
+    players: PlayerDto[];
+}
+
+// Everything the landing page needs, in one request
+export interface HomeBundleDto {
+    upcomingGames: GameDto[];
+    recentGames: GameDto[];
 }
 
 export interface AuthResponse {
@@ -74,3 +243,106 @@ export interface AuthResponse {
     fullName: string;
     email: string;
 }
+
+export interface ImportRowErrorDto {
+    line: number; // header is line 1
+    message: string;
+}
+
+export interface RosterImportResultDto {
+    teamId: number;
+    season: string;
+    created: number;
+    updated: number;
+    unchanged: number;
+    errors: ImportRowErrorDto[]; // non-empty means nothing was written
+}
+
+export interface ScheduleImportGameDto {
+    line: number;
+    teamId: number;
+    teamName: string;
+    opponent: string;
+    opponentId: number | null; // null = new opponent
+    gameDateTime: string;
+    season: string;
+    homeAway: HomeAway;
+    location: string;
+    conferenceGame: boolean;
+    notes: string | null;
+    existingGameId: number | null; // set when already on the schedule
+}
+
+export interface ScheduleImportResultDto {
+    planId: string | null; // null while there are errors
+    applied: boolean;
+    create: ScheduleImportGameDto[];
+    existing: ScheduleImportGameDto[];
+    errors: ImportRowErrorDto[];
+}
+
+export interface CursorPage<T> {
+    items: T[];
+    nextCursor: string | null; // null on the last page
+}
+
+export type AuditEntityType =
+    | "TEAM"
+    | "PLAYER"
+    | "STAFF"
+    | "GAME"
+    | "OPPONENT"
+    | "DOCUMENT"
+    | "SEASON";
+
+export type AuditAction =
+    | "CREATE"
+    | "UPDATE"
+    | "DELETE"
+    | "MERGE"
+    | "RECORD_PLAYS"
+    | "CLOSE";
+
+export interface AuditFieldChangeDto {
+    field: string;
+    from: unknown; // null on CREATE
+    to: unknown; // null on DELETE
+}
+
+export interface AuditEventDto {
+    id: number;
+    occurredAt: string;
+    actor: string; // admin email, or "system"
+    entityType: AuditEntityType;
+    entityId: string;
+    action: AuditAction;
+    changes: AuditFieldChangeDto[];
+}
+
+export interface RepositoryMethodStatsDto {
+    method: string; // e.g. "GameRepository.findForImport"
+    calls: number;
+    errors: number;
+    totalMs: number;
+    avgMs: number;
+    maxMs: number;
+    rows: number;
+}
+
+export interface SqlQueryStatsDto {
+    query: string;
+    executions: number;
+    totalMs: number;
+    maxMs: number;
+    rows: number;
+}
+
+export interface QueryDiagnosticsDto {
+    since: string; // startup or last reset
+    slowThresholdMs: number;
+    statementsPrepared: number;
+    entitiesLoaded: number;
+    collectionsFetched: number;
+    repositoryMethods: RepositoryMethodStatsDto[]; // slowest total first
+    queries: SqlQueryStatsDto[];
+}